@@ -0,0 +1,134 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Server-side cost of many concurrent slow readers; JDK only, must run on the server's host:
+//
+//   java bench/ConnectionFootprint.java --url http://localhost:8081 --path /api/v1/projects/3/tasks?size=500 \
+//       --pid 12345 --connections 250,1000,4000
+//
+// For each connection count, opens that many connections, sends the same GET on each and then reads every
+// response at --rate bytes per second (default 2048) with a small receive buffer, so the server has to keep
+// every response in progress for the whole --duration (default 30 s). Reads the server's resident memory and
+// thread count from /proc/<pid>/status before opening the connections and again at the end, and reports
+// the difference per connection together with how many of the requests had started to receive a response.
+// Pick a path whose response is larger than --rate x --duration, otherwise responses finish early.
+public class ConnectionFootprint {
+
+    private static final long TICK_MILLIS = 100;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI url = URI.create(options.getOrDefault("url", "http://localhost:8080"));
+        String path = options.getOrDefault("path", "/api/v1/tasks/status/BACKLOG?size=500");
+        String mode = options.getOrDefault("mode", "unknown");
+        long pid = Long.parseLong(options.get("pid"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "2048"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        String csv = options.get("csv");
+
+        String header = "mode,connections,served,rss_before_kb,rss_after_kb,rss_per_connection_kb,threads_before,threads_after,bytes_read";
+        System.out.println(header);
+        if (csv != null && Files.notExists(Path.of(csv))) {
+            Files.writeString(Path.of(csv), header + System.lineSeparator());
+        }
+        for (String count : options.getOrDefault("connections", "250,1000,4000").split(",")) {
+            int connections = Integer.parseInt(count.trim());
+            Map<String, Long> before = status(pid);
+            Result result = run(url, path, connections, rate, duration);
+            Map<String, Long> after = status(pid);
+            long rssDelta = after.get("VmRSS") - before.get("VmRSS");
+            String line = String.format("%s,%d,%d,%d,%d,%.1f,%d,%d,%d", mode, connections, result.served,
+                    before.get("VmRSS"), after.get("VmRSS"), (double) rssDelta / connections,
+                    before.get("Threads"), after.get("Threads"), result.bytes);
+            System.out.println(line);
+            if (csv != null) {
+                Files.writeString(Path.of(csv), line + System.lineSeparator(), StandardOpenOption.APPEND);
+            }
+            // Let the server notice the closed connections before the next round measures its baseline
+            Thread.sleep(5000);
+        }
+    }
+
+    // One thread drives all connections: every tick each one may read its share of the rate
+    private static Result run(URI url, String path, int connections, int rate, Duration duration) throws IOException, InterruptedException {
+        byte[] request = ("GET " + path + " HTTP/1.1\r\nHost: " + url.getHost() + "\r\nAccept: application/json\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        InetSocketAddress address = new InetSocketAddress(url.getHost(), url.getPort());
+        List<SocketChannel> channels = new ArrayList<>(connections);
+        boolean[] served = new boolean[connections];
+        long bytes = 0;
+        try {
+            for (int i = 0; i < connections; i++) {
+                SocketChannel channel = SocketChannel.open();
+                channel.setOption(StandardSocketOptions.SO_RCVBUF, 4096);
+                channel.connect(address);
+                channel.write(ByteBuffer.wrap(request));
+                channel.configureBlocking(false);
+                channels.add(channel);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(Math.max(1, (int) (rate * TICK_MILLIS / 1000)));
+            long deadline = System.nanoTime() + duration.toNanos();
+            while (System.nanoTime() < deadline) {
+                long tick = System.nanoTime();
+                for (int i = 0; i < channels.size(); i++) {
+                    buffer.clear();
+                    int read = channels.get(i).read(buffer);
+                    if (read > 0) {
+                        served[i] = true;
+                        bytes += read;
+                    }
+                }
+                long elapsed = (System.nanoTime() - tick) / 1_000_000;
+                Thread.sleep(Math.max(0, TICK_MILLIS - elapsed));
+            }
+        } finally {
+            for (SocketChannel channel : channels) {
+                channel.close();
+            }
+        }
+        int servedCount = 0;
+        for (boolean s : served) {
+            servedCount += s ? 1 : 0;
+        }
+        return new Result(servedCount, bytes);
+    }
+
+    // VmRSS in kB and Threads, as the kernel reports them for the server process
+    private static Map<String, Long> status(long pid) throws IOException {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(Path.of("/proc/" + pid + "/status"))) {
+            String[] parts = line.split(":\\s+");
+            if (parts[0].equals("VmRSS") || parts[0].equals("Threads")) {
+                values.put(parts[0], Long.parseLong(parts[1].split("\\s+")[0]));
+            }
+        }
+        return values;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Result(int served, long bytes) {
+    }
+}
@@ -0,0 +1,259 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Closed-loop HTTP load against a running task-management instance; no dependencies beyond the JDK:
+//
+//   java bench/LoadBenchmark.java --url http://localhost:8080 --mode platform --clients 1000,5000,10000
+//
+// Seeds one project with --tasks tasks through the bulk import, then for each client count keeps that
+// many requests in flight (each client sends its next request when the previous one completes) for
+// --warmup, resets the recorder and measures for --duration. --writes percent of the requests (default 10)
+// are PATCH /tasks/{id}/status; of the reads, 7 in 9 are GET /tasks/{id} and the rest fetch a page of the
+// project's tasks. Prints one line per client count and appends it to --csv when given. Run it from a
+// different machine than the server for numbers that matter. With --seed-url the project is created there
+// and only the reads go to --url, e.g. the reactive read API (use --writes 0, it has no write endpoints).
+public class LoadBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern NEXT = Pattern.compile("\"next\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] STATUSES = {"BACKLOG", "IN_DEVELOPMENT", "COMPLETED"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        String seedUrl = options.getOrDefault("seed-url", url);
+        String mode = options.getOrDefault("mode", "unknown");
+        int taskCount = Integer.parseInt(options.getOrDefault("tasks", "10000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        int writePercent = Integer.parseInt(options.getOrDefault("writes", "10"));
+        String csv = options.get("csv");
+        List<Integer> clientCounts = new ArrayList<>();
+        for (String count : options.getOrDefault("clients", "1000,2500,5000,10000").split(",")) {
+            clientCounts.add(Integer.parseInt(count.trim()));
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Workload workload = Workload.seed(client, seedUrl, url, mode, taskCount, writePercent);
+        System.out.printf("seeded project %d with %d tasks%n", workload.projectId, workload.taskIds.length);
+
+        String header = "mode,clients,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms";
+        System.out.println(header);
+        if (csv != null && Files.notExists(Path.of(csv))) {
+            Files.writeString(Path.of(csv), header + System.lineSeparator());
+        }
+        for (int clients : clientCounts) {
+            Recorder recorder = new Recorder();
+            run(client, workload, clients, warmup, recorder);
+            recorder.reset();
+            long start = System.nanoTime();
+            run(client, workload, clients, duration, recorder);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            String line = String.format("%s,%d,%d,%d,%.0f,%.1f,%.1f,%.1f", mode, clients, recorder.count(), recorder.errors.get(),
+                    recorder.count() / seconds, recorder.percentileMillis(0.50), recorder.percentileMillis(0.99), recorder.maxMillis());
+            System.out.println(line);
+            if (csv != null) {
+                Files.writeString(Path.of(csv), line + System.lineSeparator(), StandardOpenOption.APPEND);
+            }
+        }
+    }
+
+    // Each client chains its next request onto the completion of the previous one, so in-flight requests
+    // stay at the client count without a thread per client on this side
+    private static void run(HttpClient client, Workload workload, int clients, Duration duration, Recorder recorder)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            loop(client, workload, deadline, recorder, done);
+        }
+        done.await();
+    }
+
+    private static void loop(HttpClient client, Workload workload, long deadline, Recorder recorder, CountDownLatch done) {
+        if (System.nanoTime() >= deadline) {
+            done.countDown();
+            return;
+        }
+        long start = System.nanoTime();
+        client.sendAsync(workload.next(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    recorder.record(System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    loop(client, workload, deadline, recorder, done);
+                });
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static final class Workload {
+        private final String url;
+        private final long projectId;
+        private final long[] taskIds;
+        private final String[] cursors;
+        private final int writePercent;
+
+        private Workload(String url, long projectId, long[] taskIds, String[] cursors, int writePercent) {
+            this.url = url;
+            this.projectId = projectId;
+            this.taskIds = taskIds;
+            this.cursors = cursors;
+            this.writePercent = writePercent;
+        }
+
+        static Workload seed(HttpClient client, String seedUrl, String url, String mode, int taskCount, int writePercent)
+                throws IOException, InterruptedException {
+            String project = send(client, HttpRequest.newBuilder(URI.create(seedUrl + "/api/v1/projects"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"bench-" + mode + "-" + System.currentTimeMillis()
+                            + "\",\"description\":\"load benchmark\"}"))
+                    .build());
+            long projectId = firstId(project);
+
+            for (int start = 0; start < taskCount; start += 1000) {
+                StringBuilder body = new StringBuilder("[");
+                for (int i = start; i < Math.min(start + 1000, taskCount); i++) {
+                    body.append(i > start ? "," : "")
+                            .append("{\"title\":\"Benchmark task ").append(i)
+                            .append("\",\"description\":\"Seeded by LoadBenchmark\",\"status\":\"")
+                            .append(STATUSES[i % STATUSES.length]).append("\",\"projectId\":").append(projectId).append('}');
+                }
+                send(client, HttpRequest.newBuilder(URI.create(seedUrl + "/api/v1/tasks/bulk"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()))
+                        .build());
+            }
+
+            // Walk the project's pages once: collects the task ids and a cursor for every page
+            List<Long> ids = new ArrayList<>();
+            List<String> cursors = new ArrayList<>();
+            String cursor = "";
+            while (cursor != null) {
+                cursors.add(cursor);
+                String page = send(client, HttpRequest.newBuilder(URI.create(seedUrl + "/api/v1/projects/" + projectId
+                        + "/tasks?size=500" + (cursor.isEmpty() ? "" : "&cursor=" + cursor))).build());
+                Matcher id = ID.matcher(page);
+                while (id.find()) {
+                    ids.add(Long.parseLong(id.group(1)));
+                }
+                Matcher next = NEXT.matcher(page);
+                cursor = next.find() ? next.group(1) : null;
+            }
+            return new Workload(url, projectId, ids.stream().mapToLong(Long::longValue).distinct().toArray(),
+                    cursors.toArray(String[]::new), writePercent);
+        }
+
+        HttpRequest next() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long taskId = taskIds[random.nextInt(taskIds.length)];
+            if (random.nextInt(100) >= writePercent) {
+                if (random.nextInt(9) < 7) {
+                    return HttpRequest.newBuilder(URI.create(url + "/api/v1/tasks/" + taskId)).build();
+                }
+                String cursor = cursors[random.nextInt(cursors.length)];
+                return HttpRequest.newBuilder(URI.create(url + "/api/v1/projects/" + projectId + "/tasks?size=20"
+                        + (cursor.isEmpty() ? "" : "&cursor=" + cursor))).build();
+            }
+            return HttpRequest.newBuilder(URI.create(url + "/api/v1/tasks/" + taskId + "/status?status="
+                            + STATUSES[random.nextInt(STATUSES.length)]))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+
+        private static String send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new UncheckedIOException(new IOException(request.method() + " " + request.uri() + " returned "
+                        + response.statusCode() + ": " + response.body()));
+            }
+            return response.body();
+        }
+
+        private static long firstId(String body) {
+            Matcher id = ID.matcher(body);
+            if (!id.find()) {
+                throw new IllegalStateException("No id in " + body);
+            }
+            return Long.parseLong(id.group(1));
+        }
+    }
+
+    // Latency histogram with 0.1 ms buckets up to 60 s; slower responses land in the last bucket
+    private static final class Recorder {
+        private static final long BUCKET_NANOS = 100_000;
+        private static final int BUCKETS = 600_001;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean ok) {
+            buckets.incrementAndGet((int) Math.min(nanos / BUCKET_NANOS, BUCKETS - 1));
+            max.accumulateAndGet(nanos, Math::max);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            max.set(0);
+            errors.set(0);
+        }
+
+        long count() {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += buckets.get(i);
+            }
+            return count;
+        }
+
+        double percentileMillis(double quantile) {
+            long rank = (long) Math.ceil(quantile * count());
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank && seen > 0) {
+                    return (i + 1) * BUCKET_NANOS / 1e6;
+                }
+            }
+            return 0;
+        }
+
+        double maxMillis() {
+            return max.get() / 1e6;
+        }
+    }
+}
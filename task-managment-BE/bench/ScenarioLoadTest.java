@@ -0,0 +1,403 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Scenario load test of the REST API with per-endpoint throughput and latency percentiles; JDK only:
+//
+//   java bench/ScenarioLoadTest.java --url http://localhost:8080 --scenarios browse,search,mixed --clients 32
+//
+// Unlike LoadBenchmark it seeds nothing: it samples --projects projects (those named <--prefix>-* when
+// given, e.g. a data set from the datagen profile) with their first task pages and developers, and draws
+// search terms from the task titles it saw. Each scenario is a weighted mix of endpoints, run closed-loop
+// with --clients requests in flight for --warmup, then measured for --duration. Prints one line per
+// endpoint plus a total and appends them to --csv when given.
+//
+//   browse     project list/detail, task pages, board, developers, task by id
+//   search     full-text search and filtered task lists
+//   analytics  dashboard stats, burndown, cycle time, throughput
+//   writes     status changes and reassignment within the task's project
+//   mixed      all of the above, 10% writes
+public class ScenarioLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern NAME = Pattern.compile("\"name\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern TITLE = Pattern.compile("\"title\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern NEXT = Pattern.compile("\"next\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] STATUSES = {"BACKLOG", "IN_DEVELOPMENT", "COMPLETED"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "32"));
+        int projectCount = Integer.parseInt(options.getOrDefault("projects", "20"));
+        String prefix = options.getOrDefault("prefix", "");
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        String csv = options.get("csv");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        DataSet data = DataSet.discover(client, url, prefix, projectCount);
+        System.out.printf("sampled %d projects, %d tasks, %d developers, %d search terms%n", data.projects.size(),
+                data.taskCount(), data.developerCount(), data.terms.length);
+
+        Map<String, Map<String, Integer>> scenarios = scenarios();
+        String header = "scenario,clients,endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms";
+        System.out.println(header);
+        if (csv != null && Files.notExists(Path.of(csv))) {
+            Files.writeString(Path.of(csv), header + System.lineSeparator());
+        }
+        for (String name : options.getOrDefault("scenarios", "browse,search,analytics,writes,mixed").split(",")) {
+            Map<String, Integer> mix = scenarios.get(name.trim());
+            if (mix == null) {
+                throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of " + scenarios.keySet());
+            }
+            Scenario scenario = new Scenario(url, data, mix);
+            run(client, scenario, clients, warmup, new Recorders());
+            Recorders recorders = new Recorders();
+            long start = System.nanoTime();
+            run(client, scenario, clients, duration, recorders);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            List<String> lines = new ArrayList<>();
+            recorders.byEndpoint.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> lines.add(line(name.trim(), clients, entry.getKey(), entry.getValue(), seconds)));
+            lines.add(line(name.trim(), clients, "total", recorders.total, seconds));
+            for (String line : lines) {
+                System.out.println(line);
+                if (csv != null) {
+                    Files.writeString(Path.of(csv), line + System.lineSeparator(), StandardOpenOption.APPEND);
+                }
+            }
+        }
+    }
+
+    // Endpoint weights per scenario; the endpoint names are the ones Scenario.request builds
+    private static Map<String, Map<String, Integer>> scenarios() {
+        Map<String, Map<String, Integer>> scenarios = new LinkedHashMap<>();
+        scenarios.put("browse", Map.of("project.list", 5, "project.get", 10, "project.tasks", 25, "project.board", 15,
+                "project.developers", 10, "task.get", 35));
+        scenarios.put("search", Map.of("task.search", 60, "task.filter", 40));
+        scenarios.put("analytics", Map.of("project.stats", 30, "project.burndown", 25, "project.cycle-time", 25,
+                "project.throughput", 20));
+        scenarios.put("writes", Map.of("task.status", 60, "task.assign", 40));
+        Map<String, Integer> mixed = new LinkedHashMap<>();
+        mixed.put("project.list", 2);
+        mixed.put("project.get", 5);
+        mixed.put("project.tasks", 15);
+        mixed.put("project.board", 10);
+        mixed.put("project.developers", 5);
+        mixed.put("project.stats", 8);
+        mixed.put("project.burndown", 3);
+        mixed.put("project.cycle-time", 2);
+        mixed.put("project.throughput", 2);
+        mixed.put("task.get", 20);
+        mixed.put("task.search", 8);
+        mixed.put("task.filter", 6);
+        mixed.put("task.history", 4);
+        mixed.put("task.status", 6);
+        mixed.put("task.assign", 4);
+        scenarios.put("mixed", mixed);
+        return scenarios;
+    }
+
+    private static String line(String scenario, int clients, String endpoint, Recorder recorder, double seconds) {
+        return String.format("%s,%d,%s,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f", scenario, clients, endpoint, recorder.count(),
+                recorder.errors.get(), recorder.count() / seconds, recorder.percentileMillis(0.50),
+                recorder.percentileMillis(0.95), recorder.percentileMillis(0.99), recorder.maxMillis());
+    }
+
+    // Same closed loop as LoadBenchmark: each client chains its next request onto the previous response
+    private static void run(HttpClient client, Scenario scenario, int clients, Duration duration, Recorders recorders)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            loop(client, scenario, deadline, recorders, done);
+        }
+        done.await();
+    }
+
+    private static void loop(HttpClient client, Scenario scenario, long deadline, Recorders recorders, CountDownLatch done) {
+        if (System.nanoTime() >= deadline) {
+            done.countDown();
+            return;
+        }
+        String endpoint = scenario.pick();
+        HttpRequest request = scenario.request(endpoint);
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    recorders.record(endpoint, System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    loop(client, scenario, deadline, recorders, done);
+                });
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record SampledProject(long id, long[] taskIds, long[] developerIds, String[] cursors) {
+    }
+
+    private static final class DataSet {
+        private final List<SampledProject> projects;
+        private final String[] terms;
+
+        private DataSet(List<SampledProject> projects, String[] terms) {
+            this.projects = projects;
+            this.terms = terms;
+        }
+
+        static DataSet discover(HttpClient client, String url, String prefix, int projectCount)
+                throws IOException, InterruptedException {
+            List<Long> projectIds = new ArrayList<>();
+            String cursor = "";
+            while (cursor != null && projectIds.size() < projectCount) {
+                String page = get(client, url + "/api/v1/projects?size=100" + (cursor.isEmpty() ? "" : "&cursor=" + cursor));
+                // Project pages list id before name, one project object after the other
+                Matcher id = ID.matcher(page);
+                Matcher name = NAME.matcher(page);
+                while (id.find() && name.find(id.end()) && projectIds.size() < projectCount) {
+                    if (name.group(1).startsWith(prefix)) {
+                        projectIds.add(Long.parseLong(id.group(1)));
+                    }
+                }
+                Matcher next = NEXT.matcher(page);
+                cursor = next.find() ? next.group(1) : null;
+            }
+
+            List<SampledProject> projects = new ArrayList<>();
+            Set<String> terms = new LinkedHashSet<>();
+            for (long projectId : projectIds) {
+                List<String> cursors = new ArrayList<>(List.of(""));
+                String tasks = get(client, url + "/api/v1/projects/" + projectId + "/tasks?size=200");
+                Matcher next = NEXT.matcher(tasks);
+                if (next.find()) {
+                    cursors.add(next.group(1));
+                }
+                Matcher title = TITLE.matcher(tasks);
+                while (title.find()) {
+                    for (String word : title.group(1).toLowerCase().split("[^a-z]+")) {
+                        if (word.length() > 3) {
+                            terms.add(word);
+                        }
+                    }
+                }
+                long[] taskIds = ids(tasks);
+                if (taskIds.length == 0) {
+                    continue;
+                }
+                long[] developerIds = ids(get(client, url + "/api/v1/projects/" + projectId + "/developers?size=100"));
+                projects.add(new SampledProject(projectId, taskIds, developerIds, cursors.toArray(String[]::new)));
+            }
+            if (projects.isEmpty()) {
+                throw new IllegalStateException("No projects with tasks" + (prefix.isEmpty() ? "" : " named " + prefix + "*")
+                        + " at " + url + "; load some with the datagen profile first");
+            }
+            if (terms.isEmpty()) {
+                terms.add("task");
+            }
+            return new DataSet(projects, terms.toArray(String[]::new));
+        }
+
+        long taskCount() {
+            return projects.stream().mapToLong(project -> project.taskIds().length).sum();
+        }
+
+        long developerCount() {
+            return projects.stream().mapToLong(project -> project.developerIds().length).sum();
+        }
+
+        private static long[] ids(String body) {
+            List<Long> ids = new ArrayList<>();
+            Matcher id = ID.matcher(body);
+            while (id.find()) {
+                ids.add(Long.parseLong(id.group(1)));
+            }
+            return ids.stream().mapToLong(Long::longValue).distinct().toArray();
+        }
+
+        private static String get(HttpClient client, String uri) throws IOException, InterruptedException {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(uri)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new UncheckedIOException(new IOException("GET " + uri + " returned " + response.statusCode()
+                        + ": " + response.body()));
+            }
+            return response.body();
+        }
+    }
+
+    private static final class Scenario {
+        private final String url;
+        private final DataSet data;
+        private final String[] endpoints;
+        private final int[] cumulativeWeights;
+
+        Scenario(String url, DataSet data, Map<String, Integer> mix) {
+            this.url = url;
+            this.data = data;
+            endpoints = mix.keySet().toArray(String[]::new);
+            cumulativeWeights = new int[endpoints.length];
+            int sum = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                sum += mix.get(endpoints[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        String pick() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int i = 0;
+            while (cumulativeWeights[i] <= pick) {
+                i++;
+            }
+            return endpoints[i];
+        }
+
+        HttpRequest request(String endpoint) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            SampledProject project = data.projects.get(random.nextInt(data.projects.size()));
+            long taskId = project.taskIds()[random.nextInt(project.taskIds().length)];
+            String cursor = project.cursors()[random.nextInt(project.cursors().length)];
+            String projectPath = url + "/api/v1/projects/" + project.id();
+            String taskPath = url + "/api/v1/tasks/" + taskId;
+            return switch (endpoint) {
+                case "project.list" -> get(url + "/api/v1/projects?size=20");
+                case "project.get" -> get(projectPath);
+                case "project.tasks" -> get(projectPath + "/tasks?size=20" + (cursor.isEmpty() ? "" : "&cursor=" + cursor));
+                case "project.board" -> get(projectPath + "/board?limit=20");
+                case "project.developers" -> get(projectPath + "/developers?size=20");
+                case "project.stats" -> get(projectPath + "/stats");
+                case "project.burndown" -> get(projectPath + "/analytics/burndown");
+                case "project.cycle-time" -> get(projectPath + "/analytics/cycle-time");
+                case "project.throughput" -> get(projectPath + "/analytics/throughput");
+                case "task.get" -> get(taskPath);
+                case "task.history" -> get(taskPath + "/history?size=20");
+                case "task.search" -> get(url + "/api/v1/tasks/search?size=20&q="
+                        + URLEncoder.encode(data.terms[random.nextInt(data.terms.length)], StandardCharsets.UTF_8)
+                        + (random.nextBoolean() ? "&projectId=" + project.id() : ""));
+                case "task.filter" -> get(url + "/api/v1/tasks?size=20&projectId=" + project.id()
+                        + "&status=BACKLOG,IN_DEVELOPMENT&sort=" + (random.nextBoolean() ? "dueDate,asc" : "updatedAt,desc"));
+                case "task.status" -> patch(taskPath + "/status?status=" + STATUSES[random.nextInt(STATUSES.length)]);
+                case "task.assign" -> project.developerIds().length == 0
+                        ? patch(taskPath + "/unassign")
+                        : patch(taskPath + "/assign?developerId=" + project.developerIds()[random.nextInt(project.developerIds().length)]);
+                default -> throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+            };
+        }
+
+        private static HttpRequest get(String uri) {
+            return HttpRequest.newBuilder(URI.create(uri)).build();
+        }
+
+        private static HttpRequest patch(String uri) {
+            return HttpRequest.newBuilder(URI.create(uri)).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+        }
+    }
+
+    private static final class Recorders {
+        private final Map<String, Recorder> byEndpoint = new ConcurrentHashMap<>();
+        private final Recorder total = new Recorder();
+
+        void record(String endpoint, long nanos, boolean ok) {
+            byEndpoint.computeIfAbsent(endpoint, key -> new Recorder()).record(nanos, ok);
+            total.record(nanos, ok);
+        }
+    }
+
+    // Log-linear latency histogram in microseconds: exact below 1.024 ms, then 512 buckets per power of two
+    // (under 0.2% error) up to about 67 s; slower responses land in the last bucket
+    private static final class Recorder {
+        private static final int LINEAR = 1024;
+        private static final int SUB_BUCKETS = 512;
+        private static final long MAX_MICROS = (1L << 26) - 1;
+        private static final int BUCKETS = index(MAX_MICROS) + 1;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong max = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean ok) {
+            buckets.incrementAndGet(index(Math.min(nanos / 1000, MAX_MICROS)));
+            max.accumulateAndGet(nanos, Math::max);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        long count() {
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                count += buckets.get(i);
+            }
+            return count;
+        }
+
+        double percentileMillis(double quantile) {
+            long rank = (long) Math.ceil(quantile * count());
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank && seen > 0) {
+                    return upperMicros(i) / 1e3;
+                }
+            }
+            return 0;
+        }
+
+        double maxMillis() {
+            return max.get() / 1e6;
+        }
+
+        private static int index(long micros) {
+            if (micros < LINEAR) {
+                return (int) micros;
+            }
+            int shift = 63 - Long.numberOfLeadingZeros(micros) - 9;
+            return LINEAR + (shift - 1) * SUB_BUCKETS + (int) ((micros >> shift) - SUB_BUCKETS);
+        }
+
+        private static long upperMicros(int index) {
+            if (index < LINEAR) {
+                return index + 1;
+            }
+            int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+            long mantissa = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+            return (mantissa + 1) << shift;
+        }
+    }
+}
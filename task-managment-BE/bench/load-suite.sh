@@ -0,0 +1,68 @@
+#!/usr/bin/env bash
+# Scenario load suite (ScenarioLoadTest.java) against a synthetic data set loaded by the datagen profile:
+# loads the data once, starts the application and runs every scenario, reporting throughput and latency
+# percentiles per endpoint.
+#
+#   bench/load-suite.sh                        # all scenarios with 32 clients
+#   bench/load-suite.sh browse mixed           # chosen scenarios
+#
+# Environment:
+#   BENCH_PROJECTS, BENCH_DEVELOPERS, BENCH_TASKS   data set size (default 100 projects, 1000 developers,
+#                    1000000 tasks); other app.datagen.* settings can be passed in BENCH_DATAGEN_ARGS
+#   BENCH_SKIP_LOAD  set to reuse the data set of an earlier run (needs BENCH_PREFIX)
+#   BENCH_PREFIX     name prefix of the generated projects (default bench-<timestamp>)
+#   BENCH_CLIENTS    requests in flight (default 32)
+#   BENCH_DURATION   measured seconds per scenario (default 30), BENCH_WARMUP (default 10)
+#   BENCH_DB_URL     JDBC URL of the database stand-in; when unset a throwaway postgres:16 container is
+#                    started on port 55432 (needs docker). BENCH_DB_USER / BENCH_DB_PASSWORD default to postgres.
+#   BENCH_PORT       port for the application under test (default 18080)
+#
+# Results are written to bench/results/load-suite-<timestamp>.csv, one row per scenario and endpoint.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+SCENARIOS=$(IFS=,; echo "${*:-browse search analytics writes mixed}" | tr ' ' ',')
+PORT=${BENCH_PORT:-18080}
+STAMP=$(date +%Y%m%d-%H%M%S)
+PREFIX=${BENCH_PREFIX:-bench-$STAMP}
+RESULTS=bench/results/load-suite-$STAMP.csv
+APP_LOG=$(mktemp)
+
+container=""
+cleanup() {
+    [[ -n "${app_pid:-}" ]] && kill "$app_pid" 2>/dev/null || true
+    [[ -n "$container" ]] && docker rm -f "$container" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+if [[ -z "${BENCH_DB_URL:-}" ]]; then
+    container=$(docker run -d --rm -p 55432:5432 -e POSTGRES_PASSWORD=postgres -e POSTGRES_DB=task_management_db postgres:16)
+    BENCH_DB_URL=jdbc:postgresql://localhost:55432/task_management_db
+    until docker exec "$container" pg_isready -U postgres -d task_management_db >/dev/null 2>&1; do sleep 1; done
+fi
+
+./mvnw -B -q package -DskipTests
+jar=$(ls target/task-management-*.jar | grep -v original | head -1)
+mkdir -p bench/results
+db_args=(--spring.datasource.url="$BENCH_DB_URL"
+         --spring.datasource.username="${BENCH_DB_USER:-postgres}" --spring.datasource.password="${BENCH_DB_PASSWORD:-postgres}")
+
+if [[ -z "${BENCH_SKIP_LOAD:-}" ]]; then
+    # shellcheck disable=SC2086
+    java -jar "$jar" "${db_args[@]}" --spring.profiles.active=datagen --app.datagen.name-prefix="$PREFIX" \
+        --app.datagen.projects="${BENCH_PROJECTS:-100}" --app.datagen.developers="${BENCH_DEVELOPERS:-1000}" \
+        --app.datagen.tasks="${BENCH_TASKS:-1000000}" ${BENCH_DATAGEN_ARGS:-}
+fi
+
+java -jar "$jar" "${db_args[@]}" --server.port="$PORT" --management.server.port=0 --spring.jpa.show-sql=false > "$APP_LOG" 2>&1 &
+app_pid=$!
+for _ in $(seq 1 120); do
+    curl -sf -o /dev/null "http://localhost:$PORT/api/v1/projects?size=1" && break
+    kill -0 "$app_pid" 2>/dev/null || { cat "$APP_LOG" >&2; exit 1; }
+    sleep 1
+done
+
+java bench/ScenarioLoadTest.java --url "http://localhost:$PORT" --prefix "$PREFIX" --scenarios "$SCENARIOS" \
+    --clients "${BENCH_CLIENTS:-32}" --warmup "${BENCH_WARMUP:-10}" --duration "${BENCH_DURATION:-30}" --csv "$RESULTS"
+
+echo "results: $RESULTS"
@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# Servlet vs reactive read API under the same read-only load, one application instance per leg against the
+# same local PostgreSQL. Per leg: LoadBenchmark.java for throughput and latency, then ConnectionFootprint.java
+# for the resident memory and threads each slow reader costs the server.
+#
+#   bench/reactive-reads.sh                    # 1000, 2500 and 5000 clients, both legs
+#   bench/reactive-reads.sh 500 2000           # chosen client counts
+#
+# Environment:
+#   BENCH_LEGS          legs to run (default "servlet reactive")
+#   BENCH_DURATION      measured seconds per client count (default 30), BENCH_WARMUP (default 10)
+#   BENCH_TASKS         tasks seeded per run (default 10000)
+#   BENCH_CONNECTIONS   slow-reader counts for ConnectionFootprint (default "250,1000,4000")
+#   BENCH_DB_URL        JDBC URL of the database stand-in; when unset a throwaway postgres:16 container is
+#                       started on port 55432 (needs docker). BENCH_DB_USER / BENCH_DB_PASSWORD default to postgres.
+#   BENCH_PORT          servlet port (default 18080); the reactive leg also listens on BENCH_PORT + 1
+#
+# Results are appended to bench/results/reactive-reads-<timestamp>.csv and
+# bench/results/reactive-footprint-<timestamp>.csv. The servlet leg runs without the reactive profile, so
+# neither leg pays for the other's server; the reactive leg is seeded through its servlet port. Memory per
+# connection is the growth of the server's RSS over a freshly started instance, so read it next to the thread
+# count: on the servlet side a page that fits into the socket buffers releases its thread early.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CLIENTS=$(IFS=,; echo "${*:-1000 2500 5000}" | tr ' ' ',')
+LEGS=${BENCH_LEGS:-servlet reactive}
+PORT=${BENCH_PORT:-18080}
+REACTIVE_PORT=$((PORT + 1))
+STAMP=$(date +%Y%m%d-%H%M%S)
+RESULTS=bench/results/reactive-reads-$STAMP.csv
+FOOTPRINT=bench/results/reactive-footprint-$STAMP.csv
+APP_LOG=$(mktemp)
+SEED_LOG=$(mktemp)
+
+ulimit -n 65536 2>/dev/null || echo "warning: could not raise the open-file limit ($(ulimit -n))" >&2
+
+container=""
+cleanup() {
+    [[ -n "${app_pid:-}" ]] && kill "$app_pid" 2>/dev/null || true
+    [[ -n "$container" ]] && docker rm -f "$container" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+if [[ -z "${BENCH_DB_URL:-}" ]]; then
+    container=$(docker run -d --rm -p 55432:5432 -e POSTGRES_PASSWORD=postgres -e POSTGRES_DB=task_management_db postgres:16)
+    BENCH_DB_URL=jdbc:postgresql://localhost:55432/task_management_db
+    until docker exec "$container" pg_isready -U postgres -d task_management_db >/dev/null 2>&1; do sleep 1; done
+fi
+
+./mvnw -B -q -P reactive package -DskipTests
+jar=$(ls target/task-management-*.jar | grep -v original | head -1)
+mkdir -p bench/results
+
+start_app() {
+    java -jar "$jar" "$@" > "$APP_LOG" 2>&1 &
+    app_pid=$!
+    for _ in $(seq 1 120); do
+        curl -sf -o /dev/null "$read_url/api/v1/projects?size=1" && return
+        kill -0 "$app_pid" 2>/dev/null || { cat "$APP_LOG" >&2; exit 1; }
+        sleep 1
+    done
+}
+
+stop_app() {
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+    app_pid=""
+}
+
+for leg in $LEGS; do
+    app_args=(--server.port="$PORT" --spring.datasource.url="$BENCH_DB_URL"
+              --spring.datasource.username="${BENCH_DB_USER:-postgres}" --spring.datasource.password="${BENCH_DB_PASSWORD:-postgres}"
+              --spring.jpa.show-sql=false)
+    read_url="http://localhost:$PORT"
+    if [[ "$leg" == reactive ]]; then
+        app_args+=(--spring.profiles.active=reactive --app.reactive.port="$REACTIVE_PORT")
+        read_url="http://localhost:$REACTIVE_PORT"
+    fi
+
+    start_app "${app_args[@]}"
+    java bench/LoadBenchmark.java --url "$read_url" --seed-url "http://localhost:$PORT" --mode "$leg" --writes 0 \
+        --clients "$CLIENTS" --tasks "${BENCH_TASKS:-10000}" --warmup "${BENCH_WARMUP:-10}" \
+        --duration "${BENCH_DURATION:-30}" --csv "$RESULTS" | tee "$SEED_LOG"
+    project_id=$(sed -n 's/^seeded project \([0-9]*\) .*/\1/p' "$SEED_LOG")
+    stop_app
+
+    # Fresh instance, so the baseline is not a heap and thread pool the load above already grew.
+    # A full page per slow reader: the servlet side materializes it, the reactive side streams it.
+    start_app "${app_args[@]}"
+    java bench/ConnectionFootprint.java --url "$read_url" --path "/api/v1/projects/$project_id/tasks?size=500" \
+        --pid "$app_pid" --mode "$leg" --connections "${BENCH_CONNECTIONS:-250,1000,4000}" \
+        --duration "${BENCH_DURATION:-30}" --csv "$FOOTPRINT"
+    stop_app
+done
+
+echo "results: $RESULTS $FOOTPRINT"
@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+# Platform vs virtual request threads under the same load (LoadBenchmark.java), one application
+# instance per mode against the same local PostgreSQL. Needs Java 21+ on the PATH for the virtual leg.
+#
+#   bench/thread-modes.sh                      # 1000, 2500, 5000 and 10000 clients, both modes
+#   bench/thread-modes.sh 1000 10000           # chosen client counts
+#
+# Environment:
+#   BENCH_MODES      modes to run (default "platform virtual")
+#   BENCH_DURATION   measured seconds per client count (default 30), BENCH_WARMUP (default 10)
+#   BENCH_TASKS      tasks seeded per run (default 10000)
+#   BENCH_DB_URL     JDBC URL of the database stand-in; when unset a throwaway postgres:16 container is
+#                    started on port 55432 (needs docker). BENCH_DB_USER / BENCH_DB_PASSWORD default to postgres.
+#   BENCH_PORT       port for the application under test (default 18080)
+#
+# Results are appended to bench/results/thread-modes-<timestamp>.csv. With the virtual leg the
+# application runs with -Djdk.tracePinnedThreads=short and the script reports how many pinning traces
+# it printed; anything above zero means a synchronized block is blocking a carrier thread.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CLIENTS=$(IFS=,; echo "${*:-1000 2500 5000 10000}" | tr ' ' ',')
+MODES=${BENCH_MODES:-platform virtual}
+PORT=${BENCH_PORT:-18080}
+RESULTS=bench/results/thread-modes-$(date +%Y%m%d-%H%M%S).csv
+APP_LOG=$(mktemp)
+
+java_feature=$(java -XshowSettings:properties -version 2>&1 | sed -n 's/^ *java.specification.version = //p')
+if [[ " $MODES " == *" virtual "* && ${java_feature%%.*} -lt 21 ]]; then
+    echo "The virtual leg needs Java 21+, found $java_feature (set BENCH_MODES=platform to run the platform leg only)" >&2
+    exit 1
+fi
+
+# 10k clients hold 10k sockets on each side
+ulimit -n 65536 2>/dev/null || echo "warning: could not raise the open-file limit ($(ulimit -n))" >&2
+
+container=""
+cleanup() {
+    [[ -n "${app_pid:-}" ]] && kill "$app_pid" 2>/dev/null || true
+    [[ -n "$container" ]] && docker rm -f "$container" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+if [[ -z "${BENCH_DB_URL:-}" ]]; then
+    container=$(docker run -d --rm -p 55432:5432 -e POSTGRES_PASSWORD=postgres -e POSTGRES_DB=task_management_db postgres:16)
+    BENCH_DB_URL=jdbc:postgresql://localhost:55432/task_management_db
+    until docker exec "$container" pg_isready -U postgres -d task_management_db >/dev/null 2>&1; do sleep 1; done
+fi
+
+./mvnw -B -q package -DskipTests
+jar=$(ls target/task-management-*.jar | grep -v original | head -1)
+mkdir -p bench/results
+
+for mode in $MODES; do
+    jvm_args=()
+    app_args=(--server.port="$PORT" --management.server.port=0 --spring.datasource.url="$BENCH_DB_URL"
+              --spring.datasource.username="${BENCH_DB_USER:-postgres}" --spring.datasource.password="${BENCH_DB_PASSWORD:-postgres}"
+              --spring.jpa.show-sql=false)
+    if [[ "$mode" == virtual ]]; then
+        jvm_args+=(-Djdk.tracePinnedThreads=short)
+        app_args+=(--spring.profiles.active=virtual-threads)
+    fi
+
+    java ${jvm_args[@]+"${jvm_args[@]}"} -jar "$jar" "${app_args[@]}" > "$APP_LOG" 2>&1 &
+    app_pid=$!
+    for _ in $(seq 1 120); do
+        curl -sf -o /dev/null "http://localhost:$PORT/api/v1/projects?size=1" && break
+        kill -0 "$app_pid" 2>/dev/null || { cat "$APP_LOG" >&2; exit 1; }
+        sleep 1
+    done
+
+    java bench/LoadBenchmark.java --url "http://localhost:$PORT" --mode "$mode" --clients "$CLIENTS" \
+        --tasks "${BENCH_TASKS:-10000}" --warmup "${BENCH_WARMUP:-10}" --duration "${BENCH_DURATION:-30}" --csv "$RESULTS"
+
+    if [[ "$mode" == virtual ]]; then
+        echo "pinned-thread traces: $(grep -c '<== monitors' "$APP_LOG" || true)"
+    fi
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+    app_pid=""
+done
+
+echo "results: $RESULTS"
@@ -0,0 +1,64 @@
+package com.example.task_management.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+// One LocalDateTime per call, as every DTO carries createdAt/updatedAt. Values have microsecond fractions like
+// the timestamps PostgreSQL returns, which is the slow path of ISO formatting. jackson includes the mapper's
+// per-call overhead, so compare it with TaskJsonBenchmark rather than with the formatters alone.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateTimeFormatBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private final LocalDateTime[] values = new LocalDateTime[VALUES];
+    private JsonMapper jsonMapper;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().findAndAddModules().build();
+        LocalDateTime start = LocalDateTime.of(2026, 1, 15, 9, 30, 12);
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = start.plusSeconds(i * 7919L).plusNanos((i * 104_729L % 1_000_000) * 1000);
+        }
+    }
+
+    @Benchmark
+    public String isoFormatter() {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(nextValue());
+    }
+
+    @Benchmark
+    public String localDateTimeToString() {
+        return nextValue().toString();
+    }
+
+    @Benchmark
+    public String jackson() {
+        return jsonMapper.writeValueAsString(nextValue());
+    }
+
+    private LocalDateTime nextValue() {
+        next = (next + 1) & (VALUES - 1);
+        return values[next];
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson encoding of List<TaskDTO>. toStream mirrors the MVC message converter and the export, which write
+// into the response stream; toBytes is the buffered variant (response cache, SSE payloads). The page variant
+// adds the CursorPageDTO envelope the list endpoints return.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private JsonMapper jsonMapper;
+    private List<TaskDTO> tasks;
+    private CursorPageDTO<TaskDTO> page;
+
+    @Setup
+    public void setUp() {
+        // Jackson 3 defaults, as Boot configures them when no spring.jackson.* properties are set
+        jsonMapper = JsonMapper.builder().findAndAddModules().build();
+        LocalDateTime now = LocalDateTime.of(2026, 1, 15, 9, 30, 12, 345_678_000);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskDTO((long) i + 1, "Task " + i, i % 3 == 0 ? null : "Description of task " + i,
+                    TaskStatus.values()[i % TaskStatus.values().length],
+                    i % 4 == 0 ? null : LocalDate.of(2026, 3, 1).plusDays(i % 120),
+                    (long) (i % 50) + 1, "Project " + (i % 50),
+                    i % 5 == 0 ? null : (long) (i % 200) + 1, i % 5 == 0 ? null : "Developer " + (i % 200),
+                    now.minusHours(i % 2000), now, (long) (i % 7)));
+        }
+        page = new CursorPageDTO<>(tasks, "aWQ6MTAw", true, tasks.size());
+    }
+
+    @Benchmark
+    public void listToStream() {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    @Benchmark
+    public byte[] listToBytes() {
+        return jsonMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public void pageToStream() {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.task_management.mapper;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.DeveloperDTO;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Entity -> DTO mapping the services go through (DtoMapper) for a list of `size` entities, plus the
+// constructor the TaskRepository JPQL projections call instead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int size;
+
+    private final DtoMapper mapper = new DtoMapper();
+
+    private List<Task> tasks;
+    private List<Project> projects;
+    private List<Developer> developers;
+    private Map<Long, String> projectNames;
+    private Map<Long, Long> taskCounts;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 15, 9, 30, 12, 345_678_000);
+        projects = new ArrayList<>(size);
+        developers = new ArrayList<>(size);
+        tasks = new ArrayList<>(size);
+        projectNames = new HashMap<>();
+        taskCounts = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Project project = new Project();
+            project.setId((long) i + 1);
+            project.setName("Project " + i);
+            project.setDescription("Description of project " + i);
+            project.setCreatedAt(now.minusDays(i % 365));
+            project.setUpdatedAt(now);
+            project.setVersion(3L);
+            projects.add(project);
+            projectNames.put(project.getId(), project.getName());
+
+            Developer developer = new Developer();
+            developer.setId((long) i + 1);
+            developer.setName("Developer " + i);
+            developer.setEmail("developer" + i + "@example.com");
+            developer.setRole("Engineer");
+            developer.setProject(project);
+            developer.setCreatedAt(now.minusDays(i % 90));
+            developer.setUpdatedAt(now);
+            developer.setVersion(1L);
+            developers.add(developer);
+            taskCounts.put(developer.getId(), (long) (i % 40));
+
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setTitle("Task " + i);
+            task.setDescription(i % 3 == 0 ? null : "Description of task " + i);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setDueDate(i % 4 == 0 ? null : LocalDate.of(2026, 3, 1).plusDays(i % 120));
+            task.setProject(project);
+            task.setAssignedTo(i % 5 == 0 ? null : developer);
+            task.setCreatedAt(now.minusHours(i % 2000));
+            task.setUpdatedAt(now);
+            task.setVersion((long) (i % 7));
+            tasks.add(task);
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> taskEntitiesToDTOs() {
+        List<TaskDTO> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(mapper.toTaskDTO(task));
+        }
+        return result;
+    }
+
+    // What the list endpoints do today: JPQL "SELECT new TaskDTO(...)" calls this constructor per row
+    @Benchmark
+    public List<TaskDTO> taskProjectionConstructor() {
+        List<TaskDTO> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Developer assignee = task.getAssignedTo();
+            result.add(new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate(),
+                    task.getProject().getId(), task.getProject().getName(),
+                    assignee != null ? assignee.getId() : null, assignee != null ? assignee.getName() : null,
+                    task.getCreatedAt(), task.getUpdatedAt(), task.getVersion()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectEntitiesToDTOs() {
+        List<ProjectDTO> result = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            result.add(mapper.toProjectDTO(project, 4, 250));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<DeveloperDTO> developerEntitiesToDTOs() {
+        List<DeveloperDTO> result = new ArrayList<>(developers.size());
+        for (Developer developer : developers) {
+            result.add(mapper.toDeveloperDTO(developer, projectNames, taskCounts));
+        }
+        return result;
+    }
+}
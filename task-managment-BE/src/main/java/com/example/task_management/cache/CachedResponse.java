@@ -0,0 +1,20 @@
+package com.example.task_management.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+    private final String contentType;
+    
+    // Already-encoded response body, gzip-compressed when gzipped is true
+    private final byte[] body;
+    
+    private final boolean gzipped;
+    
+    // Validators set by the controller; a hit is answered 304 when the client already holds this body
+    private final String etag;
+    
+    private final String lastModified;
+}
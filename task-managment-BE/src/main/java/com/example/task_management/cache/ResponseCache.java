@@ -0,0 +1,87 @@
+package com.example.task_management.cache;
+
+import com.example.task_management.config.ResponseCacheProperties;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.event.EntityChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ResponseCache {
+
+    public static final String PROJECTS_GROUP = "projects";
+    public static final String PROJECT_TASKS_GROUP = "project-tasks";
+    public static final String UNASSIGNED_DEVELOPERS_GROUP = "developers-unassigned";
+
+    private static final char KEY_SEPARATOR = '|';
+
+    private final Cache<String, CachedResponse> cache;
+
+    // Bumped on every invalidation; a response computed under an older generation is never stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.getBody().length)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public static String key(String group, String requestUri, String queryString, boolean gzip) {
+        return group + KEY_SEPARATOR + requestUri
+                + (queryString != null ? "?" + queryString : "")
+                + KEY_SEPARATOR + (gzip ? "gzip" : "identity");
+    }
+
+    public static String projectTasksGroup(String projectId) {
+        return PROJECT_TASKS_GROUP + ":" + projectId;
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void put(String key, CachedResponse response, long expectedGeneration) {
+        if (generation.get() == expectedGeneration) {
+            cache.put(key, response);
+            // An invalidation may have raced with the put; drop the entry rather than risk serving stale bytes
+            if (generation.get() != expectedGeneration) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    public Cache<String, CachedResponse> getNativeCache() {
+        return cache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.getEntityType() != EntityType.TASK) {
+            // Project and developer changes reach names and counts in every cached view
+            cache.invalidateAll();
+            return;
+        }
+
+        invalidateGroup(PROJECTS_GROUP);
+        invalidateGroup(UNASSIGNED_DEVELOPERS_GROUP);
+        invalidateGroup(event.getProjectId() != null ? projectTasksGroup(event.getProjectId().toString()) : PROJECT_TASKS_GROUP);
+    }
+
+    // "project-tasks" also matches every "project-tasks:<id>" group
+    private void invalidateGroup(String group) {
+        cache.asMap().keySet().removeIf(key -> key.startsWith(group + KEY_SEPARATOR) || key.startsWith(group + ":"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.task_management.cache;
+
+import com.example.task_management.config.ResponseCacheProperties;
+import com.example.task_management.constants.DeveloperApiPaths;
+import com.example.task_management.constants.ProjectApiPaths;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+// Serves hot list endpoints from pre-encoded bytes: a hit touches neither the database nor Jackson
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final PathPattern ALL_PROJECTS =
+            PathPatternParser.defaultInstance.parse(ProjectApiPaths.BASE + ProjectApiPaths.GET_ALL);
+    private static final PathPattern PROJECT_TASKS =
+            PathPatternParser.defaultInstance.parse(ProjectApiPaths.BASE + ProjectApiPaths.GET_TASKS);
+    private static final PathPattern PROJECT_BOARD =
+            PathPatternParser.defaultInstance.parse(ProjectApiPaths.BASE + ProjectApiPaths.GET_BOARD);
+    private static final PathPattern UNASSIGNED_DEVELOPERS =
+            PathPatternParser.defaultInstance.parse(DeveloperApiPaths.BASE + DeveloperApiPaths.GET_UNASSIGNED);
+
+    private final ResponseCache responseCache;
+    private final ResponseCacheProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || resolveGroup(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean gzip = properties.isGzip() && acceptsGzip(request);
+        String key = ResponseCache.key(resolveGroup(request), request.getRequestURI(), request.getQueryString(), gzip);
+
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            write(request, response, cached, "HIT");
+            return;
+        }
+
+        long generation = responseCache.currentGeneration();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedResponse encoded = new CachedResponse(wrapper.getContentType(), gzip ? gzip(body) : body, gzip,
+                wrapper.getHeader(HttpHeaders.ETAG), wrapper.getHeader(HttpHeaders.LAST_MODIFIED));
+        responseCache.put(key, encoded, generation);
+        wrapper.resetBuffer();
+        write(request, response, encoded, "MISS");
+    }
+
+    private String resolveGroup(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        if (ALL_PROJECTS.matches(path)) {
+            return ResponseCache.PROJECTS_GROUP;
+        }
+        if (UNASSIGNED_DEVELOPERS.matches(path)) {
+            return ResponseCache.UNASSIGNED_DEVELOPERS_GROUP;
+        }
+        PathPattern.PathMatchInfo projectTasks = PROJECT_TASKS.matchAndExtract(path);
+        if (projectTasks == null) {
+            // The board shows the same rows, so it shares the project's task group
+            projectTasks = PROJECT_BOARD.matchAndExtract(path);
+        }
+        if (projectTasks != null) {
+            return ResponseCache.projectTasksGroup(projectTasks.getUriVariables().get("id"));
+        }
+        return null;
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, CachedResponse cached, String cacheStatus)
+            throws IOException {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Cache", cacheStatus);
+        if (cached.getEtag() != null) {
+            // Entries are evicted on every write, so a cached validator is still the current one
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            if (cached.getLastModified() != null) {
+                response.setHeader(HttpHeaders.LAST_MODIFIED, cached.getLastModified());
+            }
+            if (new ServletWebRequest(request, response).checkNotModified(cached.getEtag())) {
+                return;
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        if (cached.isGzipped()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream().write(cached.getBody());
+        response.flushBuffer();
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+@Data
+public class AnalyticsProperties {
+
+    // Days covered when a request gives no "from"
+    private Duration defaultRange = Duration.ofDays(30);
+
+    // Longest range a single request may ask for
+    private Duration maxRange = Duration.ofDays(731);
+}
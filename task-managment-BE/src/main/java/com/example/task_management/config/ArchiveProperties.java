@@ -0,0 +1,21 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.archive")
+@Data
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+
+    // COMPLETED tasks untouched for this long move to tasks_archive
+    private Duration completedAge = Duration.ofDays(90);
+
+    // Tasks moved per transaction; keeps row locks on tasks short
+    private int batchSize = 1000;
+}
@@ -0,0 +1,21 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.concurrency")
+@Data
+public class ConcurrencyProperties {
+
+    // Attempts for commutative task writes (status, assignee) that lose an optimistic-lock race
+    private int maxAttempts = 5;
+
+    // Backoff before the n-th retry is a random delay up to initialBackoff * 2^(n-1), capped at maxBackoff
+    private Duration initialBackoff = Duration.ofMillis(5);
+
+    private Duration maxBackoff = Duration.ofMillis(100);
+}
@@ -0,0 +1,64 @@
+package com.example.task_management.config;
+
+import com.example.task_management.constants.TaskStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Synthetic data set loaded by the "datagen" profile (see application-datagen.properties)
+@Component
+@ConfigurationProperties(prefix = "app.datagen")
+@Data
+public class DataGeneratorProperties {
+
+    private int projects = 100;
+
+    // Developers spread over the projects by a Zipf law: the k-th project gets a share proportional to 1/k^skew
+    private int developers = 1000;
+
+    private double developerSkew = 1.0;
+
+    // Developers that belong to no project
+    private int unassignedDevelopers = 50;
+
+    // Tasks spread over the projects by the same law, usually flatter than the developers
+    private long tasks = 1_000_000;
+
+    private double taskSkew = 0.8;
+
+    // Relative weights of the statuses; normalized, so they need not add up to 1
+    private Map<TaskStatus, Double> statusMix = defaultStatusMix();
+
+    // Share of open tasks with an assignee; completed tasks always have one when their project has developers
+    private double assignedShare = 0.7;
+
+    // Share of tasks with a due date
+    private double dueDateShare = 0.6;
+
+    // Tasks are created over this many past days, more of them recently
+    private int historyDays = 365;
+
+    // Median days from creation to start and from start to completion (log-normal)
+    private double medianWaitDays = 3;
+
+    private double medianCycleDays = 4;
+
+    // Rows per INSERT; each chunk is its own transaction, so the statistics triggers see bounded transition tables
+    private int chunkSize = 50_000;
+
+    private long seed = 42;
+
+    // Prefix of the generated project names and developer emails; empty picks one from the current time
+    private String namePrefix = "";
+
+    private static Map<TaskStatus, Double> defaultStatusMix() {
+        Map<TaskStatus, Double> mix = new EnumMap<>(TaskStatus.class);
+        mix.put(TaskStatus.BACKLOG, 0.35);
+        mix.put(TaskStatus.IN_DEVELOPMENT, 0.15);
+        mix.put(TaskStatus.COMPLETED, 0.50);
+        return mix;
+    }
+}
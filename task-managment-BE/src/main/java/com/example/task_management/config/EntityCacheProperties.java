@@ -0,0 +1,25 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+@Data
+public class EntityCacheProperties {
+
+    // Keyed by Hibernate region name, e.g. app.cache.regions.project.ttl=10m
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private long maxSize = 10_000;
+    }
+}
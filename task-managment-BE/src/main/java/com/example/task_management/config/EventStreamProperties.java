@@ -0,0 +1,30 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.events")
+@Data
+public class EventStreamProperties {
+
+    // Undelivered frames a subscriber may queue before it is treated as a slow consumer and disconnected
+    private int bufferSize = 256;
+
+    // Comment frames keep idle connections open through proxies and detect dead clients
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Streams are closed after this long; EventSource reconnects on its own
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private Duration reconnectTime = Duration.ofSeconds(3);
+
+    // Threads that write frames to sockets; idle subscribers hold no thread
+    private int dispatcherThreads = 4;
+
+    // A single frame write blocked longer than this evicts the subscriber and replaces its dispatcher thread
+    private Duration writeTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,33 @@
+package com.example.task_management.config;
+
+import com.example.task_management.constants.HistoryDurability;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.history")
+@Data
+public class HistoryProperties {
+
+    private boolean enabled = true;
+
+    // Committed events waiting for the background writer
+    private int bufferSize = 65536;
+
+    // Rows per JDBC batch insert
+    private int batchSize = 500;
+
+    // Backpressure: how long a writer waits for buffer space before the durability mode applies
+    private Duration enqueueTimeout = Duration.ofMillis(50);
+
+    private HistoryDurability durability = HistoryDurability.DURABLE;
+
+    // Upper bound for the pause between attempts when a batch cannot be written
+    private Duration maxRetryBackoff = Duration.ofSeconds(5);
+
+    // On shutdown the writer keeps draining the buffer for at most this long
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
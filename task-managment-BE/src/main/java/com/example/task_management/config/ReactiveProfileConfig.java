@@ -0,0 +1,22 @@
+package com.example.task_management.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.ClassUtils;
+
+// The reactive read API and its dependencies are only compiled into builds with the reactive Maven profile
+// (./mvnw -P reactive package). A jar built without it fails at startup when asked for the reactive profile
+// instead of quietly serving the servlet API alone.
+@Configuration
+@Profile("reactive")
+public class ReactiveProfileConfig {
+
+    private static final String SERVER_CLASS = "com.example.task_management.reactive.ReactiveApiServer";
+
+    public ReactiveProfileConfig() {
+        if (!ClassUtils.isPresent(SERVER_CLASS, ReactiveProfileConfig.class.getClassLoader())) {
+            throw new IllegalStateException("The reactive profile needs a build with the reactive Maven profile "
+                    + "(./mvnw -P reactive package)");
+        }
+    }
+}
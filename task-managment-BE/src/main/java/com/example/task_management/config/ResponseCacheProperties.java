@@ -0,0 +1,24 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.response-cache")
+@Data
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    // Total size of cached response bodies; least valuable entries are evicted beyond it
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    // Safety net only: entries are normally invalidated by write events long before this
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private boolean gzip = true;
+}
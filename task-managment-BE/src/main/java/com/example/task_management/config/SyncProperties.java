@@ -0,0 +1,21 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.sync")
+@Data
+public class SyncProperties {
+
+    // Change tokens older than this are rejected with 410 and the client must resync from scratch
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    // Extra time tombstones are kept past the retention, covering transactions that straddle a token
+    private Duration tombstoneGrace = Duration.ofDays(1);
+
+    private int compactionBatchSize = 5000;
+}
@@ -0,0 +1,20 @@
+package com.example.task_management.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// spring.threads.virtual.enabled (set by the virtual-threads profile) moves Tomcat request handling,
+// @Async and @Scheduled work onto virtual threads. Spring Boot ignores it below Java 21, so a run that
+// asked for virtual threads fails at startup instead of quietly measuring the platform pool.
+@Configuration
+public class VirtualThreadsConfig {
+
+    public VirtualThreadsConfig(Environment environment) {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (requested && !Threading.VIRTUAL.isActive(environment)) {
+            throw new IllegalStateException("spring.threads.virtual.enabled requires Java 21 or later, running on Java "
+                    + Runtime.version().feature());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.task_management.constants;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    ASSIGNED,
+    UNASSIGNED,
+    DELETED,
+    ARCHIVED,
+}
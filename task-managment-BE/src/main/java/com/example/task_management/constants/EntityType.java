@@ -0,0 +1,7 @@
+package com.example.task_management.constants;
+
+public enum EntityType {
+    TASK,
+    PROJECT,
+    DEVELOPER,
+}
@@ -0,0 +1,17 @@
+package com.example.task_management.constants;
+
+public final class EventApiPaths {
+    
+    private EventApiPaths() {
+        // Private constructor to prevent instantiation
+    }
+    
+    // API Version
+    public static final String API_VERSION = "/api/v1";
+    
+    // Base path
+    public static final String BASE = API_VERSION + "/events";
+    
+    // Endpoints
+    public static final String STREAM = "";
+}
@@ -0,0 +1,9 @@
+package com.example.task_management.constants;
+
+// What the task history recorder does with an event when its buffer is still full after the enqueue timeout
+public enum HistoryDurability {
+    // Drop the event and count it; writers are never slowed down by more than the timeout
+    BEST_EFFORT,
+    // Insert the event synchronously on the writing thread; nothing is lost while the database is up
+    DURABLE,
+}
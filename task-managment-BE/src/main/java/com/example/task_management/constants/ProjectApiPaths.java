@@ -20,4 +20,11 @@ public final class ProjectApiPaths {
     public static final String DELETE = "/{id}";
     public static final String GET_TASKS = "/{id}/tasks";
     public static final String GET_DEVELOPERS = "/{id}/developers";
+    public static final String GET_BOARD = "/{id}/board";
+    public static final String GET_STATS = "/{id}/stats";
+    public static final String REBUILD_STATS = "/{id}/stats/rebuild";
+    public static final String REBUILD_ALL_STATS = "/stats/rebuild";
+    public static final String GET_BURNDOWN = "/{id}/analytics/burndown";
+    public static final String GET_CYCLE_TIME = "/{id}/analytics/cycle-time";
+    public static final String GET_THROUGHPUT = "/{id}/analytics/throughput";
 }
\ No newline at end of file
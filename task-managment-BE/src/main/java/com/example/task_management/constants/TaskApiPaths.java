@@ -22,4 +22,12 @@ public final class TaskApiPaths {
     public static final String ASSIGN_TO_DEVELOPER = "/{id}/assign";
     public static final String UNASSIGN = "/{id}/unassign";
     public static final String GET_BY_STATUS = "/status/{status}";
+    public static final String EXPORT = "/export";
+    public static final String BULK = "/bulk";
+    public static final String BULK_UPDATE_STATUS = "/status";
+    public static final String BULK_ASSIGN = "/assign";
+    public static final String BULK_UNASSIGN = "/unassign";
+    public static final String CHANGES = "/changes";
+    public static final String SEARCH = "/search";
+    public static final String HISTORY = "/{id}/history";
 }
\ No newline at end of file
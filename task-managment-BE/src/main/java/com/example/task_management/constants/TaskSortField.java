@@ -0,0 +1,54 @@
+package com.example.task_management.constants;
+
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+// Sort keys accepted by the task filter, each backed by tasks indexes. Ties are broken by id in the
+// same direction, so each key pages by keyset on (key, id). Id order is creation order.
+public enum TaskSortField {
+    ID("id", false, Long::valueOf, TaskDTO::getId),
+    DUE_DATE("dueDate", true, LocalDate::parse, TaskDTO::getDueDate),
+    UPDATED_AT("updatedAt", false, LocalDateTime::parse, TaskDTO::getUpdatedAt);
+
+    private final String attribute;
+    private final boolean nullable;
+    private final Function<String, ? extends Comparable<?>> parser;
+    private final Function<TaskDTO, ? extends Comparable<?>> accessor;
+
+    TaskSortField(String attribute, boolean nullable, Function<String, ? extends Comparable<?>> parser,
+                  Function<TaskDTO, ? extends Comparable<?>> accessor) {
+        this.attribute = attribute;
+        this.nullable = nullable;
+        this.parser = parser;
+        this.accessor = accessor;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    public Comparable<?> valueOf(TaskDTO task) {
+        return accessor.apply(task);
+    }
+
+    public static TaskSortField fromParam(String value) {
+        for (TaskSortField field : values()) {
+            if (field.attribute.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new BadRequestException("Unsupported sort field: " + value);
+    }
+}
@@ -1,17 +1,21 @@
 package com.example.task_management.controller;
 
 import com.example.task_management.constants.DeveloperApiPaths;
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.DeveloperDTO;
 import com.example.task_management.dto.TaskDTO;
 import com.example.task_management.service.DeveloperService;
+import com.example.task_management.service.ResourceVersionService;
 import com.example.task_management.service.TaskService;
+import com.example.task_management.util.ResourceVersion;
+import com.example.task_management.util.VersionTag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping(DeveloperApiPaths.BASE)
@@ -20,14 +24,27 @@ public class DeveloperController {
 
     private final DeveloperService developerService;
     private final TaskService taskService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping(DeveloperApiPaths.GET_ALL)
-    public ResponseEntity<List<DeveloperDTO>> getAllDevelopers() {
-        return ResponseEntity.ok(developerService.getAllDevelopers());
+    public ResponseEntity<CursorPageDTO<DeveloperDTO>> getAllDevelopers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<DeveloperDTO> page = developerService.getAllDevelopers(cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping(DeveloperApiPaths.GET_BY_ID)
-    public ResponseEntity<DeveloperDTO> getDeveloperById(@PathVariable Long id) {
+    public ResponseEntity<DeveloperDTO> getDeveloperById(
+            @PathVariable Long id,
+            ServletWebRequest request) {
+        if (resourceVersionService.getDeveloperVersion(id).checkNotModified(request)) {
+            return null;
+        }
         return ResponseEntity.ok(developerService.getDeveloperById(id));
     }
 
@@ -40,13 +57,16 @@ public class DeveloperController {
     @PutMapping(DeveloperApiPaths.UPDATE)
     public ResponseEntity<DeveloperDTO> updateDeveloper(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody DeveloperDTO developerDTO) {
-        return ResponseEntity.ok(developerService.updateDeveloper(id, developerDTO));
+        return ResponseEntity.ok(developerService.updateDeveloper(id, developerDTO, VersionTag.expected(ifMatch, developerDTO.getVersion())));
     }
 
     @DeleteMapping(DeveloperApiPaths.DELETE)
-    public ResponseEntity<Void> deleteDeveloper(@PathVariable Long id) {
-        developerService.deleteDeveloper(id);
+    public ResponseEntity<Void> deleteDeveloper(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        developerService.deleteDeveloper(id, VersionTag.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -63,12 +83,27 @@ public class DeveloperController {
     }
 
     @GetMapping(DeveloperApiPaths.GET_UNASSIGNED)
-    public ResponseEntity<List<DeveloperDTO>> getUnassignedDevelopers() {
-        return ResponseEntity.ok(developerService.getUnassignedDevelopers());
+    public ResponseEntity<CursorPageDTO<DeveloperDTO>> getUnassignedDevelopers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<DeveloperDTO> page = developerService.getUnassignedDevelopers(cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping(DeveloperApiPaths.GET_TASKS)
-    public ResponseEntity<List<TaskDTO>> getDeveloperTasks(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTasksByDeveloperId(id));
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getDeveloperTasks(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<TaskDTO> page = taskService.getTasksByDeveloperId(id, cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
     }
 }
\ No newline at end of file
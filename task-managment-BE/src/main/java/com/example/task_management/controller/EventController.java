@@ -0,0 +1,21 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.constants.EventApiPaths;
+import com.example.task_management.event.ChangeEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping(EventApiPaths.BASE)
+@RequiredArgsConstructor
+public class EventController {
+
+    private final ChangeEventBroadcaster changeEventBroadcaster;
+
+    @GetMapping(value = EventApiPaths.STREAM, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestParam(required = false) Long projectId) {
+        return changeEventBroadcaster.subscribe(projectId);
+    }
+}
@@ -1,19 +1,34 @@
 package com.example.task_management.controller;
 
 import com.example.task_management.constants.ProjectApiPaths;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BoardDTO;
+import com.example.task_management.dto.BurndownDTO;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.CycleTimeDTO;
 import com.example.task_management.dto.DeveloperDTO;
 import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.dto.ProjectStatsDTO;
 import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.dto.ThroughputDTO;
 import com.example.task_management.service.DeveloperService;
+import com.example.task_management.service.ProjectAnalyticsService;
 import com.example.task_management.service.ProjectService;
+import com.example.task_management.service.ProjectStatsService;
+import com.example.task_management.service.ResourceVersionService;
 import com.example.task_management.service.TaskService;
+import com.example.task_management.util.ResourceVersion;
+import com.example.task_management.util.VersionTag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.List;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping(ProjectApiPaths.BASE)
@@ -21,16 +36,31 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectStatsService projectStatsService;
+    private final ProjectAnalyticsService projectAnalyticsService;
     private final TaskService taskService;
     private final DeveloperService developerService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping(ProjectApiPaths.GET_ALL)
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<CursorPageDTO<ProjectDTO>> getAllProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<ProjectDTO> page = projectService.getAllProjects(cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping(ProjectApiPaths.GET_BY_ID)
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectDTO> getProjectById(
+            @PathVariable Long id,
+            ServletWebRequest request) {
+        if (resourceVersionService.getProjectVersion(id).checkNotModified(request)) {
+            return null;
+        }
         return ResponseEntity.ok(projectService.getProjectById(id));
     }
 
@@ -43,23 +73,97 @@ public class ProjectController {
     @PutMapping(ProjectApiPaths.UPDATE)
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProjectDTO projectDTO) {
-        return ResponseEntity.ok(projectService.updateProject(id, projectDTO));
+        return ResponseEntity.ok(projectService.updateProject(id, projectDTO, VersionTag.expected(ifMatch, projectDTO.getVersion())));
     }
 
     @DeleteMapping(ProjectApiPaths.DELETE)
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
+    public ResponseEntity<Void> deleteProject(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        projectService.deleteProject(id, VersionTag.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping(ProjectApiPaths.GET_TASKS)
-    public ResponseEntity<List<TaskDTO>> getProjectTasks(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTasksByProjectId(id));
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getProjectTasks(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<TaskDTO> page = taskService.getTasksByProjectId(id, cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(ProjectApiPaths.GET_BOARD)
+    public ResponseEntity<BoardDTO> getProjectBoard(
+            @PathVariable Long id,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            ServletWebRequest request) {
+        BoardDTO board = taskService.getBoard(id, status, cursor, limit);
+        if (ResourceVersion.ofContent(board).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(board);
     }
 
     @GetMapping(ProjectApiPaths.GET_DEVELOPERS)
-    public ResponseEntity<List<DeveloperDTO>> getProjectDevelopers(@PathVariable Long id) {
-        return ResponseEntity.ok(developerService.getDevelopersByProjectId(id));
+    public ResponseEntity<CursorPageDTO<DeveloperDTO>> getProjectDevelopers(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<DeveloperDTO> page = developerService.getDevelopersByProjectId(id, cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(ProjectApiPaths.GET_STATS)
+    public ResponseEntity<ProjectStatsDTO> getProjectStats(@PathVariable Long id) {
+        return ResponseEntity.ok(projectStatsService.getStats(id));
+    }
+
+    // Repairs drifted dashboard counters by recounting the project's tasks
+    @PostMapping(ProjectApiPaths.REBUILD_STATS)
+    public ResponseEntity<ProjectStatsDTO> rebuildProjectStats(@PathVariable Long id) {
+        return ResponseEntity.ok(projectStatsService.rebuildStats(id));
+    }
+
+    @PostMapping(ProjectApiPaths.REBUILD_ALL_STATS)
+    public ResponseEntity<Void> rebuildAllProjectStats() {
+        projectStatsService.rebuildAllStats();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(ProjectApiPaths.GET_BURNDOWN)
+    public ResponseEntity<BurndownDTO> getProjectBurndown(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(projectAnalyticsService.getBurndown(id, from, to));
+    }
+
+    @GetMapping(ProjectApiPaths.GET_CYCLE_TIME)
+    public ResponseEntity<CycleTimeDTO> getProjectCycleTime(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(projectAnalyticsService.getCycleTime(id, from, to));
+    }
+
+    @GetMapping(ProjectApiPaths.GET_THROUGHPUT)
+    public ResponseEntity<ThroughputDTO> getProjectThroughput(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(projectAnalyticsService.getThroughput(id, from, to));
     }
-}
\ No newline at end of file
+}
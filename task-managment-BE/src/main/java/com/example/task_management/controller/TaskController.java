@@ -1,15 +1,38 @@
 package com.example.task_management.controller;
 
+import com.example.task_management.constants.ExportFormat;
 import com.example.task_management.constants.TaskApiPaths;
 import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BulkImportResultDTO;
+import com.example.task_management.dto.BulkTaskUpdateDTO;
+import com.example.task_management.dto.BulkUpdateResultDTO;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskChangesDTO;
 import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.dto.TaskEventDTO;
+import com.example.task_management.dto.TaskFilterDTO;
+import com.example.task_management.dto.TaskSearchResultDTO;
+import com.example.task_management.service.ResourceVersionService;
+import com.example.task_management.service.TaskChangeService;
+import com.example.task_management.service.TaskExportService;
+import com.example.task_management.service.TaskHistoryService;
+import com.example.task_management.service.TaskImportService;
+import com.example.task_management.service.TaskSearchService;
 import com.example.task_management.service.TaskService;
+import com.example.task_management.util.ResourceVersion;
+import com.example.task_management.util.VersionTag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,15 +41,35 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeService taskChangeService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskHistoryService taskHistoryService;
+    private final ResourceVersionService resourceVersionService;
 
     @GetMapping(TaskApiPaths.GET_ALL)
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasks());
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getTasks(
+            TaskFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<TaskDTO> page = taskService.getTasks(filter, cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping(TaskApiPaths.GET_BY_ID)
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskDTO> getTaskById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            ServletWebRequest request) {
+        if (resourceVersionService.getTaskVersion(id, includeArchived).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(taskService.getTaskById(id, includeArchived));
     }
 
     @PostMapping(TaskApiPaths.CREATE)
@@ -35,40 +78,122 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @PostMapping(value = TaskApiPaths.BULK, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> importTasks(@RequestBody List<TaskDTO> tasks) {
+        return ResponseEntity.ok(taskImportService.importTasks(tasks));
+    }
+
+    @PostMapping(value = TaskApiPaths.BULK, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> importTasksNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(taskImportService.importTasks(body));
+    }
+
     @PutMapping(TaskApiPaths.UPDATE)
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TaskDTO taskDTO) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskDTO));
+        return ResponseEntity.ok(taskService.updateTask(id, taskDTO, VersionTag.expected(ifMatch, taskDTO.getVersion())));
     }
 
     @DeleteMapping(TaskApiPaths.DELETE)
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, VersionTag.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    // Without If-Match these are retried server-side on a version conflict (see TaskServiceImpl)
     @PatchMapping(TaskApiPaths.UPDATE_STATUS)
     public ResponseEntity<TaskDTO> updateTaskStatus(
             @PathVariable Long id,
-            @RequestParam TaskStatus status) {
-        return ResponseEntity.ok(taskService.updateTaskStatus(id, status));
+            @RequestParam TaskStatus status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(taskService.updateTaskStatus(id, status, VersionTag.parseIfMatch(ifMatch)));
     }
 
     @PatchMapping(TaskApiPaths.ASSIGN_TO_DEVELOPER)
     public ResponseEntity<TaskDTO> assignTaskToDeveloper(
             @PathVariable Long id,
-            @RequestParam Long developerId) {
-        return ResponseEntity.ok(taskService.assignTaskToDeveloper(id, developerId));
+            @RequestParam Long developerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(taskService.assignTaskToDeveloper(id, developerId, VersionTag.parseIfMatch(ifMatch)));
     }
 
     @PatchMapping(TaskApiPaths.UNASSIGN)
-    public ResponseEntity<TaskDTO> unassignTask(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.unassignTask(id));
+    public ResponseEntity<TaskDTO> unassignTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.ok(taskService.unassignTask(id, VersionTag.parseIfMatch(ifMatch)));
+    }
+
+    @PatchMapping(TaskApiPaths.BULK_UPDATE_STATUS)
+    public ResponseEntity<BulkUpdateResultDTO> updateTaskStatuses(@RequestBody BulkTaskUpdateDTO request) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(request));
+    }
+
+    @PatchMapping(TaskApiPaths.BULK_ASSIGN)
+    public ResponseEntity<BulkUpdateResultDTO> assignTasksToDeveloper(@RequestBody BulkTaskUpdateDTO request) {
+        return ResponseEntity.ok(taskService.assignTasksToDeveloper(request));
+    }
+
+    @PatchMapping(TaskApiPaths.BULK_UNASSIGN)
+    public ResponseEntity<BulkUpdateResultDTO> unassignTasks(@RequestBody BulkTaskUpdateDTO request) {
+        return ResponseEntity.ok(taskService.unassignTasks(request));
     }
 
     @GetMapping(TaskApiPaths.GET_BY_STATUS)
-    public ResponseEntity<List<TaskDTO>> getTasksByStatus(@PathVariable TaskStatus status) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(status));
+    public ResponseEntity<CursorPageDTO<TaskDTO>> getTasksByStatus(
+            @PathVariable TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<TaskDTO> page = taskService.getTasksByStatus(status, cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(TaskApiPaths.SEARCH)
+    public ResponseEntity<CursorPageDTO<TaskSearchResultDTO>> searchTasks(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest request) {
+        CursorPageDTO<TaskSearchResultDTO> page = taskSearchService.searchTasks(q, projectId, status, cursor, size);
+        if (ResourceVersion.ofContent(page).checkNotModified(request)) {
+            return null;
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(TaskApiPaths.HISTORY)
+    public ResponseEntity<CursorPageDTO<TaskEventDTO>> getTaskHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskHistoryService.getHistory(id, cursor, size));
+    }
+
+    @GetMapping(TaskApiPaths.CHANGES)
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskChangeService.getChanges(since, size));
+    }
+
+    @GetMapping(TaskApiPaths.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        StreamingResponseBody body = outputStream -> taskExportService.exportTasks(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 }
\ No newline at end of file
@@ -0,0 +1,345 @@
+package com.example.task_management.datagen;
+
+import com.example.task_management.config.DataGeneratorProperties;
+import com.example.task_management.constants.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Bulk-loads a synthetic data set and exits: --spring.profiles.active=datagen (sizes under app.datagen.*).
+// Projects and developers go in with INSERT ... SELECT generate_series, tasks in chunks of one
+// INSERT ... SELECT unnest(arrays) each, so the statement-level triggers keep project_task_stats and the
+// due-date rollups exact. The flow rollups stamp the load day, so they are rebuilt from the generated
+// timestamps afterwards and the analytics endpoints see a year of history rather than one busy day.
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final String INSERT_PROJECTS = "INSERT INTO projects (name, description, created_at, updated_at, version) "
+            + "SELECT ? || '-project-' || g, 'Synthetic project ' || g, ?, ?, 0 FROM generate_series(1, ?) g ORDER BY g RETURNING id";
+
+    private static final String INSERT_DEVELOPERS = "INSERT INTO developers (name, email, role, project_id, created_at, updated_at, version) "
+            + "SELECT 'Developer ' || ? || '-' || g, ? || '-' || ? || '-' || g || '@example.com', "
+            + "(ARRAY['Engineer', 'Senior Engineer', 'Tester', 'Designer', 'Lead'])[1 + g % 5], ?, ?, ?, 0 "
+            + "FROM generate_series(1, ?) g ORDER BY g RETURNING id";
+
+    private static final String INSERT_TASKS = "INSERT INTO tasks (id, title, description, status, due_date, project_id, "
+            + "assigned_to_id, created_at, updated_at, version, started_at) "
+            + "SELECT * FROM unnest(CAST(? AS bigint[]), CAST(? AS varchar[]), CAST(? AS text[]), CAST(? AS varchar[]), "
+            + "CAST(? AS date[]), CAST(? AS bigint[]), CAST(? AS bigint[]), CAST(? AS timestamp[]), CAST(? AS timestamp[]), "
+            + "CAST(? AS bigint[]), CAST(? AS timestamp[]))";
+
+    private static final String GENERATED_PROJECTS = "SELECT id FROM projects WHERE name LIKE ? || '-project-%'";
+
+    // Created tasks open the backlog on their creation day and close it again on their completion day
+    private static final String REBUILD_FLOW = "INSERT INTO project_daily_flow (project_id, day, open_delta, completed_count) "
+            + "SELECT project_id, day, SUM(opened) - SUM(completed), SUM(completed) FROM ("
+            + "SELECT project_id, CAST(created_at AS date) AS day, 1 AS opened, 0 AS completed FROM tasks WHERE project_id IN (" + GENERATED_PROJECTS + ") "
+            + "UNION ALL SELECT project_id, CAST(updated_at AS date), 0, 1 FROM tasks "
+            + "WHERE status = 'COMPLETED' AND project_id IN (" + GENERATED_PROJECTS + ")) f GROUP BY project_id, day";
+
+    // Same bucketing as tasks_maintain_flow()
+    private static final String REBUILD_CYCLE_TIME = "INSERT INTO project_cycle_time_stats (project_id, day, bucket, task_count) "
+            + "SELECT project_id, CAST(updated_at AS date), "
+            + "CAST(FLOOR(LN(GREATEST(EXTRACT(EPOCH FROM updated_at - started_at), 1)) / LN(1.1)) AS int), COUNT(*) "
+            + "FROM tasks WHERE status = 'COMPLETED' AND started_at IS NOT NULL AND project_id IN (" + GENERATED_PROJECTS + ") "
+            + "GROUP BY 1, 2, 3";
+
+    private static final String[] VERBS = {"Fix", "Implement", "Refactor", "Document", "Test", "Review", "Migrate", "Optimize",
+            "Design", "Investigate"};
+    private static final String[] SUBJECTS = {"login flow", "payment gateway", "search index", "export job", "user profile",
+            "notification service", "report builder", "access control", "audit log", "dashboard widgets", "API pagination",
+            "cache invalidation", "file upload", "onboarding wizard", "billing emails"};
+    private static final String[] DETAILS = {"Customers reported intermittent failures.", "Blocked until the API contract is agreed.",
+            "Needs a database migration.", "Follow-up from the last incident review.", "Covered by the quarterly roadmap.",
+            "Performance regression after the last release.", "Requested by the support team."};
+
+    private final DataGeneratorProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext context;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void generateAndExit() {
+        int exitCode = 0;
+        try {
+            generate();
+        } catch (RuntimeException ex) {
+            log.error("Synthetic data generation failed", ex);
+            exitCode = 1;
+        }
+        int status = exitCode;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+
+    // Loads one data set into the current database; the datagen profile runs it once at startup and exits
+    public void generate() {
+        long started = System.nanoTime();
+        String prefix = properties.getNamePrefix().isBlank() ? "gen" + System.currentTimeMillis() / 1000 : properties.getNamePrefix();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Timestamp projectsCreated = Timestamp.valueOf(now.minusDays(properties.getHistoryDays() + 1L));
+
+        List<Long> projectIds = jdbcTemplate.queryForList(INSERT_PROJECTS, Long.class,
+                prefix, projectsCreated, projectsCreated, properties.getProjects());
+
+        long[] developerCounts = zipfSplit(properties.getDevelopers(), projectIds.size(), properties.getDeveloperSkew());
+        long[][] developerIds = new long[projectIds.size()][];
+        for (int p = 0; p < projectIds.size(); p++) {
+            developerIds[p] = insertDevelopers(prefix, "p" + projectIds.get(p), projectIds.get(p), developerCounts[p], projectsCreated);
+        }
+        insertDevelopers(prefix, "free", null, properties.getUnassignedDevelopers(), projectsCreated);
+        log.info("Generated {} projects and {} developers ({} without a project)", projectIds.size(),
+                properties.getDevelopers() + properties.getUnassignedDevelopers(), properties.getUnassignedDevelopers());
+
+        long[] taskCounts = zipfSplit(properties.getTasks(), projectIds.size(), properties.getTaskSkew());
+        TaskChunk chunk = new TaskChunk(properties.getChunkSize());
+        long written = 0;
+        for (int p = 0; p < projectIds.size(); p++) {
+            for (long i = 0; i < taskCounts[p]; i++) {
+                chunk.add(nextTask(random, now, projectIds.get(p), developerIds[p]));
+                if (chunk.size() == properties.getChunkSize()) {
+                    written += insertTasks(chunk);
+                    log.info("Inserted {} of {} tasks", written, properties.getTasks());
+                }
+            }
+        }
+        written += insertTasks(chunk);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM project_daily_flow WHERE project_id IN (" + GENERATED_PROJECTS + ")", prefix);
+            jdbcTemplate.update(REBUILD_FLOW, prefix, prefix);
+            jdbcTemplate.update("DELETE FROM project_cycle_time_stats WHERE project_id IN (" + GENERATED_PROJECTS + ")", prefix);
+            jdbcTemplate.update(REBUILD_CYCLE_TIME, prefix);
+        });
+        jdbcTemplate.execute("ANALYZE projects, developers, tasks");
+        log.info("Generated {} tasks for prefix '{}' in {} s", written, prefix, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private long[] insertDevelopers(String prefix, String group, Long projectId, long count, Timestamp created) {
+        if (count == 0) {
+            return new long[0];
+        }
+        return jdbcTemplate.queryForList(INSERT_DEVELOPERS, Long.class, group, prefix, group, projectId, created, created, count)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private TaskRow nextTask(SplittableRandom random, LocalDateTime now, long projectId, long[] developers) {
+        TaskStatus status = pickStatus(random);
+
+        // More recent tasks than old ones: the square of a uniform variable leans towards zero
+        double ageDays = properties.getHistoryDays() * Math.pow(random.nextDouble(), 2);
+        LocalDateTime created = now.minusSeconds((long) (ageDays * 86_400));
+        LocalDateTime startedAt = null;
+        LocalDateTime updated = created;
+        // tasks_started_at_insert restamps IN_DEVELOPMENT rows with the load time; completed ones keep this start
+        if (status != TaskStatus.BACKLOG) {
+            startedAt = min(created.plusSeconds(logNormalSeconds(random, properties.getMedianWaitDays(), 1.0)), now);
+            updated = startedAt;
+        }
+        if (status == TaskStatus.COMPLETED) {
+            updated = min(startedAt.plusSeconds(logNormalSeconds(random, properties.getMedianCycleDays(), 0.9)), now);
+        }
+
+        LocalDate dueDate = random.nextDouble() < properties.getDueDateShare()
+                ? created.toLocalDate().plusDays(Math.max(1, logNormalSeconds(random, 14, 0.8) / 86_400))
+                : null;
+
+        Long assignee = null;
+        boolean assigned = status == TaskStatus.COMPLETED || random.nextDouble() < properties.getAssignedShare();
+        if (assigned && developers.length > 0) {
+            // A few developers carry most of a project's work
+            assignee = developers[(int) (developers.length * Math.pow(random.nextDouble(), 1.5))];
+        }
+
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        String title = VERBS[random.nextInt(VERBS.length)] + " " + subject;
+        String description = random.nextDouble() < 0.6
+                ? "The " + subject + " needs attention. " + DETAILS[random.nextInt(DETAILS.length)]
+                : null;
+        long version = status == TaskStatus.BACKLOG ? 0 : 1 + random.nextInt(4);
+        return new TaskRow(title, description, status, dueDate, projectId, assignee, created, updated, version, startedAt);
+    }
+
+    private TaskStatus pickStatus(SplittableRandom random) {
+        Map<TaskStatus, Double> mix = properties.getStatusMix();
+        double total = mix.values().stream().mapToDouble(Double::doubleValue).sum();
+        double pick = random.nextDouble() * total;
+        for (Map.Entry<TaskStatus, Double> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        return TaskStatus.BACKLOG;
+    }
+
+    // Ids come from tasks_seq in whole blocks of its increment (Hibernate's pooled optimizer hands out
+    // value - increment + 1 .. value), so the application never generates an id used here
+    private long insertTasks(TaskChunk chunk) {
+        int size = chunk.size();
+        if (size == 0) {
+            return 0;
+        }
+        long increment = jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'tasks_seq'", Long.class);
+        List<Long> blocks = jdbcTemplate.queryForList("SELECT nextval('tasks_seq') FROM generate_series(1, ?)", Long.class,
+                (size + increment - 1) / increment);
+        Long[] ids = new Long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = blocks.get((int) (i / increment)) - increment + 1 + i % increment;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TASKS)) {
+                statement.setArray(1, connection.createArrayOf("bigint", ids));
+                statement.setArray(2, array(connection, "varchar", chunk.titles));
+                statement.setArray(3, array(connection, "text", chunk.descriptions));
+                statement.setArray(4, array(connection, "varchar", chunk.statuses));
+                statement.setArray(5, array(connection, "date", chunk.dueDates));
+                statement.setArray(6, array(connection, "bigint", chunk.projectIds));
+                statement.setArray(7, array(connection, "bigint", chunk.assigneeIds));
+                statement.setArray(8, array(connection, "timestamp", chunk.createdAt));
+                statement.setArray(9, array(connection, "timestamp", chunk.updatedAt));
+                statement.setArray(10, array(connection, "bigint", chunk.versions));
+                statement.setArray(11, array(connection, "timestamp", chunk.startedAt));
+                return statement.executeUpdate();
+            }
+        }));
+        chunk.clear();
+        return size;
+    }
+
+    private static Array array(Connection connection, String type, List<?> values) throws java.sql.SQLException {
+        return connection.createArrayOf(type, values.toArray());
+    }
+
+    // Splits total over n buckets in proportion to 1/k^skew (largest remainder, so the counts add up exactly)
+    static long[] zipfSplit(long total, int n, double skew) {
+        long[] counts = new long[n];
+        if (n == 0) {
+            return counts;
+        }
+        double[] weights = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1 / Math.pow(k + 1, skew);
+            sum += weights[k];
+        }
+        long assigned = 0;
+        double[] remainders = new double[n];
+        for (int k = 0; k < n; k++) {
+            double exact = total * weights[k] / sum;
+            counts[k] = (long) exact;
+            remainders[k] = exact - counts[k];
+            assigned += counts[k];
+        }
+        for (long left = total - assigned; left > 0; left--) {
+            int best = 0;
+            for (int k = 1; k < n; k++) {
+                if (remainders[k] > remainders[best]) {
+                    best = k;
+                }
+            }
+            counts[best]++;
+            remainders[best] = -1;
+        }
+        return counts;
+    }
+
+    private static long logNormalSeconds(SplittableRandom random, double medianDays, double sigma) {
+        // Box-Muller; exp(N(0, sigma)) has median 1
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        return (long) (medianDays * 86_400 * Math.exp(sigma * gaussian));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record TaskRow(String title, String description, TaskStatus status, LocalDate dueDate, long projectId, Long assigneeId,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, long version, LocalDateTime startedAt) {
+    }
+
+    // Column-wise buffer of one chunk, handed to PostgreSQL as one array per column
+    private static final class TaskChunk {
+        private final List<String> titles;
+        private final List<String> descriptions;
+        private final List<String> statuses;
+        private final List<Date> dueDates;
+        private final List<Long> projectIds;
+        private final List<Long> assigneeIds;
+        private final List<Timestamp> createdAt;
+        private final List<Timestamp> updatedAt;
+        private final List<Long> versions;
+        private final List<Timestamp> startedAt;
+
+        TaskChunk(int capacity) {
+            titles = new ArrayList<>(capacity);
+            descriptions = new ArrayList<>(capacity);
+            statuses = new ArrayList<>(capacity);
+            dueDates = new ArrayList<>(capacity);
+            projectIds = new ArrayList<>(capacity);
+            assigneeIds = new ArrayList<>(capacity);
+            createdAt = new ArrayList<>(capacity);
+            updatedAt = new ArrayList<>(capacity);
+            versions = new ArrayList<>(capacity);
+            startedAt = new ArrayList<>(capacity);
+        }
+
+        void add(TaskRow row) {
+            titles.add(row.title());
+            descriptions.add(row.description());
+            statuses.add(row.status().name());
+            dueDates.add(row.dueDate() != null ? Date.valueOf(row.dueDate()) : null);
+            projectIds.add(row.projectId());
+            assigneeIds.add(row.assigneeId());
+            createdAt.add(Timestamp.valueOf(row.createdAt()));
+            updatedAt.add(Timestamp.valueOf(row.updatedAt()));
+            versions.add(row.version());
+            startedAt.add(row.startedAt() != null ? Timestamp.valueOf(row.startedAt()) : null);
+        }
+
+        int size() {
+            return titles.size();
+        }
+
+        void clear() {
+            titles.clear();
+            descriptions.clear();
+            statuses.clear();
+            dueDates.clear();
+            projectIds.clear();
+            assigneeIds.clear();
+            createdAt.clear();
+            updatedAt.clear();
+            versions.clear();
+            startedAt.clear();
+        }
+    }
+}
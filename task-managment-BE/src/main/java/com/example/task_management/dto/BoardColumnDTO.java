@@ -0,0 +1,26 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumnDTO {
+    
+    private TaskStatus status;
+    
+    // All tasks in this column, not just the ones returned
+    private long total;
+    
+    private List<TaskDTO> items;
+    
+    // Pass with ?status= to load more of this column
+    private String next;
+    
+    private boolean hasNext;
+}
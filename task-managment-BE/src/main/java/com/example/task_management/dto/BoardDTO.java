@@ -0,0 +1,18 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardDTO {
+    
+    private Long projectId;
+    
+    // One column per TaskStatus, in declaration order
+    private List<BoardColumnDTO> columns;
+}
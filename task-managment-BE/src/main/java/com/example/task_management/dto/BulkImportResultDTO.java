@@ -0,0 +1,21 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private int received;
+    
+    private int imported;
+    
+    private int failed;
+    
+    private List<BulkItemErrorDTO> errors = new ArrayList<>();
+}
@@ -0,0 +1,15 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemErrorDTO {
+    // Zero-based position of the item in the submitted array or NDJSON stream
+    private int index;
+    
+    private String message;
+}
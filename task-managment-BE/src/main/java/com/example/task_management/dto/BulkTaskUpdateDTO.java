@@ -0,0 +1,27 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateDTO {
+    // Either an explicit list of task ids...
+    private List<Long> taskIds;
+    
+    // ...or a filter (status changes only): every task of a project, optionally only those in fromStatus
+    private Long projectId;
+    
+    private TaskStatus fromStatus;
+    
+    // Target status for PATCH /tasks/status
+    private TaskStatus status;
+    
+    // Target developer for PATCH /tasks/assign
+    private Long developerId;
+}
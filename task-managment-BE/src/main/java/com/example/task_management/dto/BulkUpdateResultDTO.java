@@ -0,0 +1,22 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateResultDTO {
+    // Number of ids submitted, or null when a filter was used
+    private Integer requested;
+    
+    private int affected;
+    
+    // Submitted ids that were not changed, by position in taskIds: no live task (deleted or archived), or for
+    // assignment a task outside the developer's project. Ids already in the target state are not errors.
+    private List<BulkItemErrorDTO> errors = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownDTO {
+    
+    private Long projectId;
+    
+    private LocalDate from;
+    
+    private LocalDate to;
+    
+    // One point per day, oldest first
+    private List<BurndownPointDTO> points;
+}
@@ -0,0 +1,18 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointDTO {
+    
+    private LocalDate date;
+    
+    // Live tasks that were not COMPLETED at the end of the day
+    private long remaining;
+}
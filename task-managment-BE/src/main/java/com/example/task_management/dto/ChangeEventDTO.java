@@ -0,0 +1,26 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDTO {
+    
+    private EntityType entityType;
+    
+    private ChangeType changeType;
+    
+    // Null for set-based changes; clients refetch the affected list instead
+    private Long entityId;
+    
+    private Long projectId;
+    
+    // The entity's @Version after the change, comparable with the X-Entity-Tag/If-Match version; clients holding
+    // this version or newer can skip the refetch. Null for set-based changes.
+    private Long version;
+}
@@ -0,0 +1,21 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    
+    // Opaque cursor to pass back as ?cursor= for the next page, null on the last page
+    private String next;
+    
+    private boolean hasNext;
+    
+    private int size;
+}
@@ -0,0 +1,28 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// IN_DEVELOPMENT -> COMPLETED cycle times of the tasks completed in [from, to]. Percentiles come from a
+// logarithmic histogram and are accurate to within about 5%; null when nothing was completed.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CycleTimeDTO {
+    
+    private Long projectId;
+    
+    private LocalDate from;
+    
+    private LocalDate to;
+    
+    // Completions with a known start; tasks completed straight from BACKLOG have no cycle time
+    private long sampleCount;
+    
+    private Long medianSeconds;
+    
+    private Long p90Seconds;
+}
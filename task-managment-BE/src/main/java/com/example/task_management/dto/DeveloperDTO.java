@@ -27,7 +27,13 @@ public class DeveloperDTO {
     
     private String projectName;
     
+    // Live tasks only; archived tasks (see TaskArchiveService) are not counted
     private Integer taskCount;
     
     private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    // Optimistic-lock version; send it back (or as If-Match) on updates to detect concurrent edits
+    private Long version;
 }
\ No newline at end of file
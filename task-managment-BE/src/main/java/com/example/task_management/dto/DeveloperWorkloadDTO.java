@@ -0,0 +1,18 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperWorkloadDTO {
+    
+    private Long developerId;
+    
+    private String developerName;
+    
+    // Tasks assigned to the developer in this project that are not COMPLETED
+    private long openTaskCount;
+}
@@ -20,9 +20,13 @@ public class ProjectDTO {
     
     private Integer developerCount;
     
+    // Live tasks only; archived tasks (see TaskArchiveService) are not counted
     private Integer taskCount;
     
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
+    
+    // Optimistic-lock version; send it back (or as If-Match) on updates to detect concurrent edits
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Dashboard figures for live tasks; archived tasks are not counted
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatsDTO {
+    
+    private Long projectId;
+    
+    private long taskCount;
+    
+    // Every TaskStatus, zero when the project has no such tasks
+    private Map<TaskStatus, Long> statusCounts;
+    
+    // Open tasks whose due date is before asOf
+    private long overdueCount;
+    
+    private long unassignedOpenCount;
+    
+    // Developers with open tasks, busiest first
+    private List<DeveloperWorkloadDTO> developers;
+    
+    private LocalDate asOf;
+}
@@ -0,0 +1,25 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+    
+    // Current state of tasks created or updated since the token; may repeat rows already received
+    private List<TaskDTO> changed;
+    
+    // Ids of tasks deleted since the token
+    private List<Long> deleted;
+    
+    // Pass back as ?since= for the next call
+    private String token;
+    
+    // True while the current window has more pages; call again right away
+    private boolean hasMore;
+}
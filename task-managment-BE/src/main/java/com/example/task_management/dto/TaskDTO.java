@@ -38,4 +38,7 @@ public class TaskDTO {
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
+    
+    // Optimistic-lock version; send it back (or as If-Match) on updates to detect concurrent edits
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.TaskStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class TaskEventDTO {
+    
+    private Long seq;
+    
+    private Long taskId;
+    
+    private Long projectId;
+    
+    private ChangeType changeType;
+    
+    private Long taskVersion;
+    
+    // Null when the change was made by a set-based update that did not read the old value
+    private TaskStatus fromStatus;
+    
+    private TaskStatus toStatus;
+    
+    private Long fromAssigneeId;
+    
+    private Long toAssigneeId;
+    
+    private List<String> changedFields;
+    
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,40 @@
+package com.example.task_management.dto;
+
+import com.example.task_management.constants.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Query parameters of GET /api/v1/tasks; every criterion is optional and they combine with AND
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDTO {
+    
+    private Long projectId;
+    
+    private Long assigneeId;
+    
+    // Only tasks without an assignee; cannot be combined with assigneeId
+    private Boolean unassigned;
+    
+    // ?status=BACKLOG,IN_DEVELOPMENT matches any of the listed statuses
+    private List<TaskStatus> status;
+    
+    // Exclusive bounds; tasks without a due date never match a due-date bound
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueAfter;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueBefore;
+    
+    // Also return COMPLETED tasks that were moved to the archive
+    private Boolean includeArchived;
+    
+    // field[,asc|desc] where field is id, dueDate or updatedAt; defaults to id,asc
+    private String sort;
+}
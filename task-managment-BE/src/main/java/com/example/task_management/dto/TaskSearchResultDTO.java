@@ -0,0 +1,22 @@
+package com.example.task_management.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// A task search hit: the regular task fields plus its relevance and highlighted excerpts
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class TaskSearchResultDTO extends TaskDTO {
+    
+    private float rank;
+    
+    // Safe HTML: the task text is escaped (&, <, >) and matched terms are wrapped in <mark></mark>, so it can be
+    // inserted as element content as is. Not for use inside attribute values.
+    private String titleHighlight;
+    
+    private String descriptionHighlight;
+}
@@ -0,0 +1,24 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputDTO {
+    
+    private Long projectId;
+    
+    // Widened to the Monday of its week so the first week is complete
+    private LocalDate from;
+    
+    private LocalDate to;
+    
+    // Every week in the range, including weeks without completions
+    private List<ThroughputWeekDTO> weeks;
+}
@@ -0,0 +1,19 @@
+package com.example.task_management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThroughputWeekDTO {
+    
+    // Monday of the ISO week
+    private LocalDate weekStart;
+    
+    // Transitions into COMPLETED during the week
+    private long completedCount;
+}
@@ -0,0 +1,236 @@
+package com.example.task_management.event;
+
+import com.example.task_management.config.EventStreamProperties;
+import com.example.task_management.dto.ChangeEventDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Fans committed changes out to SSE subscribers. Publishing only enqueues; socket writes happen on a
+// small dispatcher pool, and a subscriber whose buffer fills up is disconnected instead of slowing others.
+// A write blocked past the write timeout gets its subscriber evicted and its thread replaced, so a few
+// stalled clients cannot hold the whole pool.
+@Component
+public class ChangeEventBroadcaster {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final EventStreamProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Set<ChangeSubscriber> allProjects = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<ChangeSubscriber>> byProject = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService heartbeat;
+
+    public ChangeEventBroadcaster(EventStreamProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dispatcher = new ThreadPoolExecutor(properties.getDispatcherThreads(), properties.getDispatcherThreads(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), daemonThreads("sse-dispatch-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("sse-heartbeat-"));
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+        long check = Math.max(properties.getWriteTimeout().toMillis() / 2, 1);
+        heartbeat.scheduleAtFixedRate(this::evictStuckWriters, check, check, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long projectId) {
+        return subscribe(new SseEmitter(properties.getTimeout().toMillis()), projectId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long projectId) {
+        ChangeSubscriber subscriber = new ChangeSubscriber(emitter, projectId, properties.getBufferSize());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+
+        if (projectId == null) {
+            allProjects.add(subscriber);
+        } else {
+            byProject.compute(projectId, (id, subscribers) -> {
+                Set<ChangeSubscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                set.add(subscriber);
+                return set;
+            });
+        }
+        subscriberCount.incrementAndGet();
+
+        // Sent through the queue so it cannot interleave with the first published change
+        deliver(subscriber, SseEmitter.event()
+                .reconnectTime(properties.getReconnectTime().toMillis())
+                .comment("connected")
+                .build());
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        ChangeEventDTO change = new ChangeEventDTO(event.getEntityType(), event.getChangeType(), event.getEntityId(),
+                event.getProjectId(), event.getEntityVersion());
+
+        // Serialized once and shared by every subscriber
+        Set<DataWithMediaType> frame = SseEmitter.event()
+                .name(change.getEntityType().name().toLowerCase(Locale.ROOT))
+                .data(objectMapper.writeValueAsString(change), MediaType.APPLICATION_JSON)
+                .build();
+
+        allProjects.forEach(subscriber -> deliver(subscriber, frame));
+        if (event.getProjectId() != null) {
+            byProject.getOrDefault(event.getProjectId(), Set.of()).forEach(subscriber -> deliver(subscriber, frame));
+        } else {
+            // Set-based and project-less changes may concern any project
+            byProject.values().forEach(subscribers -> subscribers.forEach(subscriber -> deliver(subscriber, frame)));
+        }
+    }
+
+    private void sendHeartbeats() {
+        forEachSubscriber(subscriber -> deliver(subscriber, HEARTBEAT));
+    }
+
+    private void evictStuckWriters() {
+        long now = System.nanoTime();
+        long timeout = properties.getWriteTimeout().toNanos();
+        forEachSubscriber(subscriber -> {
+            if (subscriber.isWriteOverdue(now, timeout) && remove(subscriber)) {
+                // The blocked thread stays written off until the container's own timeout fails the write;
+                // a replacement keeps the other subscribers moving meanwhile
+                subscriber.markStuck();
+                resizeDispatcher(1);
+            }
+        });
+    }
+
+    private void deliver(ChangeSubscriber subscriber, Set<DataWithMediaType> frame) {
+        if (!subscriber.offer(frame)) {
+            drop(subscriber);
+            return;
+        }
+        if (subscriber.claimDrain()) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(ChangeSubscriber subscriber) {
+        try {
+            Set<DataWithMediaType> frame;
+            while (!subscriber.isClosed() && (frame = subscriber.poll()) != null) {
+                subscriber.beginWrite();
+                try {
+                    subscriber.getEmitter().send(frame);
+                } finally {
+                    subscriber.endWrite();
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the emitter already completed
+            remove(subscriber);
+        } finally {
+            if (subscriber.clearStuck()) {
+                resizeDispatcher(-1);
+            }
+            subscriber.releaseDrain();
+        }
+        if (subscriber.isClosed()) {
+            completeIfIdle(subscriber);
+        } else if (subscriber.hasPending() && subscriber.claimDrain()) {
+            // A frame may have arrived between the last poll and releasing the claim
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drop(ChangeSubscriber subscriber) {
+        if (remove(subscriber)) {
+            completeIfIdle(subscriber);
+        }
+    }
+
+    // complete() waits for an in-flight write, so it runs only while no write is in flight: here when the
+    // drain claim is free, otherwise in the drain itself once its write returns
+    private void completeIfIdle(ChangeSubscriber subscriber) {
+        if (subscriber.claimDrain()) {
+            subscriber.getEmitter().complete();
+        }
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        int size = dispatcher.getMaximumPoolSize() + delta;
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void forEachSubscriber(Consumer<ChangeSubscriber> action) {
+        allProjects.forEach(action);
+        byProject.values().forEach(subscribers -> subscribers.forEach(action));
+    }
+
+    private boolean remove(ChangeSubscriber subscriber) {
+        boolean removed;
+        if (subscriber.getProjectId() == null) {
+            removed = allProjects.remove(subscriber);
+        } else {
+            // Per-key compute keeps removal of an emptied set atomic with a concurrent subscribe
+            AtomicBoolean found = new AtomicBoolean();
+            byProject.computeIfPresent(subscriber.getProjectId(), (id, subscribers) -> {
+                found.set(subscribers.remove(subscriber));
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            removed = found.get();
+        }
+        if (removed) {
+            subscriberCount.decrementAndGet();
+            subscriber.close();
+        }
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        forEachSubscriber(this::drop);
+        dispatcher.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.task_management.event;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One open stream. The queue is linked rather than preallocated, so idle subscribers stay small.
+@Getter
+class ChangeSubscriber {
+
+    private final SseEmitter emitter;
+
+    // Null subscribes to every project
+    private final Long projectId;
+
+    private final int capacity;
+
+    private final Queue<Set<DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    // At most one dispatcher task per subscriber, so frames are written in order
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // Set once the subscriber is removed; the drain that owns the emitter completes it
+    private volatile boolean closed;
+
+    // Start of the socket write in flight, for the write-timeout watchdog. The writing thread itself is not
+    // kept: a servlet write blocked on the socket ignores interrupts, so it can only be written off.
+    private volatile long writeStartedNanos;
+
+    // Written off by the watchdog while its write was still blocked
+    private final AtomicBoolean stuck = new AtomicBoolean();
+
+    ChangeSubscriber(SseEmitter emitter, Long projectId, int capacity) {
+        this.emitter = emitter;
+        this.projectId = projectId;
+        this.capacity = capacity;
+    }
+
+    // False when the buffer is full
+    boolean offer(Set<DataWithMediaType> frame) {
+        if (closed) {
+            return true;
+        }
+        if (pendingCount.incrementAndGet() > capacity) {
+            pendingCount.decrementAndGet();
+            return false;
+        }
+        pending.add(frame);
+        return true;
+    }
+
+    Set<DataWithMediaType> poll() {
+        Set<DataWithMediaType> frame = pending.poll();
+        if (frame != null) {
+            pendingCount.decrementAndGet();
+        }
+        return frame;
+    }
+
+    boolean hasPending() {
+        return pendingCount.get() > 0;
+    }
+
+    boolean claimDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void releaseDrain() {
+        draining.set(false);
+    }
+
+    void close() {
+        closed = true;
+        while (poll() != null) {
+            // Undelivered frames are discarded
+        }
+    }
+
+    void beginWrite() {
+        writeStartedNanos = System.nanoTime();
+    }
+
+    void endWrite() {
+        writeStartedNanos = 0;
+    }
+
+    boolean isWriteOverdue(long now, long timeoutNanos) {
+        long started = writeStartedNanos;
+        return started != 0 && now - started > timeoutNanos;
+    }
+
+    void markStuck() {
+        stuck.set(true);
+    }
+
+    // True once per stuck write, for the drain that finally gets it back
+    boolean clearStuck() {
+        return stuck.compareAndSet(true, false);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.task_management.event;
+
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+// Published by the service layer inside the write transaction; listeners react after commit
+@Getter
+@ToString
+@AllArgsConstructor
+public class EntityChangedEvent {
+    private final EntityType entityType;
+    
+    private final ChangeType changeType;
+    
+    // Null for set-based changes that touch many rows
+    private final Long entityId;
+    
+    // Owning project, null when unknown or not applicable
+    private final Long projectId;
+    
+    // Entity @Version the change produced (for deletes, the version that was deleted); null for set-based changes
+    private final Long entityVersion;
+}
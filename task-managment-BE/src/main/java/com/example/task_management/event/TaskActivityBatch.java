@@ -0,0 +1,20 @@
+package com.example.task_management.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+// History entries of one set-based write (bulk updates, imports), published as a single event
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+@AllArgsConstructor
+public class TaskActivityBatch {
+    private final List<TaskActivityEvent> events;
+
+    @ToString.Include
+    public int size() {
+        return events.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.task_management.event;
+
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One entry of a task's history. Published inside the write transaction and recorded after commit
+// (TaskEventRecorder); "from" values are null when the writer did not read them (set-based updates).
+@Getter
+@ToString
+@AllArgsConstructor
+public class TaskActivityEvent {
+    private final Long taskId;
+    
+    private final Long projectId;
+    
+    private final ChangeType changeType;
+    
+    // Task version the change produced; for deletes, the version that was deleted
+    private final Long taskVersion;
+    
+    private final TaskStatus fromStatus;
+    
+    private final TaskStatus toStatus;
+    
+    private final Long fromAssigneeId;
+    
+    private final Long toAssigneeId;
+    
+    // Edited attributes, for UPDATED
+    private final List<String> changedFields;
+    
+    private final LocalDateTime occurredAt;
+}
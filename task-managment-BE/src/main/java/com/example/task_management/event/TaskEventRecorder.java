@@ -0,0 +1,226 @@
+package com.example.task_management.event;
+
+import com.example.task_management.config.HistoryProperties;
+import com.example.task_management.constants.HistoryDurability;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Writes task history off the request path. Committed events go into a bounded ring buffer and a single
+// background thread inserts them in JDBC batches, so a task write pays for an enqueue, not an INSERT.
+// A full buffer holds the writer back for up to enqueueTimeout; after that the durability mode decides.
+// Events still buffered when the process dies are lost, which is the price of writing after commit.
+@Slf4j
+@Component
+public class TaskEventRecorder implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO task_events (task_id, project_id, change_type, task_version, "
+            + "from_status, to_status, from_assignee_id, to_assignee_id, changed_fields, occurred_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final HistoryProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<TaskActivityEvent> buffer;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writtenThrough = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private Thread writer;
+    private volatile boolean running;
+
+    public TaskEventRecorder(HistoryProperties properties, JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        writer = new Thread(this::drain, "task-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            writer.interrupt();
+            log.warn("Task history writer did not drain in time, {} event(s) lost", buffer.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return writer != null;
+    }
+
+    // Starts before and stops after the web server, so requests still in flight at shutdown get their events
+    // drained; the DataSource is only closed once every lifecycle bean has stopped
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskActivity(TaskActivityEvent event) {
+        if (properties.isEnabled()) {
+            record(List.of(event));
+        }
+    }
+
+    // Set-based writes publish their rows as one list so overflow is written through in batches too
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaskActivities(TaskActivityBatch batch) {
+        if (properties.isEnabled()) {
+            record(batch.getEvents());
+        }
+    }
+
+    public long getBufferedCount() {
+        return buffer.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getWrittenThroughCount() {
+        return writtenThrough.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private void record(List<TaskActivityEvent> events) {
+        List<TaskActivityEvent> overflow = new ArrayList<>();
+        for (TaskActivityEvent event : events) {
+            if (!overflow.isEmpty() || !enqueue(event)) {
+                // Once the buffer is full, the rest of the list skips the wait
+                overflow.add(event);
+            }
+        }
+        if (overflow.isEmpty()) {
+            return;
+        }
+        // While the writer is not running nothing drains the buffer, so DURABLE writes those events through too
+        if (properties.getDurability() == HistoryDurability.DURABLE) {
+            for (int start = 0; start < overflow.size(); start += properties.getBatchSize()) {
+                List<TaskActivityEvent> chunk = overflow.subList(start, Math.min(start + properties.getBatchSize(), overflow.size()));
+                try {
+                    insert(chunk);
+                    writtenThrough.addAndGet(chunk.size());
+                } catch (DataAccessException ex) {
+                    // The task write has already committed, so its caller must not see an error for this
+                    long total = dropped.addAndGet(overflow.size() - start);
+                    log.error("Could not write through {} task history event(s), {} dropped in total",
+                            overflow.size() - start, total, ex);
+                    return;
+                }
+            }
+        } else {
+            long total = dropped.addAndGet(overflow.size());
+            log.warn("Task history buffer full: dropped {} event(s), {} in total", overflow.size(), total);
+        }
+    }
+
+    private boolean enqueue(TaskActivityEvent event) {
+        try {
+            return running && buffer.offer(event, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Batches grow with load: whatever queued up while the previous batch was written goes into the next one
+    private void drain() {
+        List<TaskActivityEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                TaskActivityEvent first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getBatchSize() - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException ex) {
+                // Shutdown gave up waiting; whatever is still buffered is lost
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // A batch that failed for a reason that can pass (lost or unavailable database, deadlock, timeout) is
+    // retried until it is written, so an outage fills the buffer and the durability mode takes over instead
+    // of events disappearing here. Any other failure would fail again on every retry and stall the buffer
+    // behind it, so that batch is logged and dropped. A pool that cannot hand out a connection reports a
+    // resource failure rather than a transient one, hence the third type.
+    private void writeWithRetry(List<TaskActivityEvent> batch) throws InterruptedException {
+        long backoff = 100;
+        while (true) {
+            try {
+                insert(batch);
+                written.addAndGet(batch.size());
+                return;
+            } catch (TransientDataAccessException | RecoverableDataAccessException | DataAccessResourceFailureException ex) {
+                log.warn("Could not write {} task history event(s), retrying in {} ms", batch.size(), backoff, ex);
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, properties.getMaxRetryBackoff().toMillis());
+            } catch (DataAccessException ex) {
+                long total = dropped.addAndGet(batch.size());
+                log.error("Dropped {} task history event(s) that cannot be written, {} dropped in total: {}",
+                        batch.size(), total, batch, ex);
+                return;
+            }
+        }
+    }
+
+    private void insert(List<TaskActivityEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setLong(1, event.getTaskId());
+            statement.setObject(2, event.getProjectId(), Types.BIGINT);
+            statement.setString(3, event.getChangeType().name());
+            statement.setObject(4, event.getTaskVersion(), Types.BIGINT);
+            statement.setString(5, event.getFromStatus() != null ? event.getFromStatus().name() : null);
+            statement.setString(6, event.getToStatus() != null ? event.getToStatus().name() : null);
+            statement.setObject(7, event.getFromAssigneeId(), Types.BIGINT);
+            statement.setObject(8, event.getToAssigneeId(), Types.BIGINT);
+            statement.setString(9, event.getChangedFields() != null && !event.getChangedFields().isEmpty()
+                    ? String.join(",", event.getChangedFields())
+                    : null);
+            statement.setTimestamp(10, Timestamp.valueOf(event.getOccurredAt()));
+        });
+    }
+}
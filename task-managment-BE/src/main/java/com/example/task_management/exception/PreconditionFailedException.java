@@ -0,0 +1,7 @@
+package com.example.task_management.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
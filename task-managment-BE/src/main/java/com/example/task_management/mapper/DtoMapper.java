@@ -0,0 +1,63 @@
+package com.example.task_management.mapper;
+
+import com.example.task_management.dto.DeveloperDTO;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Entity -> DTO mapping shared by the services. Only reads the entity and the values handed in, so the
+// counts and names a DTO needs are resolved by the caller (per batch where it can).
+@Component
+public class DtoMapper {
+
+    public TaskDTO toTaskDTO(Task task) {
+        TaskDTO dto = new TaskDTO();
+        dto.setId(task.getId());
+        dto.setTitle(task.getTitle());
+        dto.setDescription(task.getDescription());
+        dto.setStatus(task.getStatus());
+        dto.setDueDate(task.getDueDate());
+        dto.setProjectId(task.getProject().getId());
+        dto.setProjectName(task.getProject().getName());
+        dto.setAssignedToId(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
+        dto.setAssignedToName(task.getAssignedTo() != null ? task.getAssignedTo().getName() : null);
+        dto.setCreatedAt(task.getCreatedAt());
+        dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
+        return dto;
+    }
+
+    public ProjectDTO toProjectDTO(Project project, long developerCount, long taskCount) {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(project.getId());
+        dto.setName(project.getName());
+        dto.setDescription(project.getDescription());
+        dto.setDeveloperCount((int) developerCount);
+        dto.setTaskCount((int) taskCount);
+        dto.setCreatedAt(project.getCreatedAt());
+        dto.setUpdatedAt(project.getUpdatedAt());
+        dto.setVersion(project.getVersion());
+        return dto;
+    }
+
+    public DeveloperDTO toDeveloperDTO(Developer developer, Map<Long, String> projectNames, Map<Long, Long> taskCounts) {
+        Long projectId = developer.getProject() != null ? developer.getProject().getId() : null;
+        DeveloperDTO dto = new DeveloperDTO();
+        dto.setId(developer.getId());
+        dto.setName(developer.getName());
+        dto.setEmail(developer.getEmail());
+        dto.setRole(developer.getRole());
+        dto.setProjectId(projectId);
+        dto.setProjectName(projectId != null ? projectNames.get(projectId) : null);
+        dto.setTaskCount(taskCounts.getOrDefault(developer.getId(), 0L).intValue());
+        dto.setCreatedAt(developer.getCreatedAt());
+        dto.setUpdatedAt(developer.getUpdatedAt());
+        dto.setVersion(developer.getVersion());
+        return dto;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.task_management.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the statements Hibernate prepares on the current thread while a count is open (JPQL, criteria,
+// native queries and generated inserts/updates; a JDBC batch counts once). JdbcTemplate statements bypass
+// Hibernate and are not seen.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void open() {
+        COUNT.set(new int[1]);
+    }
+
+    // Statements since open(), or -1 when no count was open on this thread
+    public static int close() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : -1;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.task_management.model;
+
+import com.example.task_management.constants.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Read-only view of tasks_archive, a month-partitioned table created in schema.sql (Hibernate cannot
+// manage partitioned tables). Attribute names match Task so the same filters apply to both.
+@Entity
+@Immutable
+@Subselect("SELECT * FROM tasks_archive")
+@Synchronize("tasks_archive")
+@Data
+@NoArgsConstructor
+public class ArchivedTask {
+    
+    @Id
+    private Long id;
+    
+    private String title;
+    
+    private String description;
+    
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+    
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+    
+    // No foreign keys on the archive: rows outlive deleted developers
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id")
+    private Project project;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assigned_to_id")
+    private Developer assignedTo;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    private Long version;
+    
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
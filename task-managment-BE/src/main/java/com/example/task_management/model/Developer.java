@@ -1,17 +1,31 @@
 package com.example.task_management.model;
 
+import com.example.task_management.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "developers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.DEVELOPER_REGION)
+@NaturalIdCache(region = EntityCacheConfig.DEVELOPER_NATURAL_ID_REGION)
+@Table(name = "developers", indexes = {
+        @Index(name = "idx_developers_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_developers_project_updated_at", columnList = "project_id, updated_at"),
+        @Index(name = "idx_developers_name_change_txid", columnList = "name_change_txid")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,6 +38,7 @@ public class Developer {
     @Column(nullable = false)
     private String name;
     
+    @NaturalId(mutable = true)
     @Column(nullable = false, unique = true)
     private String email;
     
@@ -39,4 +54,19 @@ public class Developer {
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+    
+    // Nullable so the column can be added to existing tables; schema.sql backfills it from created_at.
+    // Also touched by task deletes to move conditional-GET validators, which must not bump the version.
+    @OptimisticLock(excluded = true)
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Nullable so the column can be added to existing tables; schema.sql backfills it
+    @Version
+    private Long version;
+    
+    // Id of the transaction that last renamed the developer; set by a trigger (schema.sql) for delta sync
+    @Column(name = "name_change_txid", insertable = false, updatable = false)
+    private Long nameChangeTxid;
 }
\ No newline at end of file
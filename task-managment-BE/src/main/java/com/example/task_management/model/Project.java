@@ -1,10 +1,16 @@
 package com.example.task_management.model;
 
+import com.example.task_management.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,7 +18,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.PROJECT_REGION)
+@NaturalIdCache(region = EntityCacheConfig.PROJECT_NATURAL_ID_REGION)
+// The name constraint is named so schema.sql can add it to databases created before names were unique
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_projects_name_change_txid", columnList = "name_change_txid")
+},
+        uniqueConstraints = @UniqueConstraint(name = "uk_projects_name", columnNames = "name"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +36,7 @@ public class Project {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId(mutable = true)
     @Column(nullable = false)
     private String name;
     
@@ -38,7 +53,18 @@ public class Project {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    // Also touched when tasks or developers leave the project, to move its conditional-GET validator;
+    // that must not bump the version
+    @OptimisticLock(excluded = true)
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+    
+    // Nullable so the column can be added to existing tables; schema.sql backfills it
+    @Version
+    private Long version;
+    
+    // Id of the transaction that last renamed the project; set by a trigger (schema.sql) for delta sync
+    @Column(name = "name_change_txid", insertable = false, updatable = false)
+    private Long nameChangeTxid;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.task_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Histogram of IN_DEVELOPMENT -> COMPLETED cycle times per project and completion day, maintained by the
+// same triggers as ProjectDailyFlow. Bucket b holds cycle times of roughly 1.1^b to 1.1^(b+1) seconds,
+// so percentiles over any range of days come from a few hundred rows at most.
+@Entity
+@Immutable
+@Table(name = "project_cycle_time_stats", indexes = @Index(name = "idx_project_cycle_time_stats_project_day", columnList = "project_id, day, bucket, task_count"))
+@IdClass(ProjectCycleTimeStats.Key.class)
+@Data
+@NoArgsConstructor
+public class ProjectCycleTimeStats {
+    
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Id
+    private LocalDate day;
+    
+    @Id
+    private int bucket;
+    
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private LocalDate day;
+        private int bucket;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.task_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Per project and day: net change in open (not COMPLETED) live tasks and the number of transitions into
+// COMPLETED. Written only by statement triggers on tasks (schema.sql); analytics read a range of days
+// instead of scanning tasks.
+@Entity
+@Immutable
+@Table(name = "project_daily_flow", indexes = @Index(name = "idx_project_daily_flow_project_day", columnList = "project_id, day, open_delta, completed_count"))
+@IdClass(ProjectDailyFlow.Key.class)
+@Data
+@NoArgsConstructor
+public class ProjectDailyFlow {
+    
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Id
+    private LocalDate day;
+    
+    // Tasks opened (created, reopened) minus tasks closed (completed, deleted) that day
+    @Column(name = "open_delta", nullable = false)
+    private long openDelta;
+    
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.task_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// Open (not COMPLETED) live tasks per project and due date, maintained by the same triggers as
+// ProjectTaskStats. "Overdue" moves with the calendar, so it is summed from these rows at read time.
+@Entity
+@Immutable
+@Table(name = "project_due_date_stats", indexes = @Index(name = "idx_project_due_date_stats_project_due_date", columnList = "project_id, due_date, open_count"))
+@IdClass(ProjectDueDateStats.Key.class)
+@Data
+@NoArgsConstructor
+public class ProjectDueDateStats {
+    
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Id
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+    
+    @Column(name = "open_count", nullable = false)
+    private long openCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private LocalDate dueDate;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.task_management.model;
+
+import com.example.task_management.constants.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+// Live task counts per (project, status, assignee). Written only by statement triggers on tasks
+// (schema.sql), so every write path - bulk updates, imports, archival, cascades - keeps it in step.
+@Entity
+@Immutable
+@Table(name = "project_task_stats", indexes = @Index(name = "idx_project_task_stats_project_id", columnList = "project_id"))
+@IdClass(ProjectTaskStats.Key.class)
+@Data
+@NoArgsConstructor
+public class ProjectTaskStats {
+    
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+    
+    // 0 for unassigned tasks: primary-key columns cannot be null
+    @Id
+    @Column(name = "assigned_to_id")
+    private Long assignedToId;
+    
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private TaskStatus status;
+        private Long assignedToId;
+    }
+}
@@ -12,14 +12,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_tasks_project_updated_at", columnList = "project_id, updated_at"),
+        @Index(name = "idx_tasks_assigned_to_updated_at", columnList = "assigned_to_id, updated_at"),
+        @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at"),
+        @Index(name = "idx_tasks_change_txid", columnList = "change_txid"),
+        @Index(name = "idx_tasks_project_status_id", columnList = "project_id, status, id"),
+        @Index(name = "idx_tasks_project_status_due_date", columnList = "project_id, status, due_date, id"),
+        @Index(name = "idx_tasks_assigned_to_status_id", columnList = "assigned_to_id, status, id"),
+        @Index(name = "idx_tasks_due_date", columnList = "due_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -50,4 +61,13 @@ public class Task {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+    
+    // Optimistic lock: every write checks and bumps it, so a concurrent writer gets a 409 instead of
+    // silently overwriting. Nullable so the column can be added to existing tables; schema.sql backfills it
+    @Version
+    private Long version;
+    
+    // Id of the last transaction that wrote the row; set by a trigger (schema.sql) for delta sync
+    @Column(name = "change_txid", insertable = false, updatable = false)
+    private Long changeTxid;
 }
\ No newline at end of file
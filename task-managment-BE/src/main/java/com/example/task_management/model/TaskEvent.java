@@ -0,0 +1,59 @@
+package com.example.task_management.model;
+
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.TaskStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// Append-only task history, inserted in JDBC batches by TaskEventRecorder. No foreign keys: the history
+// of a task outlives the task, its project and its assignees.
+@Entity
+@Immutable
+@Table(name = "task_events", indexes = @Index(name = "idx_task_events_task_id_seq", columnList = "task_id, seq"))
+@Data
+@NoArgsConstructor
+public class TaskEvent {
+    
+    // Order in which events were recorded
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+    
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+    
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+    
+    @Column(name = "task_version")
+    private Long taskVersion;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private TaskStatus fromStatus;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status")
+    private TaskStatus toStatus;
+    
+    @Column(name = "from_assignee_id")
+    private Long fromAssigneeId;
+    
+    @Column(name = "to_assignee_id")
+    private Long toAssigneeId;
+    
+    // Comma-separated attribute names
+    @Column(name = "changed_fields")
+    private String changedFields;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
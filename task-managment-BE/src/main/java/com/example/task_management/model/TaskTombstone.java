@@ -0,0 +1,34 @@
+package com.example.task_management.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Written by a delete trigger on tasks (schema.sql), so project and developer cascades are recorded too
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_deleted_txid", columnList = "deleted_txid"),
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    
+    // Task ids come from a sequence and are never reused
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+    
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Column(name = "deleted_txid", nullable = false)
+    private Long deletedTxid;
+    
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
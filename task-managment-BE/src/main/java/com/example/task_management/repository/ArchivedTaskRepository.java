@@ -0,0 +1,68 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.ArchivedTask;
+import com.example.task_management.repository.projection.RowVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    @Query("SELECT new com.example.task_management.dto.TaskDTO("
+            + "t.id, t.title, t.description, t.status, t.dueDate, p.id, p.name, d.id, d.name, t.createdAt, t.updatedAt, t.version) "
+            + "FROM ArchivedTask t JOIN t.project p LEFT JOIN t.assignedTo d WHERE t.id = :id")
+    Optional<TaskDTO> findDTOById(@Param("id") Long id);
+
+    @Query("SELECT t.version AS version, GREATEST(t.updatedAt, p.updatedAt, COALESCE(d.updatedAt, t.updatedAt)) AS lastModified "
+            + "FROM ArchivedTask t JOIN t.project p LEFT JOIN t.assignedTo d WHERE t.id = :id")
+    Optional<RowVersion> findRowVersionById(@Param("id") Long id);
+
+    // Archival batch: oldest eligible tasks first, straight off the (status, updated_at) index. Rows stay
+    // locked until the batch commits; rows locked by a concurrent edit are skipped, not waited for.
+    @Query(value = "SELECT id FROM tasks WHERE status = 'COMPLETED' AND updated_at < :cutoff "
+            + "ORDER BY updated_at LIMIT :batchSize FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableTaskIds(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    @Query(value = "SELECT DISTINCT project_id FROM tasks WHERE id IN :ids", nativeQuery = true)
+    List<Long> findProjectIdsOfTasks(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT DISTINCT assigned_to_id FROM tasks WHERE id IN :ids AND assigned_to_id IS NOT NULL", nativeQuery = true)
+    List<Long> findAssigneeIdsOfTasks(@Param("ids") Collection<Long> ids);
+
+    // Creates any missing monthly partition the batch will land in; returns the partition names
+    @Query(value = "SELECT tasks_archive_ensure_partition(m) FROM "
+            + "(SELECT DISTINCT CAST(date_trunc('month', updated_at) AS date) AS m FROM tasks WHERE id IN :ids) months",
+            nativeQuery = true)
+    List<String> ensurePartitionsForTasks(@Param("ids") Collection<Long> ids);
+
+    // Delete and insert in one statement: a task is either live or archived, never both or neither.
+    // The declared query spaces keep Hibernate from evicting every second-level cache region after it.
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_archive")
+    })
+    @Query(value = "WITH moved AS (DELETE FROM tasks WHERE id IN :ids "
+            + "RETURNING id, title, description, status, due_date, project_id, assigned_to_id, created_at, updated_at, version) "
+            + "INSERT INTO tasks_archive (id, title, description, status, due_date, project_id, assigned_to_id, created_at, updated_at, version, archived_at) "
+            + "SELECT id, title, description, status, due_date, project_id, assigned_to_id, created_at, updated_at, version, LOCALTIMESTAMP FROM moved",
+            nativeQuery = true)
+    int moveToArchive(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_archive"))
+    @Query(value = "DELETE FROM tasks_archive WHERE project_id = :projectId", nativeQuery = true)
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,16 +1,40 @@
 package com.example.task_management.repository;
 
 import com.example.task_management.model.Developer;
+import com.example.task_management.repository.projection.IdCount;
+import com.example.task_management.repository.projection.IdName;
+import com.example.task_management.repository.projection.RowVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface DeveloperRepository extends JpaRepository<Developer, Long> {
-    Optional<Developer> findByEmail(String email);
-    boolean existsByEmail(String email);
-    List<Developer> findByProjectId(Long projectId);
-    List<Developer> findByProjectIsNull();
-}
\ No newline at end of file
+public interface DeveloperRepository extends JpaRepository<Developer, Long>, DeveloperRepositoryCustom {
+
+    long countByProjectId(Long projectId);
+
+    @Query("SELECT d.id AS id, d.name AS name FROM Developer d WHERE d.id IN :ids")
+    List<IdName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Delta sync: developers renamed by a transaction at or after the window's snapshot xmin
+    @Query("SELECT d.id FROM Developer d WHERE d.nameChangeTxid >= :sinceTxid")
+    List<Long> findIdsRenamedSince(@Param("sinceTxid") Long sinceTxid);
+
+    @Query("SELECT d.project.id AS id, COUNT(d) AS count FROM Developer d WHERE d.project.id IN :projectIds GROUP BY d.project.id")
+    List<IdCount> countByProjectIds(@Param("projectIds") List<Long> projectIds);
+
+    Slice<Developer> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    Slice<Developer> findByProjectIdAndIdGreaterThanOrderByIdAsc(Long projectId, Long afterId, Pageable pageable);
+    Slice<Developer> findByProjectIsNullAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query("SELECT d.version AS version, GREATEST(d.updatedAt, COALESCE(p.updatedAt, d.updatedAt)) AS lastModified "
+            + "FROM Developer d LEFT JOIN d.project p WHERE d.id = :id")
+    Optional<RowVersion> findRowVersionById(@Param("id") Long id);
+}
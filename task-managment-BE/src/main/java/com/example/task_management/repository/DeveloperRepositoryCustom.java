@@ -0,0 +1,10 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.Developer;
+
+import java.util.Optional;
+
+public interface DeveloperRepositoryCustom {
+    // Natural-id lookup: resolved through the second-level cache before hitting the database
+    Optional<Developer> findByEmail(String email);
+}
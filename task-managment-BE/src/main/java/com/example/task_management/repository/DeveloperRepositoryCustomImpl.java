@@ -0,0 +1,25 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.Developer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class DeveloperRepositoryCustomImpl implements DeveloperRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Like the derived finders, opens its own read-only transaction when called outside one; without it the
+    // unwrapped Session belongs to a throwaway EntityManager that is already closed
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Developer> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Developer.class)
+                .loadOptional(email);
+    }
+}
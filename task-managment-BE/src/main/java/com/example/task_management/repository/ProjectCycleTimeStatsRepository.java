@@ -0,0 +1,25 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.ProjectCycleTimeStats;
+import com.example.task_management.repository.projection.BucketCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectCycleTimeStatsRepository extends JpaRepository<ProjectCycleTimeStats, ProjectCycleTimeStats.Key> {
+
+    // The range's histogram, merged across days
+    @Query("SELECT c.bucket AS bucket, SUM(c.taskCount) AS count FROM ProjectCycleTimeStats c "
+            + "WHERE c.projectId = :projectId AND c.day BETWEEN :from AND :to GROUP BY c.bucket ORDER BY c.bucket")
+    List<BucketCount> findHistogram(@Param("projectId") Long projectId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_cycle_time_stats WHERE project_id = :projectId", nativeQuery = true)
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,35 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.ProjectDailyFlow;
+import com.example.task_management.repository.projection.DailyOpenDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectDailyFlowRepository extends JpaRepository<ProjectDailyFlow, ProjectDailyFlow.Key> {
+
+    // The days since from and today's open count in one statement, so both come from the same snapshot.
+    // Always returns a row: without activity since from there is one with a null day.
+    @Query(value = "SELECT f.day AS day, f.open_delta AS openDelta, s.open_count AS openCount "
+            + "FROM (SELECT CAST(COALESCE(SUM(task_count), 0) AS bigint) AS open_count FROM project_task_stats "
+            + "WHERE project_id = :projectId AND status <> 'COMPLETED') s "
+            + "LEFT JOIN project_daily_flow f ON f.project_id = :projectId AND f.day >= :from ORDER BY f.day",
+            nativeQuery = true)
+    List<DailyOpenDelta> findOpenDeltasSince(@Param("projectId") Long projectId, @Param("from") LocalDate from);
+
+    // The day the flow triggers stamp rows with, in the database session's time zone
+    @Query(value = "SELECT CURRENT_DATE", nativeQuery = true)
+    LocalDate findCurrentDate();
+
+    List<ProjectDailyFlow> findByProjectIdAndDayBetweenOrderByDayAsc(Long projectId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_daily_flow WHERE project_id = :projectId", nativeQuery = true)
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,13 +1,37 @@
 package com.example.task_management.repository;
 
 import com.example.task_management.model.Project;
+import com.example.task_management.repository.projection.IdName;
+import com.example.task_management.repository.projection.RowVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    Optional<Project> findByName(String name);
-    boolean existsByName(String name);
-}
\ No newline at end of file
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
+    Slice<Project> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT p.id AS id, p.name AS name FROM Project p WHERE p.id IN :ids")
+    List<IdName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Delta sync: projects renamed by a transaction at or after the window's snapshot xmin
+    @Query("SELECT p.id FROM Project p WHERE p.nameChangeTxid >= :sinceTxid")
+    List<Long> findIdsRenamedSince(@Param("sinceTxid") Long sinceTxid);
+
+    // Task and developer counts are part of the DTO, so the newest member row counts too
+    @Query("SELECT p.version AS version, GREATEST(p.updatedAt, "
+            + "COALESCE((SELECT MAX(t.updatedAt) FROM Task t WHERE t.project = p), p.updatedAt), "
+            + "COALESCE((SELECT MAX(d.updatedAt) FROM Developer d WHERE d.project = p), p.updatedAt)) AS lastModified "
+            + "FROM Project p WHERE p.id = :id")
+    Optional<RowVersion> findRowVersionById(@Param("id") Long id);
+}
@@ -0,0 +1,25 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Like the derived finders, opens its own read-only transaction when called outside one; without it the
+    // unwrapped Session belongs to a throwaway EntityManager that is already closed
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Project> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Project.class)
+                .loadOptional(name);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.ProjectTaskStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, ProjectTaskStats.Key> {
+
+    // At most one row per status and assignee, however many tasks the project has
+    List<ProjectTaskStats> findByProjectId(Long projectId);
+
+    // One row per past due date that still has open tasks
+    @Query("SELECT COALESCE(SUM(d.openCount), 0) FROM ProjectDueDateStats d WHERE d.projectId = :projectId AND d.dueDate < :today")
+    long countOverdueByProjectId(@Param("projectId") Long projectId, @Param("today") LocalDate today);
+
+    // Recounts the project's live tasks (see schema.sql); returns the new task total
+    @Query(value = "SELECT project_task_stats_rebuild(:projectId)", nativeQuery = true)
+    long rebuildByProjectId(@Param("projectId") Long projectId);
+}
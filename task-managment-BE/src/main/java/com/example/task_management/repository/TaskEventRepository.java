@@ -0,0 +1,14 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.TaskEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
+
+    // Keyset slice straight off the (task_id, seq) index; callers pass the last seen seq
+    Slice<TaskEvent> findByTaskIdAndSeqGreaterThanOrderBySeqAsc(Long taskId, Long afterSeq, Pageable pageable);
+}
@@ -1,16 +1,176 @@
 package com.example.task_management.repository;
 
 import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.TaskDTO;
 import com.example.task_management.model.Task;
+import com.example.task_management.repository.projection.BoardTaskRow;
+import com.example.task_management.repository.projection.IdCount;
+import com.example.task_management.repository.projection.ListVersion;
+import com.example.task_management.repository.projection.RowVersion;
+import com.example.task_management.repository.projection.TaskSearchMatch;
+import com.example.task_management.repository.projection.TaskWriteRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectId(Long projectId);
-    List<Task> findByAssignedToId(Long developerId);
-    List<Task> findByStatus(TaskStatus status);
-    List<Task> findByProjectIdAndStatus(Long projectId, TaskStatus status);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    // Builds TaskDTO straight from one joined SELECT; no Task/Project/Developer entities are managed
+    String TASK_DTO_SELECT = "SELECT new com.example.task_management.dto.TaskDTO("
+            + "t.id, t.title, t.description, t.status, t.dueDate, p.id, p.name, d.id, d.name, t.createdAt, t.updatedAt, t.version) "
+            + "FROM Task t JOIN t.project p LEFT JOIN t.assignedTo d ";
+
+    String BOARD_WINDOW = "PARTITION BY c.status ORDER BY c.id ROWS BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING";
+
+    String SEARCH_HIGHLIGHT = "StartSel=<mark>, StopSel=</mark>";
+
+    // Task text is HTML-escaped before ts_headline adds its <mark> tags; the parser reads &lt; etc. as single
+    // entity tokens, so matching and fragment boundaries are unaffected
+    String HTML_ESCAPE_OPEN = "replace(replace(replace(";
+    String HTML_ESCAPE_CLOSE = ", '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    long countByProjectId(Long projectId);
+
+    @Query("SELECT t.project.id AS id, COUNT(t) AS count FROM Task t WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<IdCount> countByProjectIds(@Param("projectIds") List<Long> projectIds);
+
+    @Query("SELECT t.assignedTo.id AS id, COUNT(t) AS count FROM Task t WHERE t.assignedTo.id IN :developerIds GROUP BY t.assignedTo.id")
+    List<IdCount> countByAssignedToIds(@Param("developerIds") List<Long> developerIds);
+
+    // Write paths load the task together with project and assignee in one statement
+    @EntityGraph(attributePaths = {"project", "assignedTo"})
+    Optional<Task> findWithAssociationsById(Long id);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id = :id")
+    Optional<TaskDTO> findDTOById(@Param("id") Long id);
+
+    // Keyset slices: callers pass the last seen id and a PageRequest of (0, size)
+    @Query(TASK_DTO_SELECT + "WHERE p.id = :projectId AND t.id > :afterId ORDER BY t.id")
+    Slice<TaskDTO> findDTOsByProjectIdAfter(@Param("projectId") Long projectId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_SELECT + "WHERE d.id = :developerId AND t.id > :afterId ORDER BY t.id")
+    Slice<TaskDTO> findDTOsByAssignedToIdAfter(@Param("developerId") Long developerId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.status = :status AND t.id > :afterId ORDER BY t.id")
+    Slice<TaskDTO> findDTOsByStatusAfter(@Param("status") TaskStatus status, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Must be consumed inside a transaction so the driver keeps a server-side cursor open
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_DTO_SELECT + "ORDER BY t.id")
+    Stream<TaskDTO> streamAllDTOs();
+
+    // Developer validator: the assignee's task count and newest updatedAt, from the (assigned_to_id, updated_at) index
+    @Query("SELECT COUNT(t) AS count, MAX(t.updatedAt) AS lastModified FROM Task t WHERE t.assignedTo.id = :developerId")
+    ListVersion findListVersionByAssignedToId(@Param("developerId") Long developerId);
+
+    // The DTO embeds project and assignee names, so their timestamps count too
+    @Query("SELECT t.version AS version, GREATEST(t.updatedAt, p.updatedAt, COALESCE(d.updatedAt, t.updatedAt)) AS lastModified "
+            + "FROM Task t JOIN t.project p LEFT JOIN t.assignedTo d WHERE t.id = :id")
+    Optional<RowVersion> findRowVersionById(@Param("id") Long id);
+
+    // Kanban board in one statement. The windows run over (id, status) straight from the
+    // (project_id, status, id) index; only the selected cards are joined back to tasks. All three share
+    // one window definition so Postgres evaluates them in a single pass, and the LIMIT (at most
+    // :limit rows per column) keeps the planner on primary-key lookups for the join-back. Positions follow
+    // ids, so "after the cursor" is position > skipped; :afterId is bound once, which Hibernate needs to
+    // type it inside the derived table.
+    @Query("SELECT new com.example.task_management.repository.projection.BoardTaskRow("
+            + "t.id, t.title, t.description, t.status, t.dueDate, p.id, p.name, d.id, d.name, t.createdAt, t.updatedAt, t.version, x.total) "
+            + "FROM (SELECT w.id AS id, w.status AS status, w.total AS total "
+            + "FROM (SELECT c.id AS id, c.status AS status, "
+            + "ROW_NUMBER() OVER (" + BOARD_WINDOW + ") AS position, "
+            + "COUNT(CASE WHEN c.id <= :afterId THEN 1 END) OVER (" + BOARD_WINDOW + ") AS skipped, "
+            + "COUNT(*) OVER (" + BOARD_WINDOW + ") AS total "
+            + "FROM Task c WHERE c.project.id = :projectId AND c.status IN :statuses) w "
+            + "WHERE w.position > w.skipped AND w.position <= w.skipped + :limit "
+            + "ORDER BY w.status, w.id LIMIT :maxRows) x "
+            + "JOIN Task t ON t.id = x.id JOIN t.project p LEFT JOIN t.assignedTo d "
+            + "ORDER BY x.status, x.id")
+    List<BoardTaskRow> findBoard(@Param("projectId") Long projectId, @Param("statuses") Collection<TaskStatus> statuses,
+                                 @Param("afterId") Long afterId, @Param("limit") long limit, @Param("maxRows") int maxRows);
+
+    // Full-text search over the generated search_vector column (GIN index, see schema.sql). Matches are
+    // ranked and keyset-paged on (rank DESC, id); highlights are built only for the page being returned.
+    // The task fields come from findDTOsByIdIn so hits keep the TaskDTO shape.
+    @Query(value = "SELECT m.id AS id, m.rank AS rank, "
+            + "ts_headline('english', " + HTML_ESCAPE_OPEN + "t.title" + HTML_ESCAPE_CLOSE + ", q.tsq, '"
+            + SEARCH_HIGHLIGHT + ", HighlightAll=true') AS titleHighlight, "
+            + "ts_headline('english', " + HTML_ESCAPE_OPEN + "COALESCE(t.description, '')" + HTML_ESCAPE_CLOSE + ", q.tsq, '"
+            + SEARCH_HIGHLIGHT + ", MaxFragments=2, MaxWords=30, MinWords=10') AS descriptionHighlight "
+            + "FROM (SELECT r.id, r.rank FROM ("
+            + "SELECT c.id AS id, ts_rank(c.search_vector, q.tsq) AS rank FROM tasks c, websearch_to_tsquery('english', :query) q(tsq) "
+            + "WHERE c.search_vector @@ q.tsq "
+            + "AND (CAST(:projectId AS bigint) IS NULL OR c.project_id = :projectId) "
+            + "AND (CAST(:status AS varchar) IS NULL OR c.status = :status)) r "
+            + "WHERE r.rank < :rank OR (r.rank = :rank AND r.id > :afterId) "
+            + "ORDER BY r.rank DESC, r.id LIMIT :limit) m "
+            + "JOIN tasks t ON t.id = m.id CROSS JOIN websearch_to_tsquery('english', :query) q(tsq) "
+            + "ORDER BY m.rank DESC, m.id", nativeQuery = true)
+    List<TaskSearchMatch> searchMatches(@Param("query") String query, @Param("projectId") Long projectId,
+                                        @Param("status") String status, @Param("rank") float rank,
+                                        @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id IN :ids")
+    List<TaskDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Delta sync: rows written by any transaction at or after the window's snapshot xmin, plus the tasks that
+    // show a renamed project or assignee. All three terms are on tasks columns, so Postgres ORs their indexes.
+    @Query(TASK_DTO_SELECT + "WHERE (t.changeTxid >= :sinceTxid OR t.project.id IN :renamedProjectIds "
+            + "OR t.assignedTo.id IN :renamedDeveloperIds) AND t.id > :afterId ORDER BY t.id")
+    Slice<TaskDTO> findDTOsChangedSince(@Param("sinceTxid") Long sinceTxid,
+                                        @Param("renamedProjectIds") Collection<Long> renamedProjectIds,
+                                        @Param("renamedDeveloperIds") Collection<Long> renamedDeveloperIds,
+                                        @Param("afterId") Long afterId, Pageable pageable);
+
+    // Oldest transaction still in flight: everything below it has committed or rolled back
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)", nativeQuery = true)
+    long findSnapshotXmin();
+
+    // Set-based writes bypass @UpdateTimestamp and @Version, so updated_at and version are set explicitly.
+    // RETURNING hands back every touched row so each one gets its history entry without a second read.
+    // Callers run these through runSetBasedWrite, which flushes and clears around them.
+    String TASK_WRITE_STAMP = ", updated_at = LOCALTIMESTAMP, version = version + 1 ";
+
+    String TASK_WRITE_ROW = " RETURNING id, project_id AS projectId, version";
+
+    @Query(value = "UPDATE tasks SET status = :status" + TASK_WRITE_STAMP
+            + "WHERE id IN :ids AND status <> :status" + TASK_WRITE_ROW, nativeQuery = true)
+    List<TaskWriteRow> updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    @Query(value = "UPDATE tasks SET status = :status" + TASK_WRITE_STAMP
+            + "WHERE project_id = :projectId AND status <> :status" + TASK_WRITE_ROW, nativeQuery = true)
+    List<TaskWriteRow> updateStatusByProjectId(@Param("projectId") Long projectId, @Param("status") String status);
+
+    @Query(value = "UPDATE tasks SET status = :status" + TASK_WRITE_STAMP
+            + "WHERE project_id = :projectId AND status = :fromStatus" + TASK_WRITE_ROW, nativeQuery = true)
+    List<TaskWriteRow> updateStatusByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("fromStatus") String fromStatus, @Param("status") String status);
+
+    // Only tasks of the developer's project are assigned
+    @Query(value = "UPDATE tasks SET assigned_to_id = :developerId" + TASK_WRITE_STAMP
+            + "WHERE id IN :ids AND project_id = :projectId" + TASK_WRITE_ROW, nativeQuery = true)
+    List<TaskWriteRow> assignByIdInAndProjectId(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId,
+                                                @Param("developerId") Long developerId);
+
+    @Query(value = "UPDATE tasks SET assigned_to_id = NULL" + TASK_WRITE_STAMP
+            + "WHERE id IN :ids AND assigned_to_id IS NOT NULL" + TASK_WRITE_ROW, nativeQuery = true)
+    List<TaskWriteRow> unassignByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.dto.TaskDTO;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface TaskRepositoryCustom {
+    // Dynamic filter projected straight to TaskDTO (same joined SELECT as TASK_DTO_SELECT);
+    // the entity is Task or ArchivedTask
+    <T> List<TaskDTO> findDTOs(Class<T> entityType, Specification<T> specification, Sort sort, int limit);
+
+    // The UPDATE ... RETURNING writes cannot be @Modifying (that needs an int result), so callers run them
+    // through here for the same effect as @Modifying(flushAutomatically = true, clearAutomatically = true)
+    <R> R runSetBasedWrite(Supplier<R> write);
+}
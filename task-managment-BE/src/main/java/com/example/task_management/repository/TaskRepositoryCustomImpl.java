@@ -0,0 +1,59 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public <T> List<TaskDTO> findDTOs(Class<T> entityType, Specification<T> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDTO> query = cb.createQuery(TaskDTO.class);
+        Root<T> t = query.from(entityType);
+        Join<T, Project> p = t.join("project");
+        Join<T, Developer> d = t.join("assignedTo", JoinType.LEFT);
+
+        query.select(cb.construct(TaskDTO.class,
+                t.get("id"), t.get("title"), t.get("description"), t.get("status"), t.get("dueDate"),
+                p.get("id"), p.get("name"), d.get("id"), d.get("name"), t.get("createdAt"), t.get("updatedAt"), t.get("version")));
+        Predicate predicate = specification.toPredicate(t, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, t, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Pending entity changes reach the database before the statement; afterwards no managed Task keeps the
+    // status, assignee or version it replaced
+    @Override
+    public <R> R runSetBasedWrite(Supplier<R> write) {
+        entityManager.flush();
+        try {
+            return write.get();
+        } finally {
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.model.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.deletedTxid >= :sinceTxid AND t.taskId > :afterId ORDER BY t.taskId")
+    Slice<Long> findTaskIdsDeletedSince(@Param("sinceTxid") Long sinceTxid, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Batched so compaction never holds a long lock on the table
+    @Modifying
+    @Query(value = "DELETE FROM task_tombstones WHERE task_id IN "
+            + "(SELECT task_id FROM task_tombstones WHERE deleted_at < :cutoff LIMIT :batchSize)", nativeQuery = true)
+    int deleteBatchOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
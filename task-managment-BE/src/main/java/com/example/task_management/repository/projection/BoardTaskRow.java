@@ -0,0 +1,23 @@
+package com.example.task_management.repository.projection;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.TaskDTO;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One board card plus the size of its column, as produced by the windowed board query
+@Getter
+public class BoardTaskRow {
+    private final TaskDTO task;
+    private final long columnTotal;
+
+    public BoardTaskRow(Long id, String title, String description, TaskStatus status, LocalDate dueDate,
+                        Long projectId, String projectName, Long assignedToId, String assignedToName,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, Long version, Long columnTotal) {
+        this.task = new TaskDTO(id, title, description, status, dueDate, projectId, projectName,
+                assignedToId, assignedToName, createdAt, updatedAt, version);
+        this.columnTotal = columnTotal;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.task_management.repository.projection;
+
+public interface BucketCount {
+    Integer getBucket();
+    Long getCount();
+}
@@ -0,0 +1,10 @@
+package com.example.task_management.repository.projection;
+
+import java.time.LocalDate;
+
+// One day's net change in open tasks next to the project's current open count (repeated on every row)
+public interface DailyOpenDelta {
+    LocalDate getDay();
+    Long getOpenDelta();
+    Long getOpenCount();
+}
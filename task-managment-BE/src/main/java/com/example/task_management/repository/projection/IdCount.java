@@ -0,0 +1,15 @@
+package com.example.task_management.repository.projection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public interface IdCount {
+    Long getId();
+    Long getCount();
+
+    static Map<Long, Long> toMap(List<IdCount> counts) {
+        return counts.stream()
+                .collect(Collectors.toMap(IdCount::getId, IdCount::getCount));
+    }
+}
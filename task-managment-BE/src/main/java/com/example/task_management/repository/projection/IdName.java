@@ -0,0 +1,15 @@
+package com.example.task_management.repository.projection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public interface IdName {
+    Long getId();
+    String getName();
+
+    static Map<Long, String> toMap(List<IdName> names) {
+        return names.stream()
+                .collect(Collectors.toMap(IdName::getId, IdName::getName));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.task_management.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ListVersion {
+    Long getCount();
+    LocalDateTime getLastModified();
+}
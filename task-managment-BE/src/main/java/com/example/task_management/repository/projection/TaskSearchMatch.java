@@ -0,0 +1,12 @@
+package com.example.task_management.repository.projection;
+
+// One ranked full-text hit; the task itself is loaded separately through the TaskDTO projection
+public interface TaskSearchMatch {
+    Long getId();
+
+    Float getRank();
+
+    String getTitleHighlight();
+
+    String getDescriptionHighlight();
+}
@@ -0,0 +1,8 @@
+package com.example.task_management.repository.projection;
+
+// A task row touched by a set-based write, as returned by its RETURNING clause
+public interface TaskWriteRow {
+    Long getId();
+    Long getProjectId();
+    Long getVersion();
+}
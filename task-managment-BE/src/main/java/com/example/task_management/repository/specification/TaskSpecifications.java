@@ -0,0 +1,97 @@
+package com.example.task_management.repository.specification;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.TaskFilterDTO;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Composable task filters. Each one maps onto a leading column of a tasks index
+// (project_id, assigned_to_id, status, due_date), so every combination stays an index scan.
+// They only use attribute names, so they apply to Task and ArchivedTask alike.
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static <T> Specification<T> matching(TaskFilterDTO filter) {
+        List<Specification<T>> specifications = new ArrayList<>();
+        if (filter.getProjectId() != null) {
+            specifications.add(inProject(filter.getProjectId()));
+        }
+        if (filter.getAssigneeId() != null) {
+            specifications.add(assignedTo(filter.getAssigneeId()));
+        }
+        if (Boolean.TRUE.equals(filter.getUnassigned())) {
+            specifications.add(unassigned());
+        }
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            specifications.add(hasStatus(filter.getStatus()));
+        }
+        if (filter.getDueAfter() != null) {
+            specifications.add(dueAfter(filter.getDueAfter()));
+        }
+        if (filter.getDueBefore() != null) {
+            specifications.add(dueBefore(filter.getDueBefore()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static <T> Specification<T> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static <T> Specification<T> assignedTo(Long developerId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTo").get("id"), developerId);
+    }
+
+    public static <T> Specification<T> unassigned() {
+        return (root, query, cb) -> cb.isNull(root.get("assignedTo"));
+    }
+
+    public static <T> Specification<T> hasStatus(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> statuses.size() == 1
+                ? cb.equal(root.get("status"), statuses.iterator().next())
+                : root.get("status").in(statuses);
+    }
+
+    public static <T> Specification<T> dueAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThan(root.get("dueDate"), date);
+    }
+
+    public static <T> Specification<T> dueBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), date);
+    }
+
+    public static <T> Specification<T> isNull(String attribute) {
+        return (root, query, cb) -> cb.isNull(root.get(attribute));
+    }
+
+    public static <T> Specification<T> isNotNull(String attribute) {
+        return (root, query, cb) -> cb.isNotNull(root.get(attribute));
+    }
+
+    // Keyset position on id alone; 0 means the first page
+    public static <T> Specification<T> idAfter(long afterId, boolean descending) {
+        if (afterId == 0L) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> descending
+                ? cb.lessThan(root.get("id"), afterId)
+                : cb.greaterThan(root.get("id"), afterId);
+    }
+
+    // Keyset position on (attribute, id). The redundant outer bound gives Postgres an index range to
+    // start from; the OR alone would make it scan from the beginning of the index.
+    public static <T, Y extends Comparable<? super Y>> Specification<T> after(String attribute, Y value, long afterId, boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.and(cb.lessThanOrEqualTo(root.get(attribute), value),
+                        cb.or(cb.lessThan(root.get(attribute), value), cb.lessThan(root.get("id"), afterId)))
+                : cb.and(cb.greaterThanOrEqualTo(root.get(attribute), value),
+                        cb.or(cb.greaterThan(root.get(attribute), value), cb.greaterThan(root.get("id"), afterId)));
+    }
+}
@@ -1,17 +1,16 @@
 package com.example.task_management.service;
 
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.DeveloperDTO;
 
-import java.util.List;
-
 public interface DeveloperService {
-    List<DeveloperDTO> getAllDevelopers();
+    CursorPageDTO<DeveloperDTO> getAllDevelopers(String cursor, Integer size);
     DeveloperDTO getDeveloperById(Long id);
     DeveloperDTO createDeveloper(DeveloperDTO developerDTO);
-    DeveloperDTO updateDeveloper(Long id, DeveloperDTO developerDTO);
-    void deleteDeveloper(Long id);
+    DeveloperDTO updateDeveloper(Long id, DeveloperDTO developerDTO, Long expectedVersion);
+    void deleteDeveloper(Long id, Long expectedVersion);
     DeveloperDTO assignToProject(Long developerId, Long projectId);
     DeveloperDTO unassignFromProject(Long developerId);
-    List<DeveloperDTO> getDevelopersByProjectId(Long projectId);
-    List<DeveloperDTO> getUnassignedDevelopers();
+    CursorPageDTO<DeveloperDTO> getDevelopersByProjectId(Long projectId, String cursor, Integer size);
+    CursorPageDTO<DeveloperDTO> getUnassignedDevelopers(String cursor, Integer size);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.task_management.service;
+
+import com.example.task_management.dto.BurndownDTO;
+import com.example.task_management.dto.CycleTimeDTO;
+import com.example.task_management.dto.ThroughputDTO;
+
+import java.time.LocalDate;
+
+public interface ProjectAnalyticsService {
+    BurndownDTO getBurndown(Long projectId, LocalDate from, LocalDate to);
+    CycleTimeDTO getCycleTime(Long projectId, LocalDate from, LocalDate to);
+    ThroughputDTO getThroughput(Long projectId, LocalDate from, LocalDate to);
+}
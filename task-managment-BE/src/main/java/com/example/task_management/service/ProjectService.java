@@ -1,13 +1,12 @@
 package com.example.task_management.service;
 
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.ProjectDTO;
 
-import java.util.List;
-
 public interface ProjectService {
-    List<ProjectDTO> getAllProjects();
+    CursorPageDTO<ProjectDTO> getAllProjects(String cursor, Integer size);
     ProjectDTO getProjectById(Long id);
     ProjectDTO createProject(ProjectDTO projectDTO);
-    ProjectDTO updateProject(Long id, ProjectDTO projectDTO);
-    void deleteProject(Long id);
+    ProjectDTO updateProject(Long id, ProjectDTO projectDTO, Long expectedVersion);
+    void deleteProject(Long id, Long expectedVersion);
 }
\ No newline at end of file
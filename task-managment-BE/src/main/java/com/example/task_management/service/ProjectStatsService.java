@@ -0,0 +1,9 @@
+package com.example.task_management.service;
+
+import com.example.task_management.dto.ProjectStatsDTO;
+
+public interface ProjectStatsService {
+    ProjectStatsDTO getStats(Long projectId);
+    ProjectStatsDTO rebuildStats(Long projectId);
+    int rebuildAllStats();
+}
@@ -0,0 +1,9 @@
+package com.example.task_management.service;
+
+import com.example.task_management.util.ResourceVersion;
+
+public interface ResourceVersionService {
+    ResourceVersion getTaskVersion(Long id, boolean includeArchived);
+    ResourceVersion getProjectVersion(Long id);
+    ResourceVersion getDeveloperVersion(Long id);
+}
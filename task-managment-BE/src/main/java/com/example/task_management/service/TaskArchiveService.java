@@ -0,0 +1,5 @@
+package com.example.task_management.service;
+
+public interface TaskArchiveService {
+    int archiveCompletedTasks();
+}
@@ -0,0 +1,8 @@
+package com.example.task_management.service;
+
+import com.example.task_management.dto.TaskChangesDTO;
+
+public interface TaskChangeService {
+    TaskChangesDTO getChanges(String since, Integer size);
+    int compactTombstones();
+}
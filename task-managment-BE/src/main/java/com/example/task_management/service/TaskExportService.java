@@ -0,0 +1,10 @@
+package com.example.task_management.service;
+
+import com.example.task_management.constants.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+    void exportTasks(ExportFormat format, OutputStream outputStream) throws IOException;
+}
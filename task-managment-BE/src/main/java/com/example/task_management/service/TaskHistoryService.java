@@ -0,0 +1,8 @@
+package com.example.task_management.service;
+
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskEventDTO;
+
+public interface TaskHistoryService {
+    CursorPageDTO<TaskEventDTO> getHistory(Long taskId, String cursor, Integer size);
+}
@@ -0,0 +1,13 @@
+package com.example.task_management.service;
+
+import com.example.task_management.dto.BulkImportResultDTO;
+import com.example.task_management.dto.TaskDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface TaskImportService {
+    BulkImportResultDTO importTasks(List<TaskDTO> tasks);
+    BulkImportResultDTO importTasks(InputStream ndjson) throws IOException;
+}
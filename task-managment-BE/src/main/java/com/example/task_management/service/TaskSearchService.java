@@ -0,0 +1,9 @@
+package com.example.task_management.service;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskSearchResultDTO;
+
+public interface TaskSearchService {
+    CursorPageDTO<TaskSearchResultDTO> searchTasks(String query, Long projectId, TaskStatus status, String cursor, Integer size);
+}
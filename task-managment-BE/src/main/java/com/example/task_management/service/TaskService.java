@@ -1,20 +1,28 @@
 package com.example.task_management.service;
 
 import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BoardDTO;
+import com.example.task_management.dto.BulkTaskUpdateDTO;
+import com.example.task_management.dto.BulkUpdateResultDTO;
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.TaskDTO;
-
-import java.util.List;
+import com.example.task_management.dto.TaskFilterDTO;
 
 public interface TaskService {
-    List<TaskDTO> getAllTasks();
-    TaskDTO getTaskById(Long id);
+    CursorPageDTO<TaskDTO> getTasks(TaskFilterDTO filter, String cursor, Integer size);
+    TaskDTO getTaskById(Long id, boolean includeArchived);
     TaskDTO createTask(TaskDTO taskDTO);
-    TaskDTO updateTask(Long id, TaskDTO taskDTO);
-    void deleteTask(Long id);
-    TaskDTO updateTaskStatus(Long id, TaskStatus status);
-    TaskDTO assignTaskToDeveloper(Long taskId, Long developerId);
-    TaskDTO unassignTask(Long taskId);
-    List<TaskDTO> getTasksByProjectId(Long projectId);
-    List<TaskDTO> getTasksByDeveloperId(Long developerId);
-    List<TaskDTO> getTasksByStatus(TaskStatus status);
+    // expectedVersion (from If-Match) is optional; when given, a write against any other version is rejected
+    TaskDTO updateTask(Long id, TaskDTO taskDTO, Long expectedVersion);
+    void deleteTask(Long id, Long expectedVersion);
+    TaskDTO updateTaskStatus(Long id, TaskStatus status, Long expectedVersion);
+    TaskDTO assignTaskToDeveloper(Long taskId, Long developerId, Long expectedVersion);
+    TaskDTO unassignTask(Long taskId, Long expectedVersion);
+    BulkUpdateResultDTO updateTaskStatuses(BulkTaskUpdateDTO request);
+    BulkUpdateResultDTO assignTasksToDeveloper(BulkTaskUpdateDTO request);
+    BulkUpdateResultDTO unassignTasks(BulkTaskUpdateDTO request);
+    CursorPageDTO<TaskDTO> getTasksByProjectId(Long projectId, String cursor, Integer size);
+    CursorPageDTO<TaskDTO> getTasksByDeveloperId(Long developerId, String cursor, Integer size);
+    CursorPageDTO<TaskDTO> getTasksByStatus(TaskStatus status, String cursor, Integer size);
+    BoardDTO getBoard(Long projectId, TaskStatus status, String cursor, Integer limit);
 }
\ No newline at end of file
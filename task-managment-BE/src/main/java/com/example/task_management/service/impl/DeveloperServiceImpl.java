@@ -1,33 +1,56 @@
 package com.example.task_management.service.impl;
 
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.PaginationProperties;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.DeveloperDTO;
+import com.example.task_management.event.EntityChangedEvent;
 import com.example.task_management.exception.BadRequestException;
 import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.mapper.DtoMapper;
 import com.example.task_management.model.Developer;
 import com.example.task_management.model.Project;
 import com.example.task_management.repository.DeveloperRepository;
 import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.projection.IdCount;
+import com.example.task_management.repository.projection.IdName;
 import com.example.task_management.service.DeveloperService;
+import com.example.task_management.util.CursorUtils;
+import com.example.task_management.util.VersionTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class DeveloperServiceImpl implements DeveloperService {
 
     private final DeveloperRepository developerRepository;
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final PaginationProperties paginationProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DtoMapper dtoMapper;
 
     @Override
     @Transactional(readOnly = true)
-    public List<DeveloperDTO> getAllDevelopers() {
-        return developerRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<DeveloperDTO> getAllDevelopers(String cursor, Integer size) {
+        return toPage(developerRepository.findByIdGreaterThanOrderByIdAsc(CursorUtils.decode(cursor), pageOf(size)));
     }
 
     @Override
@@ -41,7 +64,8 @@ public class DeveloperServiceImpl implements DeveloperService {
     @Override
     @Transactional
     public DeveloperDTO createDeveloper(DeveloperDTO developerDTO) {
-        if (developerRepository.existsByEmail(developerDTO.getEmail())) {
+        // Natural-id lookup, answered from the second-level cache when the email was seen before
+        if (developerRepository.findByEmail(developerDTO.getEmail()).isPresent()) {
             throw new BadRequestException("Developer with email '" + developerDTO.getEmail() + "' already exists");
         }
 
@@ -58,18 +82,20 @@ public class DeveloperServiceImpl implements DeveloperService {
         }
 
         Developer savedDeveloper = developerRepository.save(developer);
+        publish(ChangeType.CREATED, savedDeveloper);
         return convertToDTO(savedDeveloper);
     }
 
     @Override
     @Transactional
-    public DeveloperDTO updateDeveloper(Long id, DeveloperDTO developerDTO) {
+    public DeveloperDTO updateDeveloper(Long id, DeveloperDTO developerDTO, Long expectedVersion) {
         Developer developer = developerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
+        VersionTag.check("Developer", id, expectedVersion, developer.getVersion());
 
         // Check if email is being changed and if new email already exists
-        if (!developer.getEmail().equals(developerDTO.getEmail()) && 
-            developerRepository.existsByEmail(developerDTO.getEmail())) {
+        if (!developer.getEmail().equals(developerDTO.getEmail()) &&
+            developerRepository.findByEmail(developerDTO.getEmail()).isPresent()) {
             throw new BadRequestException("Developer with email '" + developerDTO.getEmail() + "' already exists");
         }
 
@@ -77,17 +103,23 @@ public class DeveloperServiceImpl implements DeveloperService {
         developer.setEmail(developerDTO.getEmail());
         developer.setRole(developerDTO.getRole());
 
-        Developer updatedDeveloper = developerRepository.save(developer);
+        Developer updatedDeveloper = developerRepository.saveAndFlush(developer);
+        publish(ChangeType.UPDATED, updatedDeveloper);
         return convertToDTO(updatedDeveloper);
     }
 
     @Override
     @Transactional
-    public void deleteDeveloper(Long id) {
-        if (!developerRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Developer not found with id: " + id);
+    public void deleteDeveloper(Long id, Long expectedVersion) {
+        Developer developer = developerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
+        VersionTag.check("Developer", id, expectedVersion, developer.getVersion());
+        developerRepository.delete(developer);
+        if (developer.getProject() != null) {
+            // Developer and task counts on the project change, so move its conditional-GET validator
+            developer.getProject().setUpdatedAt(LocalDateTime.now());
         }
-        developerRepository.deleteById(id);
+        publish(ChangeType.DELETED, developer);
     }
 
     @Override
@@ -104,7 +136,8 @@ public class DeveloperServiceImpl implements DeveloperService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
 
         developer.setProject(project);
-        Developer updatedDeveloper = developerRepository.save(developer);
+        Developer updatedDeveloper = developerRepository.saveAndFlush(developer);
+        publish(ChangeType.ASSIGNED, updatedDeveloper);
         return convertToDTO(updatedDeveloper);
     }
 
@@ -118,37 +151,66 @@ public class DeveloperServiceImpl implements DeveloperService {
             throw new BadRequestException("Developer is not assigned to any project");
         }
 
+        Long previousProjectId = developer.getProject().getId();
+        developer.getProject().setUpdatedAt(LocalDateTime.now());
         developer.setProject(null);
-        Developer updatedDeveloper = developerRepository.save(developer);
+        Developer updatedDeveloper = developerRepository.saveAndFlush(developer);
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityType.DEVELOPER, ChangeType.UNASSIGNED, developerId,
+                previousProjectId, updatedDeveloper.getVersion()));
         return convertToDTO(updatedDeveloper);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<DeveloperDTO> getDevelopersByProjectId(Long projectId) {
-        return developerRepository.findByProjectId(projectId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<DeveloperDTO> getDevelopersByProjectId(Long projectId, String cursor, Integer size) {
+        return toPage(developerRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(projectId, CursorUtils.decode(cursor), pageOf(size)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<DeveloperDTO> getUnassignedDevelopers() {
-        return developerRepository.findByProjectIsNull().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<DeveloperDTO> getUnassignedDevelopers(String cursor, Integer size) {
+        return toPage(developerRepository.findByProjectIsNullAndIdGreaterThanOrderByIdAsc(CursorUtils.decode(cursor), pageOf(size)));
+    }
+
+    private void publish(ChangeType changeType, Developer developer) {
+        Long projectId = developer.getProject() != null ? developer.getProject().getId() : null;
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityType.DEVELOPER, changeType, developer.getId(), projectId, developer.getVersion()));
+    }
+
+    private Pageable pageOf(Integer size) {
+        return CursorUtils.firstRows(paginationProperties.resolvePageSize(size));
+    }
+
+    private CursorPageDTO<DeveloperDTO> toPage(Slice<Developer> developers) {
+        return CursorUtils.toPage(convertToDTOs(developers.getContent()), developers.hasNext(), DeveloperDTO::getId);
     }
 
     private DeveloperDTO convertToDTO(Developer developer) {
-        DeveloperDTO dto = new DeveloperDTO();
-        dto.setId(developer.getId());
-        dto.setName(developer.getName());
-        dto.setEmail(developer.getEmail());
-        dto.setRole(developer.getRole());
-        dto.setProjectId(developer.getProject() != null ? developer.getProject().getId() : null);
-        dto.setProjectName(developer.getProject() != null ? developer.getProject().getName() : null);
-        dto.setTaskCount(developer.getTasks() != null ? developer.getTasks().size() : 0);
-        dto.setCreatedAt(developer.getCreatedAt());
-        return dto;
+        return convertToDTOs(List.of(developer)).get(0);
+    }
+
+    // Resolves task counts and project names for the whole batch in one GROUP BY and one IN query
+    private List<DeveloperDTO> convertToDTOs(List<Developer> developers) {
+        if (developers.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> developerIds = developers.stream()
+                .map(Developer::getId)
+                .toList();
+        Set<Long> projectIds = developers.stream()
+                .map(Developer::getProject)
+                .filter(Objects::nonNull)
+                .map(Project::getId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Long> taskCounts = IdCount.toMap(taskRepository.countByAssignedToIds(developerIds));
+        Map<Long, String> projectNames = projectIds.isEmpty()
+                ? Map.of()
+                : IdName.toMap(projectRepository.findNamesByIdIn(projectIds));
+
+        return developers.stream()
+                .map(developer -> dtoMapper.toDeveloperDTO(developer, projectNames, taskCounts))
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.AnalyticsProperties;
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.dto.BurndownDTO;
+import com.example.task_management.dto.BurndownPointDTO;
+import com.example.task_management.dto.CycleTimeDTO;
+import com.example.task_management.dto.ThroughputDTO;
+import com.example.task_management.dto.ThroughputWeekDTO;
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.model.ProjectDailyFlow;
+import com.example.task_management.repository.ProjectCycleTimeStatsRepository;
+import com.example.task_management.repository.ProjectDailyFlowRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.projection.BucketCount;
+import com.example.task_management.repository.projection.DailyOpenDelta;
+import com.example.task_management.service.ProjectAnalyticsService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// Reads the daily rollups kept by the flow triggers (schema.sql); no request touches the tasks table,
+// so a year of any project costs a few hundred index-only rows.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class ProjectAnalyticsServiceImpl implements ProjectAnalyticsService {
+
+    // Cycle-time bucket b spans [GROWTH^b, GROWTH^(b+1)) seconds; must match LN(1.1) in tasks_maintain_flow()
+    private static final double CYCLE_TIME_BUCKET_GROWTH = 1.1;
+
+    private final ProjectDailyFlowRepository projectDailyFlowRepository;
+    private final ProjectCycleTimeStatsRepository projectCycleTimeStatsRepository;
+    private final ProjectRepository projectRepository;
+    private final AnalyticsProperties analyticsProperties;
+
+    // Walks back from today's open count, undoing each later day's net change. The open count and the daily
+    // rows are read by one statement, so they share a snapshot under the default READ COMMITTED and a
+    // concurrent write cannot skew the series. That also keeps it working in the virtual-threads profile,
+    // whose connection handling refuses custom isolation levels, and saves a round trip.
+    @Override
+    @Transactional(readOnly = true)
+    public BurndownDTO getBurndown(Long projectId, LocalDate from, LocalDate to) {
+        requireProject(projectId);
+        LocalDate end = endOrToday(to);
+        LocalDate start = resolveFrom(from, end);
+
+        List<DailyOpenDelta> rows = projectDailyFlowRepository.findOpenDeltasSince(projectId, start);
+        long remaining = rows.get(0).getOpenCount();
+        TreeMap<LocalDate, Long> openDeltas = rows.stream()
+                .filter(row -> row.getDay() != null)
+                .collect(Collectors.toMap(DailyOpenDelta::getDay, DailyOpenDelta::getOpenDelta, Long::sum, TreeMap::new));
+
+        // Back out the days between the end of the range and today first
+        for (long delta : openDeltas.tailMap(end, false).values()) {
+            remaining -= delta;
+        }
+        List<BurndownPointDTO> points = new ArrayList<>();
+        for (LocalDate day = end; !day.isBefore(start); day = day.minusDays(1)) {
+            points.add(new BurndownPointDTO(day, remaining));
+            remaining -= openDeltas.getOrDefault(day, 0L);
+        }
+        Collections.reverse(points);
+        return new BurndownDTO(projectId, start, end, points);
+    }
+
+    // Nearest-rank percentiles over the merged histogram; each bucket reports its geometric midpoint
+    @Override
+    @Transactional(readOnly = true)
+    public CycleTimeDTO getCycleTime(Long projectId, LocalDate from, LocalDate to) {
+        requireProject(projectId);
+        LocalDate end = endOrToday(to);
+        LocalDate start = resolveFrom(from, end);
+
+        List<BucketCount> histogram = projectCycleTimeStatsRepository.findHistogram(projectId, start, end);
+        long samples = histogram.stream().mapToLong(BucketCount::getCount).sum();
+        return new CycleTimeDTO(projectId, start, end, samples,
+                percentile(histogram, samples, 0.5), percentile(histogram, samples, 0.9));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ThroughputDTO getThroughput(Long projectId, LocalDate from, LocalDate to) {
+        requireProject(projectId);
+        LocalDate end = endOrToday(to);
+        LocalDate start = resolveFrom(from, end).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        Map<LocalDate, Long> completedByWeek = new TreeMap<>();
+        for (LocalDate week = start; !week.isAfter(end); week = week.plusWeeks(1)) {
+            completedByWeek.put(week, 0L);
+        }
+        for (ProjectDailyFlow row : projectDailyFlowRepository.findByProjectIdAndDayBetweenOrderByDayAsc(projectId, start, end)) {
+            completedByWeek.merge(row.getDay().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), row.getCompletedCount(), Long::sum);
+        }
+        List<ThroughputWeekDTO> weeks = completedByWeek.entrySet().stream()
+                .map(entry -> new ThroughputWeekDTO(entry.getKey(), entry.getValue()))
+                .toList();
+        return new ThroughputDTO(projectId, start, end, weeks);
+    }
+
+    private void requireProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+    }
+
+    // "Today" comes from the database, the clock the daily rows are keyed by, not from the JVM's zone
+    private LocalDate endOrToday(LocalDate to) {
+        return to != null ? to : projectDailyFlowRepository.findCurrentDate();
+    }
+
+    private LocalDate resolveFrom(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : to.minusDays(analyticsProperties.getDefaultRange().toDays() - 1);
+        if (start.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, to) >= analyticsProperties.getMaxRange().toDays()) {
+            throw new BadRequestException("Date range must not exceed " + analyticsProperties.getMaxRange().toDays() + " days");
+        }
+        return start;
+    }
+
+    private Long percentile(List<BucketCount> histogram, long samples, double quantile) {
+        if (samples == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(quantile * samples);
+        long seen = 0;
+        for (BucketCount bucket : histogram) {
+            seen += bucket.getCount();
+            if (seen >= rank) {
+                return Math.round(Math.pow(CYCLE_TIME_BUCKET_GROWTH, bucket.getBucket() + 0.5));
+            }
+        }
+        return null;
+    }
+}
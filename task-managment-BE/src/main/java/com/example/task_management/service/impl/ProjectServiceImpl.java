@@ -1,30 +1,70 @@
 package com.example.task_management.service.impl;
 
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.PaginationProperties;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.event.EntityChangedEvent;
 import com.example.task_management.exception.BadRequestException;
 import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.mapper.DtoMapper;
 import com.example.task_management.model.Project;
+import com.example.task_management.repository.ArchivedTaskRepository;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectCycleTimeStatsRepository;
+import com.example.task_management.repository.ProjectDailyFlowRepository;
 import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.projection.IdCount;
 import com.example.task_management.service.ProjectService;
+import com.example.task_management.util.CursorUtils;
+import com.example.task_management.util.VersionTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ProjectDailyFlowRepository projectDailyFlowRepository;
+    private final ProjectCycleTimeStatsRepository projectCycleTimeStatsRepository;
+    private final PaginationProperties paginationProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DtoMapper dtoMapper;
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectDTO> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<ProjectDTO> getAllProjects(String cursor, Integer size) {
+        Slice<Project> projects = projectRepository.findByIdGreaterThanOrderByIdAsc(CursorUtils.decode(cursor), pageOf(size));
+        if (projects.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), null, false, 0);
+        }
+
+        // One grouped query per counter for the whole page instead of initializing both collections per project
+        List<Long> projectIds = projects.map(Project::getId).getContent();
+        Map<Long, Long> developerCounts = IdCount.toMap(developerRepository.countByProjectIds(projectIds));
+        Map<Long, Long> taskCounts = IdCount.toMap(taskRepository.countByProjectIds(projectIds));
+
+        return CursorUtils.toPage(projects,
+                project -> dtoMapper.toProjectDTO(project,
+                        developerCounts.getOrDefault(project.getId(), 0L),
+                        taskCounts.getOrDefault(project.getId(), 0L)),
+                ProjectDTO::getId);
     }
 
     @Override
@@ -38,7 +78,8 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional
     public ProjectDTO createProject(ProjectDTO projectDTO) {
-        if (projectRepository.existsByName(projectDTO.getName())) {
+        // Natural-id lookup, answered from the second-level cache when the name was seen before
+        if (projectRepository.findByName(projectDTO.getName()).isPresent()) {
             throw new BadRequestException("Project with name '" + projectDTO.getName() + "' already exists");
         }
 
@@ -47,46 +88,56 @@ public class ProjectServiceImpl implements ProjectService {
         project.setDescription(projectDTO.getDescription());
 
         Project savedProject = projectRepository.save(project);
-        return convertToDTO(savedProject);
+        publish(ChangeType.CREATED, savedProject);
+        return dtoMapper.toProjectDTO(savedProject, 0, 0);
     }
 
     @Override
     @Transactional
-    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO) {
+    public ProjectDTO updateProject(Long id, ProjectDTO projectDTO, Long expectedVersion) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        VersionTag.check("Project", id, expectedVersion, project.getVersion());
 
         // Check if name is being changed and if new name already exists
-        if (!project.getName().equals(projectDTO.getName()) && 
-            projectRepository.existsByName(projectDTO.getName())) {
+        if (!project.getName().equals(projectDTO.getName()) &&
+            projectRepository.findByName(projectDTO.getName()).isPresent()) {
             throw new BadRequestException("Project with name '" + projectDTO.getName() + "' already exists");
         }
 
         project.setName(projectDTO.getName());
         project.setDescription(projectDTO.getDescription());
 
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        publish(ChangeType.UPDATED, updatedProject);
         return convertToDTO(updatedProject);
     }
 
     @Override
     @Transactional
-    public void deleteProject(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Project not found with id: " + id);
-        }
-        projectRepository.deleteById(id);
+    public void deleteProject(Long id, Long expectedVersion) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        VersionTag.check("Project", id, expectedVersion, project.getVersion());
+        projectRepository.delete(project);
+        archivedTaskRepository.deleteByProjectId(id);
+        projectDailyFlowRepository.deleteByProjectId(id);
+        projectCycleTimeStatsRepository.deleteByProjectId(id);
+        publish(ChangeType.DELETED, project);
+    }
+
+    private void publish(ChangeType changeType, Project project) {
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityType.PROJECT, changeType, project.getId(), project.getId(),
+                project.getVersion()));
+    }
+
+    private Pageable pageOf(Integer size) {
+        return CursorUtils.firstRows(paginationProperties.resolvePageSize(size));
     }
 
     private ProjectDTO convertToDTO(Project project) {
-        ProjectDTO dto = new ProjectDTO();
-        dto.setId(project.getId());
-        dto.setName(project.getName());
-        dto.setDescription(project.getDescription());
-        dto.setDeveloperCount(project.getDevelopers() != null ? project.getDevelopers().size() : 0);
-        dto.setTaskCount(project.getTasks() != null ? project.getTasks().size() : 0);
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-        return dto;
+        return dtoMapper.toProjectDTO(project,
+                developerRepository.countByProjectId(project.getId()),
+                taskRepository.countByProjectId(project.getId()));
     }
 }
\ No newline at end of file
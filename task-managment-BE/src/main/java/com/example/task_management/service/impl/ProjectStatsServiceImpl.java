@@ -0,0 +1,98 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.DeveloperWorkloadDTO;
+import com.example.task_management.dto.ProjectStatsDTO;
+import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.model.ProjectTaskStats;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.ProjectTaskStatsRepository;
+import com.example.task_management.repository.projection.IdName;
+import com.example.task_management.service.ProjectStatsService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class ProjectStatsServiceImpl implements ProjectStatsService {
+
+    // Stats rows use 0 for "no assignee"
+    private static final long UNASSIGNED = 0L;
+
+    private final ProjectTaskStatsRepository projectTaskStatsRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectStatsDTO getStats(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        LocalDate today = LocalDate.now();
+        List<ProjectTaskStats> rows = projectTaskStatsRepository.findByProjectId(projectId);
+
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        Map<Long, Long> openByAssignee = new HashMap<>();
+        long total = 0;
+        for (ProjectTaskStats row : rows) {
+            total += row.getTaskCount();
+            statusCounts.merge(row.getStatus(), row.getTaskCount(), Long::sum);
+            if (row.getStatus() != TaskStatus.COMPLETED) {
+                openByAssignee.merge(row.getAssignedToId(), row.getTaskCount(), Long::sum);
+            }
+        }
+        long unassignedOpen = openByAssignee.getOrDefault(UNASSIGNED, 0L);
+        openByAssignee.remove(UNASSIGNED);
+
+        // Tasks keep their assignee after the developer leaves the project, so names are looked up by id
+        Map<Long, String> names = openByAssignee.isEmpty()
+                ? Map.of()
+                : IdName.toMap(developerRepository.findNamesByIdIn(openByAssignee.keySet()));
+        List<DeveloperWorkloadDTO> developers = openByAssignee.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> new DeveloperWorkloadDTO(entry.getKey(), names.get(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingLong(DeveloperWorkloadDTO::getOpenTaskCount).reversed()
+                        .thenComparing(DeveloperWorkloadDTO::getDeveloperId))
+                .toList();
+
+        long overdue = projectTaskStatsRepository.countOverdueByProjectId(projectId, today);
+        return new ProjectStatsDTO(projectId, total, statusCounts, overdue, unassignedOpen, developers, today);
+    }
+
+    @Override
+    @Transactional
+    public ProjectStatsDTO rebuildStats(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        projectTaskStatsRepository.rebuildByProjectId(projectId);
+        return getStats(projectId);
+    }
+
+    @Override
+    public int rebuildAllStats() {
+        List<Long> projectIds = projectRepository.findAllIds();
+        // One transaction per project: the rebuild briefly holds back task writes while it recounts
+        projectIds.forEach(projectId ->
+                transactionTemplate.executeWithoutResult(status -> projectTaskStatsRepository.rebuildByProjectId(projectId)));
+        return projectIds.size();
+    }
+}
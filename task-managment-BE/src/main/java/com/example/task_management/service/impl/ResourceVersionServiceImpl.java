@@ -0,0 +1,56 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.repository.ArchivedTaskRepository;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.projection.ListVersion;
+import com.example.task_management.repository.projection.RowVersion;
+import com.example.task_management.service.ResourceVersionService;
+import com.example.task_management.util.ResourceVersion;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// Single-entity validators: a primary-key lookup, plus the developer's tasks on the assigned_to_id index. Lists
+// are validated by their content in the controllers (ResourceVersion.ofContent), so no validator aggregates
+// over a whole table.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+
+    @Override
+    public ResourceVersion getTaskVersion(Long id, boolean includeArchived) {
+        RowVersion task = taskRepository.findRowVersionById(id)
+                .or(() -> includeArchived ? archivedTaskRepository.findRowVersionById(id) : Optional.empty())
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        return ResourceVersion.ofEntity(task.getVersion(), 1L, task.getLastModified());
+    }
+
+    @Override
+    public ResourceVersion getProjectVersion(Long id) {
+        RowVersion project = projectRepository.findRowVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+        return ResourceVersion.ofEntity(project.getVersion(), 1L, project.getLastModified());
+    }
+
+    @Override
+    public ResourceVersion getDeveloperVersion(Long id) {
+        RowVersion developer = developerRepository.findRowVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + id));
+        ListVersion tasks = taskRepository.findListVersionByAssignedToId(id);
+        return ResourceVersion.ofEntity(developer.getVersion(), tasks.getCount(), developer.getLastModified(), tasks.getLastModified());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.ArchiveProperties;
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.event.EntityChangedEvent;
+import com.example.task_management.repository.ArchivedTaskRepository;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.service.TaskArchiveService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final ArchiveProperties archiveProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.archive.interval:1h}", initialDelayString = "${app.archive.interval:1h}")
+    public int archiveCompletedTasks() {
+        if (!archiveProperties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveProperties.getCompletedAge());
+        int batchSize = archiveProperties.getBatchSize();
+        int total = 0;
+        int moved;
+        do {
+            // One short transaction per batch, so tasks rows are never locked for long
+            Integer batch = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+            moved = batch != null ? batch : 0;
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = archivedTaskRepository.lockArchivableTaskIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Long> projectIds = archivedTaskRepository.findProjectIdsOfTasks(ids);
+        List<Long> assigneeIds = archivedTaskRepository.findAssigneeIdsOfTasks(ids);
+        archivedTaskRepository.ensurePartitionsForTasks(ids);
+        int moved = archivedTaskRepository.moveToArchive(ids);
+
+        // Task counts on the project and assignee DTOs change, so move their conditional-GET validators.
+        // Through the entities, so only these rows are refreshed in the second-level cache.
+        LocalDateTime now = LocalDateTime.now();
+        projectRepository.findAllById(projectIds).forEach(project -> project.setUpdatedAt(now));
+        developerRepository.findAllById(assigneeIds).forEach(developer -> developer.setUpdatedAt(now));
+        // Archived tasks leave the live lists and boards of their projects
+        projectIds.forEach(projectId ->
+                eventPublisher.publishEvent(new EntityChangedEvent(EntityType.TASK, ChangeType.ARCHIVED, null, projectId, null)));
+        return moved;
+    }
+}
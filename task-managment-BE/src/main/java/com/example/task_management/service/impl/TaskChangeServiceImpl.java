@@ -0,0 +1,102 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.PaginationProperties;
+import com.example.task_management.config.SyncProperties;
+import com.example.task_management.dto.TaskChangesDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.exception.ChangeTokenExpiredException;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.TaskTombstoneRepository;
+import com.example.task_management.service.TaskChangeService;
+import com.example.task_management.util.ChangeToken;
+import com.example.task_management.util.CursorUtils;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class TaskChangeServiceImpl implements TaskChangeService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final PaginationProperties paginationProperties;
+    private final SyncProperties syncProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesDTO getChanges(String since, Integer size) {
+        ChangeToken token = ChangeToken.decode(since);
+        long now = Instant.now().getEpochSecond();
+        if (token.getSinceTxid() > 0 && now - token.getSinceEpochSecond() > syncProperties.getTombstoneRetention().toSeconds()) {
+            throw new ChangeTokenExpiredException("Change token has expired; sync again without a token");
+        }
+
+        // Captured before reading rows (each statement gets a fresh snapshot), so any write not yet
+        // visible below belongs to a transaction at or after nextTxid
+        long nextTxid = token.getNextTxid();
+        long nextEpochSecond = token.getNextEpochSecond();
+        if (token.isWindowStart()) {
+            nextTxid = taskRepository.findSnapshotXmin();
+            nextEpochSecond = now;
+        }
+
+        Pageable page = CursorUtils.firstRows(paginationProperties.resolvePageSize(size));
+        // A rename stamps only the project or developer row, so their tasks are re-sent from here;
+        // a full sync already returns every task
+        List<Long> renamedProjectIds = token.getSinceTxid() > 0
+                ? projectRepository.findIdsRenamedSince(token.getSinceTxid()) : List.of();
+        List<Long> renamedDeveloperIds = token.getSinceTxid() > 0
+                ? developerRepository.findIdsRenamedSince(token.getSinceTxid()) : List.of();
+        Slice<TaskDTO> changed = taskRepository.findDTOsChangedSince(token.getSinceTxid(), renamedProjectIds,
+                renamedDeveloperIds, token.getAfterTaskId(), page);
+        // A full sync starts from the current rows, so there is nothing to delete on the client
+        Slice<Long> deleted = token.getSinceTxid() > 0
+                ? taskTombstoneRepository.findTaskIdsDeletedSince(token.getSinceTxid(), token.getAfterTombstoneId(), page)
+                : new SliceImpl<>(List.of());
+
+        boolean hasMore = changed.hasNext() || deleted.hasNext();
+        ChangeToken next = hasMore
+                ? new ChangeToken(token.getSinceTxid(), token.getSinceEpochSecond(), nextTxid, nextEpochSecond,
+                        changed.hasContent() ? changed.getContent().get(changed.getNumberOfElements() - 1).getId() : token.getAfterTaskId(),
+                        deleted.hasContent() ? deleted.getContent().get(deleted.getNumberOfElements() - 1) : token.getAfterTombstoneId())
+                : new ChangeToken(nextTxid, nextEpochSecond, 0L, 0L, 0L, 0L);
+
+        return new TaskChangesDTO(changed.getContent(), deleted.getContent(), next.encode(), hasMore);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.sync.compaction-interval:1h}", initialDelayString = "${app.sync.compaction-interval:1h}")
+    public int compactTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now()
+                .minus(syncProperties.getTombstoneRetention())
+                .minus(syncProperties.getTombstoneGrace());
+        int batchSize = syncProperties.getCompactionBatchSize();
+        int total = 0;
+        int removed;
+        do {
+            // One short transaction per batch
+            Integer batch = transactionTemplate.execute(status -> taskTombstoneRepository.deleteBatchOlderThan(cutoff, batchSize));
+            removed = batch != null ? batch : 0;
+            total += removed;
+        } while (removed == batchSize);
+        return total;
+    }
+}
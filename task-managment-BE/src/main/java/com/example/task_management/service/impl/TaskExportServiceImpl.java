@@ -0,0 +1,87 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.constants.ExportFormat;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.TaskExportService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,dueDate,projectId,projectName,assignedToId,assignedToName,createdAt,updatedAt,version";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    // Rows are pulled from a server-side cursor and written one by one, so heap use does not grow with the table
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TaskDTO> tasks = taskRepository.streamAllDTOs()) {
+            tasks.forEach(task -> {
+                try {
+                    writer.write(format == ExportFormat.CSV ? toCsvRow(task) : objectMapper.writeValueAsString(task));
+                    writer.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private String toCsvRow(TaskDTO task) {
+        return String.join(",",
+                csv(task.getId()),
+                csv(task.getTitle()),
+                csv(task.getDescription()),
+                csv(task.getStatus()),
+                csv(task.getDueDate()),
+                csv(task.getProjectId()),
+                csv(task.getProjectName()),
+                csv(task.getAssignedToId()),
+                csv(task.getAssignedToName()),
+                csv(task.getCreatedAt()),
+                csv(task.getUpdatedAt()),
+                csv(task.getVersion()));
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
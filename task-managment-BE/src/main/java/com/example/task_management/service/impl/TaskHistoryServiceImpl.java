@@ -0,0 +1,54 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.PaginationProperties;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskEventDTO;
+import com.example.task_management.model.TaskEvent;
+import com.example.task_management.repository.TaskEventRepository;
+import com.example.task_management.service.TaskHistoryService;
+import com.example.task_management.util.CursorUtils;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class TaskHistoryServiceImpl implements TaskHistoryService {
+
+    private final TaskEventRepository taskEventRepository;
+    private final PaginationProperties paginationProperties;
+
+    // No existence check: the history of deleted and archived tasks stays readable, and an
+    // unknown id simply has no events. Recent changes may still be in the recorder's buffer.
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskEventDTO> getHistory(Long taskId, String cursor, Integer size) {
+        return CursorUtils.toPage(
+                taskEventRepository.findByTaskIdAndSeqGreaterThanOrderBySeqAsc(taskId, CursorUtils.decode(cursor),
+                        CursorUtils.firstRows(paginationProperties.resolvePageSize(size))),
+                this::convertToDTO,
+                TaskEventDTO::getSeq);
+    }
+
+    private TaskEventDTO convertToDTO(TaskEvent event) {
+        TaskEventDTO dto = new TaskEventDTO();
+        dto.setSeq(event.getSeq());
+        dto.setTaskId(event.getTaskId());
+        dto.setProjectId(event.getProjectId());
+        dto.setChangeType(event.getChangeType());
+        dto.setTaskVersion(event.getTaskVersion());
+        dto.setFromStatus(event.getFromStatus());
+        dto.setToStatus(event.getToStatus());
+        dto.setFromAssigneeId(event.getFromAssigneeId());
+        dto.setToAssigneeId(event.getToAssigneeId());
+        dto.setChangedFields(event.getChangedFields() != null ? Arrays.asList(event.getChangedFields().split(",")) : List.of());
+        dto.setOccurredAt(event.getOccurredAt());
+        return dto;
+    }
+}
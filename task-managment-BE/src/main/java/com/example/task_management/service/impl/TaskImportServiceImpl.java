@@ -0,0 +1,241 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.dto.BulkImportResultDTO;
+import com.example.task_management.dto.BulkItemErrorDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.event.EntityChangedEvent;
+import com.example.task_management.event.TaskActivityBatch;
+import com.example.task_management.event.TaskActivityEvent;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.service.TaskImportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public BulkImportResultDTO importTasks(List<TaskDTO> tasks) {
+        BulkImportResultDTO result = new BulkImportResultDTO();
+        List<ImportItem> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < tasks.size(); i++) {
+            chunk.add(new ImportItem(i, tasks.get(i)));
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, result);
+        return result;
+    }
+
+    @Override
+    public BulkImportResultDTO importTasks(InputStream ndjson) throws IOException {
+        BulkImportResultDTO result = new BulkImportResultDTO();
+        List<ImportItem> chunk = new ArrayList<>(chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+
+        // Lines are parsed lazily so an arbitrarily long stream only ever holds one chunk in memory
+        int index = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(new ImportItem(index, objectMapper.readValue(line, TaskDTO.class)));
+            } catch (JacksonException ex) {
+                result.setReceived(result.getReceived() + 1);
+                fail(result, index, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+            index++;
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, result);
+        return result;
+    }
+
+    private void importChunk(List<ImportItem> items, BulkImportResultDTO result) {
+        if (items.isEmpty()) {
+            return;
+        }
+        result.setReceived(result.getReceived() + items.size());
+
+        List<ImportItem> valid = new ArrayList<>(items.size());
+        for (ImportItem item : items) {
+            String violation = validate(item.task());
+            if (violation != null) {
+                fail(result, item.index(), violation);
+            } else {
+                valid.add(item);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<BulkItemErrorDTO> errors = new ArrayList<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> persist(valid, errors));
+            result.setImported(result.getImported() + imported);
+            errors.forEach(error -> fail(result, error.getIndex(), error.getMessage()));
+        } catch (RuntimeException ex) {
+            // A constraint failure rolls back the whole batch; retry row by row to isolate the bad items
+            valid.forEach(item -> importSingle(item, result));
+        }
+    }
+
+    private void importSingle(ImportItem item, BulkImportResultDTO result) {
+        List<BulkItemErrorDTO> errors = new ArrayList<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> persist(List.of(item), errors));
+            result.setImported(result.getImported() + imported);
+            errors.forEach(error -> fail(result, error.getIndex(), error.getMessage()));
+        } catch (RuntimeException ex) {
+            fail(result, item.index(), NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        }
+    }
+
+    private int persist(List<ImportItem> items, List<BulkItemErrorDTO> errors) {
+        // One set-based lookup per referenced table for the whole chunk
+        Set<Long> projectIds = items.stream()
+                .map(item -> item.task().getProjectId())
+                .collect(Collectors.toSet());
+        Set<Long> developerIds = items.stream()
+                .map(item -> item.task().getAssignedToId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Map<Long, Developer> developers = developerIds.isEmpty()
+                ? Map.of()
+                : developerRepository.findAllById(developerIds).stream()
+                        .collect(Collectors.toMap(Developer::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>(items.size());
+        for (ImportItem item : items) {
+            TaskDTO taskDTO = item.task();
+            Project project = projects.get(taskDTO.getProjectId());
+            if (project == null) {
+                errors.add(new BulkItemErrorDTO(item.index(), "Project not found with id: " + taskDTO.getProjectId()));
+                continue;
+            }
+
+            Developer developer = null;
+            if (taskDTO.getAssignedToId() != null) {
+                developer = developers.get(taskDTO.getAssignedToId());
+                if (developer == null) {
+                    errors.add(new BulkItemErrorDTO(item.index(), "Developer not found with id: " + taskDTO.getAssignedToId()));
+                    continue;
+                }
+                // Validate that developer is in the same project
+                if (developer.getProject() == null || !developer.getProject().getId().equals(project.getId())) {
+                    errors.add(new BulkItemErrorDTO(item.index(), "Developer must be assigned to the same project as the task"));
+                    continue;
+                }
+            }
+
+            Task task = new Task();
+            task.setTitle(taskDTO.getTitle());
+            task.setDescription(taskDTO.getDescription());
+            task.setStatus(taskDTO.getStatus());
+            task.setDueDate(taskDTO.getDueDate());
+            task.setProject(project);
+            task.setAssignedTo(developer);
+            tasks.add(task);
+        }
+
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+
+        if (!tasks.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            eventPublisher.publishEvent(new TaskActivityBatch(tasks.stream()
+                    .map(task -> new TaskActivityEvent(task.getId(), task.getProject().getId(), ChangeType.CREATED, task.getVersion(),
+                            null, task.getStatus(), null, task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                            null, now))
+                    .toList()));
+        }
+
+        // One set-level event per touched project rather than one per imported row
+        tasks.stream()
+                .map(task -> task.getProject().getId())
+                .distinct()
+                .forEach(projectId -> eventPublisher.publishEvent(
+                        new EntityChangedEvent(EntityType.TASK, ChangeType.CREATED, null, projectId, null)));
+        return tasks.size();
+    }
+
+    private String validate(TaskDTO taskDTO) {
+        if (taskDTO == null) {
+            return "Task must not be null";
+        }
+        Set<ConstraintViolation<TaskDTO>> violations = validator.validate(taskDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void fail(BulkImportResultDTO result, int index, String message) {
+        result.setFailed(result.getFailed() + 1);
+        result.getErrors().add(new BulkItemErrorDTO(index, message));
+    }
+
+    private record ImportItem(int index, TaskDTO task) {
+    }
+}
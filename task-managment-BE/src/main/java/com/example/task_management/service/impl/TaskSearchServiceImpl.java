@@ -0,0 +1,83 @@
+package com.example.task_management.service.impl;
+
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.PaginationProperties;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.dto.TaskSearchResultDTO;
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.projection.TaskSearchMatch;
+import com.example.task_management.service.TaskSearchService;
+import com.example.task_management.util.SearchCursor;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private final TaskRepository taskRepository;
+    private final PaginationProperties paginationProperties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskSearchResultDTO> searchTasks(String query, Long projectId, TaskStatus status, String cursor, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        SearchCursor position = SearchCursor.decode(cursor);
+        int pageSize = paginationProperties.resolvePageSize(size);
+
+        // One extra match tells whether there is a next page
+        List<TaskSearchMatch> matches = taskRepository.searchMatches(query.trim(), projectId,
+                status != null ? status.name() : null, position.getRank(), position.getAfterId(), pageSize + 1);
+        boolean hasNext = matches.size() > pageSize;
+        List<TaskSearchMatch> page = hasNext ? matches.subList(0, pageSize) : matches;
+        if (page.isEmpty()) {
+            return new CursorPageDTO<>(List.of(), null, false, 0);
+        }
+
+        Map<Long, TaskDTO> tasks = taskRepository.findDTOsByIdIn(page.stream().map(TaskSearchMatch::getId).toList()).stream()
+                .collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+        // A task deleted between the two statements is simply left out
+        List<TaskSearchResultDTO> items = page.stream()
+                .filter(match -> tasks.containsKey(match.getId()))
+                .map(match -> toResult(tasks.get(match.getId()), match))
+                .toList();
+
+        TaskSearchMatch last = page.get(page.size() - 1);
+        String next = hasNext ? new SearchCursor(last.getRank(), last.getId()).encode() : null;
+        return new CursorPageDTO<>(items, next, next != null, items.size());
+    }
+
+    private TaskSearchResultDTO toResult(TaskDTO task, TaskSearchMatch match) {
+        TaskSearchResultDTO result = new TaskSearchResultDTO();
+        result.setId(task.getId());
+        result.setTitle(task.getTitle());
+        result.setDescription(task.getDescription());
+        result.setStatus(task.getStatus());
+        result.setDueDate(task.getDueDate());
+        result.setProjectId(task.getProjectId());
+        result.setProjectName(task.getProjectName());
+        result.setAssignedToId(task.getAssignedToId());
+        result.setAssignedToName(task.getAssignedToName());
+        result.setCreatedAt(task.getCreatedAt());
+        result.setUpdatedAt(task.getUpdatedAt());
+        result.setVersion(task.getVersion());
+        result.setRank(Objects.requireNonNullElse(match.getRank(), 0f));
+        result.setTitleHighlight(match.getTitleHighlight());
+        result.setDescriptionHighlight(match.getDescriptionHighlight());
+        return result;
+    }
+}
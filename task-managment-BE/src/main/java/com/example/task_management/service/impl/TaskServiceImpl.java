@@ -1,45 +1,135 @@
 package com.example.task_management.service.impl;
 
+import com.example.task_management.config.ConcurrencyProperties;
+import com.example.task_management.config.MetricsConfig;
+import com.example.task_management.config.PaginationProperties;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.constants.TaskSortField;
 import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BoardColumnDTO;
+import com.example.task_management.dto.BoardDTO;
+import com.example.task_management.dto.BulkItemErrorDTO;
+import com.example.task_management.dto.BulkTaskUpdateDTO;
+import com.example.task_management.dto.BulkUpdateResultDTO;
+import com.example.task_management.dto.CursorPageDTO;
 import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.dto.TaskFilterDTO;
+import com.example.task_management.event.EntityChangedEvent;
+import com.example.task_management.event.TaskActivityBatch;
+import com.example.task_management.event.TaskActivityEvent;
 import com.example.task_management.exception.BadRequestException;
 import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.mapper.DtoMapper;
+import com.example.task_management.model.ArchivedTask;
 import com.example.task_management.model.Developer;
 import com.example.task_management.model.Project;
 import com.example.task_management.model.Task;
+import com.example.task_management.repository.ArchivedTaskRepository;
 import com.example.task_management.repository.DeveloperRepository;
 import com.example.task_management.repository.ProjectRepository;
 import com.example.task_management.repository.TaskRepository;
+import com.example.task_management.repository.projection.BoardTaskRow;
+import com.example.task_management.repository.projection.TaskWriteRow;
+import com.example.task_management.repository.specification.TaskSpecifications;
 import com.example.task_management.service.TaskService;
+import com.example.task_management.util.CursorUtils;
+import com.example.task_management.util.KeysetCursor;
+import com.example.task_management.util.VersionTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    // Keeps each IN (...) list well below the driver's bind-parameter limit
+    private static final int BULK_ID_CHUNK_SIZE = 1000;
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final ProjectRepository projectRepository;
     private final DeveloperRepository developerRepository;
+    private final PaginationProperties paginationProperties;
+    private final ConcurrencyProperties concurrencyProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DtoMapper dtoMapper;
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<TaskDTO> getTasks(TaskFilterDTO filter, String cursor, Integer size) {
+        if (Boolean.TRUE.equals(filter.getUnassigned()) && filter.getAssigneeId() != null) {
+            throw new BadRequestException("assigneeId and unassigned=true cannot be combined");
+        }
+        Sort.Order order = parseSort(filter.getSort());
+        TaskSortField sortField = TaskSortField.fromParam(order.getProperty());
+        boolean descending = order.isDescending();
+        Sort sort = Sort.by(order.getDirection(), sortField.getAttribute()).and(Sort.by(order.getDirection(), "id"));
+        Specification<Task> matching = TaskSpecifications.matching(filter);
+        Comparator<TaskDTO> rowOrder = orderOf(sortField, descending);
+        // The archive only holds COMPLETED tasks
+        boolean includeArchived = Boolean.TRUE.equals(filter.getIncludeArchived())
+                && (filter.getStatus() == null || filter.getStatus().isEmpty() || filter.getStatus().contains(TaskStatus.COMPLETED));
+        int pageSize = paginationProperties.resolvePageSize(size);
+
+        if (sortField == TaskSortField.ID) {
+            List<TaskDTO> rows = findDTOs(matching.and(TaskSpecifications.idAfter(CursorUtils.decode(cursor), descending)),
+                    includeArchived, sort, rowOrder, pageSize + 1);
+            return CursorUtils.toPage(rows.subList(0, Math.min(rows.size(), pageSize)), rows.size() > pageSize, TaskDTO::getId);
+        }
+
+        // Rows with and without a sort key are read as separate index ranges, nulls last ascending and
+        // first descending (Postgres index order); a page that runs out of one range continues in the next
+        List<TaskDTO> rows = new ArrayList<>();
+        for (Specification<Task> segment : keysetSegments(sortField, descending, cursor)) {
+            rows.addAll(findDTOs(matching.and(segment), includeArchived, sort, rowOrder, pageSize + 1 - rows.size()));
+            if (rows.size() > pageSize) {
+                break;
+            }
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskDTO> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String next = null;
+        if (hasNext) {
+            TaskDTO last = items.get(items.size() - 1);
+            Comparable<?> lastValue = sortField.valueOf(last);
+            next = new KeysetCursor(lastValue != null ? lastValue.toString() : null, last.getId()).encode();
+        }
+        return new CursorPageDTO<>(items, next, hasNext, items.size());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public TaskDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+    public TaskDTO getTaskById(Long id, boolean includeArchived) {
+        return taskRepository.findDTOById(id)
+                .or(() -> includeArchived ? archivedTaskRepository.findDTOById(id) : Optional.empty())
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        return convertToDTO(task);
     }
 
     @Override
@@ -69,115 +159,424 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
-        return convertToDTO(savedTask);
+        publish(ChangeType.CREATED, savedTask.getId(), project.getId(), savedTask.getVersion());
+        recordActivity(ChangeType.CREATED, savedTask, null, null, null);
+        return dtoMapper.toTaskDTO(savedTask);
     }
 
     @Override
     @Transactional
-    public TaskDTO updateTask(Long id, TaskDTO taskDTO) {
-        Task task = taskRepository.findById(id)
+    public TaskDTO updateTask(Long id, TaskDTO taskDTO, Long expectedVersion) {
+        Task task = taskRepository.findWithAssociationsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        VersionTag.check("Task", id, expectedVersion, task.getVersion());
 
+        List<String> changedFields = changedFields(task, taskDTO);
+        TaskStatus fromStatus = task.getStatus();
         task.setTitle(taskDTO.getTitle());
         task.setDescription(taskDTO.getDescription());
         task.setStatus(taskDTO.getStatus());
         task.setDueDate(taskDTO.getDueDate());
 
-        Task updatedTask = taskRepository.save(task);
-        return convertToDTO(updatedTask);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        publish(ChangeType.UPDATED, id, task.getProject().getId(), updatedTask.getVersion());
+        if (!changedFields.isEmpty()) {
+            recordActivity(ChangeType.UPDATED, updatedTask, fromStatus, assigneeId(updatedTask), changedFields);
+        }
+        return dtoMapper.toTaskDTO(updatedTask);
     }
 
     @Override
     @Transactional
-    public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+    public void deleteTask(Long id, Long expectedVersion) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        VersionTag.check("Task", id, expectedVersion, task.getVersion());
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(new TaskActivityEvent(id, task.getProject().getId(), ChangeType.DELETED, task.getVersion(),
+                task.getStatus(), null, assigneeId(task), null, null, LocalDateTime.now()));
+
+        // Task counts on the project and assignee DTOs change, so move their conditional-GET validators
+        LocalDateTime now = LocalDateTime.now();
+        task.getProject().setUpdatedAt(now);
+        if (task.getAssignedTo() != null) {
+            task.getAssignedTo().setUpdatedAt(now);
         }
-        taskRepository.deleteById(id);
+        publish(ChangeType.DELETED, id, task.getProject().getId(), task.getVersion());
     }
 
     @Override
-    @Transactional
-    public TaskDTO updateTaskStatus(Long id, TaskStatus status) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+    public TaskDTO updateTaskStatus(Long id, TaskStatus status, Long expectedVersion) {
+        return retryOnConflict(expectedVersion, () -> {
+            Task task = taskRepository.findWithAssociationsById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            VersionTag.check("Task", id, expectedVersion, task.getVersion());
 
-        task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
-        return convertToDTO(updatedTask);
+            TaskStatus fromStatus = task.getStatus();
+            task.setStatus(status);
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            publish(ChangeType.STATUS_CHANGED, id, task.getProject().getId(), updatedTask.getVersion());
+            recordActivity(ChangeType.STATUS_CHANGED, updatedTask, fromStatus, assigneeId(updatedTask), null);
+            return dtoMapper.toTaskDTO(updatedTask);
+        });
     }
 
     @Override
-    @Transactional
-    public TaskDTO assignTaskToDeveloper(Long taskId, Long developerId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+    public TaskDTO assignTaskToDeveloper(Long taskId, Long developerId, Long expectedVersion) {
+        return retryOnConflict(expectedVersion, () -> {
+            Task task = taskRepository.findWithAssociationsById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+            VersionTag.check("Task", taskId, expectedVersion, task.getVersion());
 
-        Developer developer = developerRepository.findById(developerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + developerId));
+            Developer developer = developerRepository.findById(developerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + developerId));
 
-        // Validate that developer is in the same project as the task
-        if (developer.getProject() == null || !developer.getProject().getId().equals(task.getProject().getId())) {
-            throw new BadRequestException("Developer must be assigned to the same project as the task");
+            // Validate that developer is in the same project as the task
+            if (developer.getProject() == null || !developer.getProject().getId().equals(task.getProject().getId())) {
+                throw new BadRequestException("Developer must be assigned to the same project as the task");
+            }
+
+            Long fromAssigneeId = assigneeId(task);
+            task.setAssignedTo(developer);
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            publish(ChangeType.ASSIGNED, taskId, task.getProject().getId(), updatedTask.getVersion());
+            recordActivity(ChangeType.ASSIGNED, updatedTask, updatedTask.getStatus(), fromAssigneeId, null);
+            return dtoMapper.toTaskDTO(updatedTask);
+        });
+    }
+
+    @Override
+    public TaskDTO unassignTask(Long taskId, Long expectedVersion) {
+        return retryOnConflict(expectedVersion, () -> {
+            Task task = taskRepository.findWithAssociationsById(taskId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+            VersionTag.check("Task", taskId, expectedVersion, task.getVersion());
+
+            if (task.getAssignedTo() == null) {
+                throw new BadRequestException("Task is not assigned to any developer");
+            }
+
+            Long fromAssigneeId = assigneeId(task);
+            task.setAssignedTo(null);
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            publish(ChangeType.UNASSIGNED, taskId, task.getProject().getId(), updatedTask.getVersion());
+            recordActivity(ChangeType.UNASSIGNED, updatedTask, updatedTask.getStatus(), fromAssigneeId, null);
+            return dtoMapper.toTaskDTO(updatedTask);
+        });
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateResultDTO updateTaskStatuses(BulkTaskUpdateDTO request) {
+        if (request.getStatus() == null) {
+            throw new BadRequestException("Target status is required");
+        }
+
+        if (request.getTaskIds() != null && !request.getTaskIds().isEmpty()) {
+            List<Long> taskIds = distinctIds(request.getTaskIds());
+            List<TaskWriteRow> rows = writeInChunks(taskIds, chunk -> taskRepository.updateStatusByIdIn(chunk, request.getStatus().name()));
+            int affected = recordBulk(ChangeType.STATUS_CHANGED, null, request.getStatus(), null, rows);
+            publishBulk(ChangeType.STATUS_CHANGED, affected, null);
+            return new BulkUpdateResultDTO(taskIds.size(), affected, bulkErrors(request.getTaskIds(), rows, null));
         }
 
-        task.setAssignedTo(developer);
-        Task updatedTask = taskRepository.save(task);
-        return convertToDTO(updatedTask);
+        if (request.getProjectId() == null) {
+            throw new BadRequestException("Either taskIds or projectId is required");
+        }
+        if (!projectRepository.existsById(request.getProjectId())) {
+            throw new ResourceNotFoundException("Project not found with id: " + request.getProjectId());
+        }
+        List<TaskWriteRow> rows = taskRepository.runSetBasedWrite(() -> request.getFromStatus() != null
+                ? taskRepository.updateStatusByProjectIdAndStatus(request.getProjectId(), request.getFromStatus().name(), request.getStatus().name())
+                : taskRepository.updateStatusByProjectId(request.getProjectId(), request.getStatus().name()));
+        int affected = recordBulk(ChangeType.STATUS_CHANGED, request.getFromStatus(), request.getStatus(), null, rows);
+        publishBulk(ChangeType.STATUS_CHANGED, affected, request.getProjectId());
+        return new BulkUpdateResultDTO(null, affected, new ArrayList<>());
     }
 
     @Override
     @Transactional
-    public TaskDTO unassignTask(Long taskId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+    public BulkUpdateResultDTO assignTasksToDeveloper(BulkTaskUpdateDTO request) {
+        List<Long> taskIds = requireTaskIds(request);
+        if (request.getDeveloperId() == null) {
+            throw new BadRequestException("Developer ID is required");
+        }
 
-        if (task.getAssignedTo() == null) {
-            throw new BadRequestException("Task is not assigned to any developer");
+        Developer developer = developerRepository.findById(request.getDeveloperId())
+                .orElseThrow(() -> new ResourceNotFoundException("Developer not found with id: " + request.getDeveloperId()));
+        if (developer.getProject() == null) {
+            throw new BadRequestException("Developer must be assigned to the same project as the task");
         }
 
-        task.setAssignedTo(null);
-        Task updatedTask = taskRepository.save(task);
-        return convertToDTO(updatedTask);
+        // Tasks of other projects are left alone and reported per id
+        Long projectId = developer.getProject().getId();
+        List<TaskWriteRow> rows = writeInChunks(taskIds, chunk -> taskRepository.assignByIdInAndProjectId(chunk, projectId, developer.getId()));
+        int affected = recordBulk(ChangeType.ASSIGNED, null, null, developer.getId(), rows);
+        publishBulk(ChangeType.ASSIGNED, affected, projectId);
+        return new BulkUpdateResultDTO(taskIds.size(), affected,
+                bulkErrors(request.getTaskIds(), rows, "Developer must be assigned to the same project as the task"));
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateResultDTO unassignTasks(BulkTaskUpdateDTO request) {
+        List<Long> taskIds = requireTaskIds(request);
+        List<TaskWriteRow> rows = writeInChunks(taskIds, taskRepository::unassignByIdIn);
+        int affected = recordBulk(ChangeType.UNASSIGNED, null, null, null, rows);
+        publishBulk(ChangeType.UNASSIGNED, affected, null);
+        return new BulkUpdateResultDTO(taskIds.size(), affected, bulkErrors(request.getTaskIds(), rows, null));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByProjectId(Long projectId) {
-        return taskRepository.findByProjectId(projectId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<TaskDTO> getTasksByProjectId(Long projectId, String cursor, Integer size) {
+        return CursorUtils.toPage(
+                taskRepository.findDTOsByProjectIdAfter(projectId, CursorUtils.decode(cursor), pageOf(size)),
+                TaskDTO::getId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByDeveloperId(Long developerId) {
-        return taskRepository.findByAssignedToId(developerId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public CursorPageDTO<TaskDTO> getTasksByDeveloperId(Long developerId, String cursor, Integer size) {
+        return CursorUtils.toPage(
+                taskRepository.findDTOsByAssignedToIdAfter(developerId, CursorUtils.decode(cursor), pageOf(size)),
+                TaskDTO::getId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-    }
-
-    private TaskDTO convertToDTO(Task task) {
-        TaskDTO dto = new TaskDTO();
-        dto.setId(task.getId());
-        dto.setTitle(task.getTitle());
-        dto.setDescription(task.getDescription());
-        dto.setStatus(task.getStatus());
-        dto.setDueDate(task.getDueDate());
-        dto.setProjectId(task.getProject().getId());
-        dto.setProjectName(task.getProject().getName());
-        dto.setAssignedToId(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
-        dto.setAssignedToName(task.getAssignedTo() != null ? task.getAssignedTo().getName() : null);
-        dto.setCreatedAt(task.getCreatedAt());
-        dto.setUpdatedAt(task.getUpdatedAt());
-        return dto;
+    public CursorPageDTO<TaskDTO> getTasksByStatus(TaskStatus status, String cursor, Integer size) {
+        return CursorUtils.toPage(
+                taskRepository.findDTOsByStatusAfter(status, CursorUtils.decode(cursor), pageOf(size)),
+                TaskDTO::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BoardDTO getBoard(Long projectId, TaskStatus status, String cursor, Integer limit) {
+        if (status == null && cursor != null && !cursor.isBlank()) {
+            throw new BadRequestException("A column status is required when paging with a cursor");
+        }
+        List<TaskStatus> statuses = status != null ? List.of(status) : List.of(TaskStatus.values());
+        int columnLimit = paginationProperties.resolvePageSize(limit);
+
+        // One extra row per column tells whether the column has a next page
+        Map<TaskStatus, List<BoardTaskRow>> rowsByStatus = taskRepository
+                .findBoard(projectId, statuses, CursorUtils.decode(cursor), columnLimit + 1L, (columnLimit + 1) * statuses.size()).stream()
+                .collect(Collectors.groupingBy(row -> row.getTask().getStatus(), () -> new EnumMap<>(TaskStatus.class), Collectors.toList()));
+
+        List<BoardColumnDTO> columns = statuses.stream()
+                .map(columnStatus -> toColumn(columnStatus, rowsByStatus.getOrDefault(columnStatus, List.of()), columnLimit))
+                .toList();
+        return new BoardDTO(projectId, columns);
+    }
+
+    private BoardColumnDTO toColumn(TaskStatus status, List<BoardTaskRow> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<TaskDTO> items = rows.stream()
+                .limit(limit)
+                .map(BoardTaskRow::getTask)
+                .toList();
+        long total = rows.isEmpty() ? 0L : rows.get(0).getColumnTotal();
+        String next = hasNext ? CursorUtils.encode(items.get(items.size() - 1).getId()) : null;
+        return new BoardColumnDTO(status, total, items, next, hasNext);
+    }
+
+    private Sort.Order parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.Order.asc(TaskSortField.ID.getAttribute());
+        }
+        String[] parts = sort.split(",");
+        if (parts.length > 2) {
+            throw new BadRequestException("Invalid sort: " + sort);
+        }
+        Sort.Direction direction = parts.length == 2
+                ? Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new BadRequestException("Invalid sort direction: " + parts[1]))
+                : Sort.Direction.ASC;
+        return new Sort.Order(direction, parts[0].trim());
+    }
+
+    // Live and archived rows for one keyset range, merged in sort order
+    @SuppressWarnings("unchecked")
+    private List<TaskDTO> findDTOs(Specification<Task> specification, boolean includeArchived, Sort sort,
+                                   Comparator<TaskDTO> order, int limit) {
+        List<TaskDTO> live = taskRepository.findDTOs(Task.class, specification, sort, limit);
+        if (!includeArchived) {
+            return live;
+        }
+        // The predicates only use attribute names, which ArchivedTask shares with Task
+        List<TaskDTO> archived = taskRepository.findDTOs(ArchivedTask.class,
+                (Specification<ArchivedTask>) (Specification<?>) specification, sort, limit);
+        return Stream.concat(live.stream(), archived.stream())
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<TaskDTO> orderOf(TaskSortField field, boolean descending) {
+        Comparator<TaskDTO> order = Comparator.comparing(task -> (Comparable) field.valueOf(task), Comparator.nullsLast(Comparator.naturalOrder()));
+        order = order.thenComparing(TaskDTO::getId);
+        return descending ? order.reversed() : order;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Specification<Task>> keysetSegments(TaskSortField field, boolean descending, String cursor) {
+        String attribute = field.getAttribute();
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        Comparable value;
+        try {
+            value = position != null && position.getValue() != null ? field.parse(position.getValue()) : null;
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+
+        if (!field.isNullable()) {
+            return List.of(value != null
+                    ? TaskSpecifications.after(attribute, value, position.getAfterId(), descending)
+                    : Specification.unrestricted());
+        }
+        Specification<Task> withKey = value != null
+                ? TaskSpecifications.after(attribute, value, position.getAfterId(), descending)
+                : TaskSpecifications.isNotNull(attribute);
+        Specification<Task> withoutKey = TaskSpecifications.<Task>isNull(attribute)
+                .and(TaskSpecifications.idAfter(position != null && value == null ? position.getAfterId() : 0L, descending));
+        if (descending) {
+            return value != null ? List.of(withKey) : List.of(withoutKey, withKey);
+        }
+        return position != null && value == null ? List.of(withoutKey) : List.of(withKey, withoutKey);
+    }
+
+    // Status and assignee changes set an absolute value, so a write that lost a version race can be replayed
+    // against the fresh row in a new transaction. A caller that sent If-Match asked for a change to that
+    // exact version, so it gets the 412 instead.
+    private TaskDTO retryOnConflict(Long expectedVersion, Supplier<TaskDTO> write) {
+        int maxAttempts = expectedVersion != null ? 1 : Math.max(1, concurrencyProperties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    throw ex;
+                }
+                backOff(attempt, ex);
+            }
+        }
+    }
+
+    // Full jitter: contending writers spread out instead of colliding again in lockstep
+    private void backOff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(concurrencyProperties.getMaxBackoff().toMillis(),
+                concurrencyProperties.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private void publish(ChangeType changeType, Long taskId, Long projectId, Long version) {
+        eventPublisher.publishEvent(new EntityChangedEvent(EntityType.TASK, changeType, taskId, projectId, version));
+    }
+
+    private void publishBulk(ChangeType changeType, int affected, Long projectId) {
+        if (affected > 0) {
+            publish(changeType, null, projectId, null);
+        }
+    }
+
+    // History entry for a single-task write; "to" values are read from the saved task
+    private void recordActivity(ChangeType changeType, Task task, TaskStatus fromStatus, Long fromAssigneeId, List<String> changedFields) {
+        eventPublisher.publishEvent(new TaskActivityEvent(task.getId(), task.getProject().getId(), changeType, task.getVersion(),
+                fromStatus, task.getStatus(), fromAssigneeId, assigneeId(task), changedFields, LocalDateTime.now()));
+    }
+
+    // Set-based writes never read the rows they change, so "from" values are only known when the
+    // filter pinned them (fromStatus on a project-wide status change)
+    private int recordBulk(ChangeType changeType, TaskStatus fromStatus, TaskStatus toStatus, Long toAssigneeId, List<TaskWriteRow> rows) {
+        if (!rows.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<TaskActivityEvent> events = rows.stream()
+                    .map(row -> new TaskActivityEvent(row.getId(), row.getProjectId(), changeType, row.getVersion(),
+                            fromStatus, toStatus, null, toAssigneeId, null, now))
+                    .toList();
+            eventPublisher.publishEvent(new TaskActivityBatch(events));
+        }
+        return rows.size();
+    }
+
+    private List<String> changedFields(Task task, TaskDTO changes) {
+        List<String> fields = new ArrayList<>();
+        if (!Objects.equals(task.getTitle(), changes.getTitle())) {
+            fields.add("title");
+        }
+        if (!Objects.equals(task.getDescription(), changes.getDescription())) {
+            fields.add("description");
+        }
+        if (task.getStatus() != changes.getStatus()) {
+            fields.add("status");
+        }
+        if (!Objects.equals(task.getDueDate(), changes.getDueDate())) {
+            fields.add("dueDate");
+        }
+        return fields;
+    }
+
+    private Long assigneeId(Task task) {
+        return task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+    }
+
+    private List<Long> requireTaskIds(BulkTaskUpdateDTO request) {
+        if (request.getTaskIds() == null || request.getTaskIds().isEmpty()) {
+            throw new BadRequestException("Task IDs are required");
+        }
+        return distinctIds(request.getTaskIds());
+    }
+
+    private List<Long> distinctIds(List<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    // Per-position errors for the submitted ids a set-based write did not touch. Ids without a live task are
+    // not found; ids that exist were either already in the target state (no error) or, when excludedMessage
+    // is given, filtered out by the write for that reason.
+    private List<BulkItemErrorDTO> bulkErrors(List<Long> submittedIds, List<TaskWriteRow> rows, String excludedMessage) {
+        Set<Long> written = rows.stream().map(TaskWriteRow::getId).collect(Collectors.toSet());
+        List<Long> untouched = distinctIds(submittedIds).stream().filter(id -> !written.contains(id)).toList();
+        Set<Long> existing = untouched.isEmpty() ? Set.of() : new HashSet<>(inChunks(untouched, taskRepository::findIdsByIdIn));
+
+        List<BulkItemErrorDTO> errors = new ArrayList<>();
+        for (int index = 0; index < submittedIds.size(); index++) {
+            Long id = submittedIds.get(index);
+            if (id == null) {
+                errors.add(new BulkItemErrorDTO(index, "Task id is required"));
+            } else if (!written.contains(id) && !existing.contains(id)) {
+                errors.add(new BulkItemErrorDTO(index, "Task not found with id: " + id));
+            } else if (!written.contains(id) && excludedMessage != null) {
+                errors.add(new BulkItemErrorDTO(index, excludedMessage));
+            }
+        }
+        return errors;
+    }
+
+    private <R> List<R> inChunks(List<Long> ids, Function<List<Long>, List<R>> query) {
+        List<R> results = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += BULK_ID_CHUNK_SIZE) {
+            results.addAll(query.apply(ids.subList(start, Math.min(start + BULK_ID_CHUNK_SIZE, ids.size()))));
+        }
+        return results;
+    }
+
+    private List<TaskWriteRow> writeInChunks(List<Long> ids, Function<List<Long>, List<TaskWriteRow>> update) {
+        return taskRepository.runSetBasedWrite(() -> inChunks(ids, update));
+    }
+
+    private Pageable pageOf(Integer size) {
+        return CursorUtils.firstRows(paginationProperties.resolvePageSize(size));
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque delta-sync position. A sync window returns every row written by a transaction at or after
+// sinceTxid, paged by id. nextTxid is the snapshot xmin taken when the window started and becomes the
+// following window's sinceTxid, so rows committed while the window was being paged are never missed.
+@Getter
+@AllArgsConstructor
+public final class ChangeToken {
+
+    private static final String PREFIX = "v1:";
+
+    private final long sinceTxid;
+
+    // Epoch seconds when sinceTxid was captured; tokens older than the tombstone retention expire
+    private final long sinceEpochSecond;
+
+    private final long nextTxid;
+
+    private final long nextEpochSecond;
+
+    private final long afterTaskId;
+
+    private final long afterTombstoneId;
+
+    // No token yet: the first window is a full sync of every current task
+    public static ChangeToken initial() {
+        return new ChangeToken(0L, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public boolean isWindowStart() {
+        return afterTaskId == 0L && afterTombstoneId == 0L;
+    }
+
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return initial();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid change token: " + token);
+            }
+            String[] parts = raw.substring(PREFIX.length()).split(":");
+            if (parts.length != 6) {
+                throw new BadRequestException("Invalid change token: " + token);
+            }
+            return new ChangeToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3]), Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid change token: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + sinceTxid + ":" + sinceEpochSecond + ":" + nextTxid + ":" + nextEpochSecond
+                + ":" + afterTaskId + ":" + afterTombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
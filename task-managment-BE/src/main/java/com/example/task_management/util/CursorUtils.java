@@ -0,0 +1,64 @@
+package com.example.task_management.util;
+
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorUtils {
+
+    private static final String PREFIX = "id:";
+
+    private CursorUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    // Keyset pages always start strictly after the last id of the previous page
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Pageable firstRows(int size) {
+        return PageRequest.of(0, size);
+    }
+
+    public static <D> CursorPageDTO<D> toPage(Slice<D> slice, Function<D, Long> idOf) {
+        return toPage(slice.getContent(), slice.hasNext(), idOf);
+    }
+
+    public static <E, D> CursorPageDTO<D> toPage(Slice<E> slice, Function<E, D> mapper, Function<D, Long> idOf) {
+        List<D> items = slice.getContent().stream()
+                .map(mapper)
+                .toList();
+        return toPage(items, slice.hasNext(), idOf);
+    }
+
+    public static <D> CursorPageDTO<D> toPage(List<D> items, boolean hasNext, Function<D, Long> idOf) {
+        String next = hasNext && !items.isEmpty()
+                ? encode(idOf.apply(items.get(items.size() - 1)))
+                : null;
+        return new CursorPageDTO<>(items, next, next != null, items.size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset position for lists sorted by something other than id: the sort key of the last row
+// (null when that row had none) and its id as the tie-breaker
+@Getter
+@AllArgsConstructor
+public final class KeysetCursor {
+
+    private static final String PREFIX = "key:";
+
+    private final String value;
+
+    private final long afterId;
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            if (!raw.startsWith(PREFIX) || separator < PREFIX.length()) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            String value = raw.substring(PREFIX.length(), separator);
+            return new KeysetCursor(value.isEmpty() ? null : value, Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + (value != null ? value : "") + ":" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
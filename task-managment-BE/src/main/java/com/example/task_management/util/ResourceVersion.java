@@ -0,0 +1,78 @@
+package com.example.task_management.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+// Validator for conditional GETs. Single entities: the entity's @Version, a count of related rows and the
+// newest updatedAt among the rows the DTO shows, plus the strong version tag for If-Match (see VersionTag).
+// Lists: a digest of the page being returned (see ofContent).
+public final class ResourceVersion {
+
+    private final Long entityVersion;
+    private final long count;
+    private final Instant lastModified;
+    private final String digest;
+
+    private ResourceVersion(Long entityVersion, long count, Instant lastModified, String digest) {
+        this.entityVersion = entityVersion;
+        this.count = count;
+        this.lastModified = lastModified;
+        this.digest = digest;
+    }
+
+    // Null timestamps (unassigned references) are ignored
+    public static ResourceVersion ofEntity(Long entityVersion, Long count, LocalDateTime... timestamps) {
+        return new ResourceVersion(entityVersion, count != null ? count : 0L, newest(timestamps), null);
+    }
+
+    // The page is already loaded, so its validator costs no query, whatever the size of the filtered set.
+    // Edits, renames, deletes and archival all change the rows shown, which no watermark over the table can
+    // promise for transactions that commit out of order. Lombok's toString lists every field with enums by
+    // name, so equal pages give equal tags on every instance. No Last-Modified: a delete has no timestamp.
+    public static ResourceVersion ofContent(Object content) {
+        String digest = DigestUtils.md5DigestAsHex(String.valueOf(content).getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion(null, 0L, null, digest);
+    }
+
+    private static Instant newest(LocalDateTime... timestamps) {
+        return Arrays.stream(timestamps)
+                .filter(Objects::nonNull)
+                .map(timestamp -> timestamp.atZone(ZoneId.systemDefault()).toInstant())
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    // Sets ETag/Last-Modified and answers true when the client's copy is current (status is then 304)
+    public boolean checkNotModified(ServletWebRequest request) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            if (entityVersion != null) {
+                request.getResponse().setHeader(VersionTag.HEADER, VersionTag.of(entityVersion));
+            }
+        }
+        return request.checkNotModified(etag(), lastModified != null ? lastModified.toEpochMilli() : -1L);
+    }
+
+    // Last-Modified only has second precision, the tag keeps the full timestamp. Weak, because the response
+    // cache serves one tag for both the identity and the gzip encoding.
+    private String etag() {
+        if (digest != null) {
+            return "W/\"" + digest + "\"";
+        }
+        String tag = "v" + entityVersion + "-" + count;
+        if (lastModified != null) {
+            tag += "-" + Long.toHexString(lastModified.getEpochSecond()) + "." + Integer.toHexString(lastModified.getNano());
+        }
+        return "W/\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset position for ranked search: results are ordered by rank descending, then id, so a
+// page starts strictly after the (rank, id) of the previous page's last hit
+@Getter
+@AllArgsConstructor
+public final class SearchCursor {
+
+    private static final String PREFIX = "rank:";
+
+    private final float rank;
+
+    private final long afterId;
+
+    public static SearchCursor first() {
+        return new SearchCursor(Float.POSITIVE_INFINITY, 0L);
+    }
+
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            String[] parts = raw.substring(PREFIX.length()).split(":");
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor: " + cursor);
+            }
+            // The rank round-trips exactly (float4 in Postgres), so ties on the boundary rank compare equal
+            return new SearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + rank + ":" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.exception.ConflictException;
+import com.example.task_management.exception.PreconditionFailedException;
+
+// If-Match preconditions for optimistic concurrency. The tag is strong and names only the entity's @Version
+// (the DTO's version field), quoted: single-entity GETs send it in X-Entity-Tag. Their ETag is weak and also
+// moves with related rows, so it is for If-None-Match only; If-Match uses strong comparison, which a weak
+// tag never passes. A write against any other version is rejected (412 via If-Match, 409 via the body).
+public final class VersionTag {
+
+    public static final String HEADER = "X-Entity-Tag";
+
+    private VersionTag() {
+    }
+
+    public static String of(long entityVersion) {
+        return "\"" + entityVersion + "\"";
+    }
+
+    // Absent header and "*" impose no version
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match uses strong comparison, which a weak tag never matches; send the "
+                    + HEADER + " of a GET or the version instead: " + ifMatch);
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"") || tag.indexOf('"', 1) != tag.length() - 1) {
+            throw new BadRequestException("If-Match must be a single entity tag such as \"3\": " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            // Well-formed, but no version of the entity carries this tag
+            throw new PreconditionFailedException("If-Match does not name a version of this resource: " + ifMatch);
+        }
+    }
+
+    // Header wins over the body: a PUT may carry the version either way
+    public static Long expected(String ifMatch, Long bodyVersion) {
+        Long version = parseIfMatch(ifMatch);
+        return version != null ? version : bodyVersion;
+    }
+
+    public static void check(String resource, Long id, Long expected, Long actual) {
+        if (expected != null && !expected.equals(actual)) {
+            throw new ConflictException(resource + " " + id + " was modified concurrently (current version "
+                    + actual + ", expected " + expected + ")");
+        }
+    }
+}
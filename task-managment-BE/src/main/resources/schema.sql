@@ -0,0 +1,231 @@
+-- Runs on every startup after Hibernate's schema update; every statement must be idempotent.
+
+-- tasks.id moved from IDENTITY to the pooled tasks_seq (allocationSize 50).
+-- Keep the sequence ahead of existing rows so pre-allocated id blocks never collide.
+SELECT setval('tasks_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM tasks) + 50, (SELECT last_value FROM tasks_seq)));
+
+-- developers.updated_at was added as a nullable column; give existing rows a validator timestamp.
+UPDATE developers SET updated_at = created_at WHERE updated_at IS NULL;
+
+-- Optimistic-lock versions were added as nullable columns; existing rows start at version 0.
+UPDATE tasks SET version = 0 WHERE version IS NULL;
+UPDATE projects SET version = 0 WHERE version IS NULL;
+UPDATE developers SET version = 0 WHERE version IS NULL;
+
+-- projects.name became unique (natural id). Hibernate's schema update cannot add uk_projects_name while
+-- duplicates exist, so rename every duplicate but the oldest to "<name> (<id>)" and add it here. Earlier
+-- builds created the same constraint under a generated name; those copies are dropped.
+UPDATE projects p SET name = p.name || ' (' || p.id || ')', updated_at = LOCALTIMESTAMP
+WHERE EXISTS (SELECT 1 FROM projects o WHERE o.name = p.name AND o.id < p.id);
+DO
+'DECLARE
+    stale record;
+BEGIN
+    FOR stale IN SELECT c.conname FROM pg_constraint c JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+                 WHERE c.conrelid = CAST(''projects'' AS regclass) AND c.contype = ''u'' AND cardinality(c.conkey) = 1
+                   AND a.attname = ''name'' AND c.conname <> ''uk_projects_name'' LOOP
+        EXECUTE format(''ALTER TABLE projects DROP CONSTRAINT %I'', stale.conname);
+    END LOOP;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conrelid = CAST(''projects'' AS regclass)
+                   AND conname = ''uk_projects_name'') THEN
+        ALTER TABLE projects ADD CONSTRAINT uk_projects_name UNIQUE (name);
+    END IF;
+END';
+
+-- Delta sync: stamp every task write with the writing transaction's id (64-bit, never wraps) ...
+CREATE OR REPLACE FUNCTION tasks_set_change_txid() RETURNS trigger LANGUAGE plpgsql AS
+'BEGIN NEW.change_txid := CAST(CAST(pg_current_xact_id() AS text) AS bigint); RETURN NEW; END';
+DROP TRIGGER IF EXISTS tasks_change_txid ON tasks;
+CREATE TRIGGER tasks_change_txid BEFORE INSERT OR UPDATE ON tasks FOR EACH ROW EXECUTE FUNCTION tasks_set_change_txid();
+-- Backfills rows written before the trigger existed; the trigger supplies the actual value.
+UPDATE tasks SET change_txid = 0 WHERE change_txid IS NULL;
+
+-- TaskDTO carries the project and assignee names. A rename stamps only the renamed row; delta sync looks
+-- up renamed projects and developers and re-sends their tasks, so child task rows are never rewritten.
+-- Earlier builds restamped every child task from triggers on rename; those are dropped.
+DROP TRIGGER IF EXISTS projects_rename_restamp ON projects;
+DROP TRIGGER IF EXISTS developers_rename_restamp ON developers;
+DROP FUNCTION IF EXISTS projects_restamp_tasks();
+DROP FUNCTION IF EXISTS developers_restamp_tasks();
+CREATE OR REPLACE FUNCTION set_name_change_txid() RETURNS trigger LANGUAGE plpgsql AS
+'BEGIN NEW.name_change_txid := CAST(CAST(pg_current_xact_id() AS text) AS bigint); RETURN NEW; END';
+DROP TRIGGER IF EXISTS projects_name_change_txid ON projects;
+CREATE TRIGGER projects_name_change_txid BEFORE UPDATE OF name ON projects FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name) EXECUTE FUNCTION set_name_change_txid();
+DROP TRIGGER IF EXISTS developers_name_change_txid ON developers;
+CREATE TRIGGER developers_name_change_txid BEFORE UPDATE OF name ON developers FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name) EXECUTE FUNCTION set_name_change_txid();
+
+-- ... and leave a tombstone for every deleted task, whichever path deleted it.
+CREATE OR REPLACE FUNCTION tasks_record_tombstone() RETURNS trigger LANGUAGE plpgsql AS
+'BEGIN
+    INSERT INTO task_tombstones (task_id, project_id, deleted_txid, deleted_at)
+    VALUES (OLD.id, OLD.project_id, CAST(CAST(pg_current_xact_id() AS text) AS bigint), LOCALTIMESTAMP)
+    ON CONFLICT (task_id) DO NOTHING;
+    RETURN OLD;
+END';
+DROP TRIGGER IF EXISTS tasks_tombstone ON tasks;
+CREATE TRIGGER tasks_tombstone AFTER DELETE ON tasks FOR EACH ROW EXECUTE FUNCTION tasks_record_tombstone();
+
+-- Full-text search: title weighs more than description. Adding the stored column rewrites the table once.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', COALESCE(title, '')), 'A') || setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+-- Archive for COMPLETED tasks (see TaskArchiveService), range-partitioned by month of the last update.
+-- Monthly partitions are created by the archival job as it needs them.
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status VARCHAR(255) NOT NULL,
+    due_date DATE,
+    project_id BIGINT NOT NULL,
+    assigned_to_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, updated_at)
+) PARTITION BY RANGE (updated_at);
+-- Archived rows keep their last version, so an If-Match taken before archival still identifies them.
+ALTER TABLE tasks_archive ADD COLUMN IF NOT EXISTS version BIGINT;
+UPDATE tasks_archive SET version = 0 WHERE version IS NULL;
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_project_id ON tasks_archive (project_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_assigned_to_id ON tasks_archive (assigned_to_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_due_date ON tasks_archive (due_date, id);
+
+CREATE OR REPLACE FUNCTION tasks_archive_ensure_partition(month_start DATE) RETURNS text LANGUAGE plpgsql AS
+'DECLARE
+    partition_name text := ''tasks_archive_'' || to_char(month_start, ''YYYY_MM'');
+BEGIN
+    EXECUTE format(''CREATE TABLE IF NOT EXISTS %I PARTITION OF tasks_archive FOR VALUES FROM (%L) TO (%L)'',
+        partition_name, month_start, month_start + INTERVAL ''1 month'');
+    RETURN partition_name;
+END';
+
+-- Dashboard statistics (ProjectTaskStats, ProjectDueDateStats): statement-level triggers fold each write's
+-- transition tables into per-key deltas, so a bulk update costs one upsert per touched key, not per row.
+-- Keys are upserted in key order so concurrent writers lock stats rows in the same order; rows that reach
+-- zero are dropped to keep dashboard reads small.
+CREATE OR REPLACE FUNCTION project_task_stats_apply(project_ids BIGINT[], statuses TEXT[], assignee_ids BIGINT[],
+                                                    due_dates DATE[], deltas INT[]) RETURNS void LANGUAGE sql AS
+'WITH c AS (SELECT * FROM unnest(project_ids, statuses, assignee_ids, due_dates, deltas) AS c(project_id, status, assigned_to_id, due_date, delta))
+INSERT INTO project_task_stats (project_id, status, assigned_to_id, task_count)
+SELECT project_id, status, COALESCE(assigned_to_id, 0), SUM(delta) FROM c
+GROUP BY 1, 2, 3 HAVING SUM(delta) <> 0 ORDER BY 1, 2, 3
+ON CONFLICT (project_id, status, assigned_to_id) DO UPDATE SET task_count = project_task_stats.task_count + EXCLUDED.task_count;
+DELETE FROM project_task_stats s USING unnest(project_ids, statuses, assignee_ids) AS k(project_id, status, assigned_to_id)
+WHERE s.project_id = k.project_id AND s.status = k.status AND s.assigned_to_id = COALESCE(k.assigned_to_id, 0) AND s.task_count = 0;
+WITH c AS (SELECT * FROM unnest(project_ids, statuses, due_dates, deltas) AS c(project_id, status, due_date, delta))
+INSERT INTO project_due_date_stats (project_id, due_date, open_count)
+SELECT project_id, due_date, SUM(delta) FROM c WHERE status <> ''COMPLETED'' AND due_date IS NOT NULL
+GROUP BY 1, 2 HAVING SUM(delta) <> 0 ORDER BY 1, 2
+ON CONFLICT (project_id, due_date) DO UPDATE SET open_count = project_due_date_stats.open_count + EXCLUDED.open_count;
+DELETE FROM project_due_date_stats s USING unnest(project_ids, due_dates) AS k(project_id, due_date)
+WHERE s.project_id = k.project_id AND s.due_date = k.due_date AND s.open_count = 0';
+
+CREATE OR REPLACE FUNCTION tasks_maintain_stats() RETURNS trigger LANGUAGE plpgsql AS
+'BEGIN
+    IF TG_OP = ''INSERT'' THEN
+        PERFORM project_task_stats_apply(array_agg(project_id), array_agg(CAST(status AS text)), array_agg(assigned_to_id), array_agg(due_date), array_agg(1))
+        FROM new_rows;
+    ELSIF TG_OP = ''DELETE'' THEN
+        PERFORM project_task_stats_apply(array_agg(project_id), array_agg(CAST(status AS text)), array_agg(assigned_to_id), array_agg(due_date), array_agg(-1))
+        FROM old_rows;
+    ELSE
+        PERFORM project_task_stats_apply(array_agg(project_id), array_agg(CAST(status AS text)), array_agg(assigned_to_id), array_agg(due_date), array_agg(delta))
+        FROM (SELECT project_id, status, assigned_to_id, due_date, -1 AS delta FROM old_rows
+              UNION ALL SELECT project_id, status, assigned_to_id, due_date, 1 FROM new_rows) changes;
+    END IF;
+    RETURN NULL;
+END';
+DROP TRIGGER IF EXISTS tasks_stats_insert ON tasks;
+CREATE TRIGGER tasks_stats_insert AFTER INSERT ON tasks REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_maintain_stats();
+DROP TRIGGER IF EXISTS tasks_stats_update ON tasks;
+CREATE TRIGGER tasks_stats_update AFTER UPDATE ON tasks REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_maintain_stats();
+DROP TRIGGER IF EXISTS tasks_stats_delete ON tasks;
+CREATE TRIGGER tasks_stats_delete AFTER DELETE ON tasks REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_maintain_stats();
+
+-- Repairs drift for one project by recounting its live tasks. The table lock waits for writers whose deltas
+-- are not committed yet and holds new ones back until the recount commits, so no delta is lost or doubled.
+CREATE OR REPLACE FUNCTION project_task_stats_rebuild(rebuild_project_id BIGINT) RETURNS bigint LANGUAGE plpgsql AS
+'DECLARE
+    total bigint;
+BEGIN
+    LOCK TABLE project_task_stats, project_due_date_stats IN SHARE ROW EXCLUSIVE MODE;
+    DELETE FROM project_task_stats WHERE project_id = rebuild_project_id;
+    DELETE FROM project_due_date_stats WHERE project_id = rebuild_project_id;
+    INSERT INTO project_task_stats (project_id, status, assigned_to_id, task_count)
+    SELECT project_id, status, COALESCE(assigned_to_id, 0), COUNT(*) FROM tasks
+    WHERE project_id = rebuild_project_id GROUP BY 1, 2, 3;
+    INSERT INTO project_due_date_stats (project_id, due_date, open_count)
+    SELECT project_id, due_date, COUNT(*) FROM tasks
+    WHERE project_id = rebuild_project_id AND status <> ''COMPLETED'' AND due_date IS NOT NULL GROUP BY 1, 2;
+    SELECT COALESCE(SUM(task_count), 0) INTO total FROM project_task_stats WHERE project_id = rebuild_project_id;
+    RETURN total;
+END';
+
+-- First start with the triggers: count the tasks that already exist.
+SELECT project_task_stats_rebuild(id) FROM projects WHERE NOT EXISTS (SELECT 1 FROM project_task_stats);
+
+-- Flow analytics (ProjectDailyFlow, ProjectCycleTimeStats). started_at is stamped whenever a task enters
+-- IN_DEVELOPMENT, whichever path moved it; it is not mapped on Task, so entity updates leave it alone.
+-- Tasks already in progress when this was added have no start and are left out of cycle times.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS started_at TIMESTAMP(6);
+CREATE OR REPLACE FUNCTION tasks_set_started_at() RETURNS trigger LANGUAGE plpgsql AS
+'BEGIN NEW.started_at := LOCALTIMESTAMP; RETURN NEW; END';
+DROP TRIGGER IF EXISTS tasks_started_at_insert ON tasks;
+CREATE TRIGGER tasks_started_at_insert BEFORE INSERT ON tasks FOR EACH ROW
+    WHEN (NEW.status = 'IN_DEVELOPMENT') EXECUTE FUNCTION tasks_set_started_at();
+DROP TRIGGER IF EXISTS tasks_started_at_update ON tasks;
+CREATE TRIGGER tasks_started_at_update BEFORE UPDATE ON tasks FOR EACH ROW
+    WHEN (NEW.status = 'IN_DEVELOPMENT' AND OLD.status IS DISTINCT FROM NEW.status) EXECUTE FUNCTION tasks_set_started_at();
+
+-- Daily rollups fed from the same transition tables as the dashboard statistics: one upsert per touched
+-- project (and cycle-time bucket) per statement. Cycle-time buckets are FLOOR(LN(seconds) / LN(1.1)),
+-- see ProjectAnalyticsServiceImpl. Only status changes matter, so other updates join to nothing.
+CREATE OR REPLACE FUNCTION tasks_maintain_flow() RETURNS trigger LANGUAGE plpgsql AS
+'BEGIN
+    IF TG_OP = ''INSERT'' THEN
+        INSERT INTO project_daily_flow (project_id, day, open_delta, completed_count)
+        SELECT project_id, CURRENT_DATE, COUNT(*), 0 FROM new_rows WHERE status <> ''COMPLETED''
+        GROUP BY 1 ORDER BY 1
+        ON CONFLICT (project_id, day) DO UPDATE SET open_delta = project_daily_flow.open_delta + EXCLUDED.open_delta;
+    ELSIF TG_OP = ''DELETE'' THEN
+        INSERT INTO project_daily_flow (project_id, day, open_delta, completed_count)
+        SELECT project_id, CURRENT_DATE, -COUNT(*), 0 FROM old_rows WHERE status <> ''COMPLETED''
+        GROUP BY 1 ORDER BY 1
+        ON CONFLICT (project_id, day) DO UPDATE SET open_delta = project_daily_flow.open_delta + EXCLUDED.open_delta;
+    ELSE
+        INSERT INTO project_daily_flow (project_id, day, open_delta, completed_count)
+        SELECT n.project_id, CURRENT_DATE,
+               COUNT(*) FILTER (WHERE o.status = ''COMPLETED'') - COUNT(*) FILTER (WHERE n.status = ''COMPLETED''),
+               COUNT(*) FILTER (WHERE n.status = ''COMPLETED'')
+        FROM old_rows o JOIN new_rows n ON n.id = o.id
+        WHERE o.status <> n.status AND (o.status = ''COMPLETED'' OR n.status = ''COMPLETED'')
+        GROUP BY 1 ORDER BY 1
+        ON CONFLICT (project_id, day) DO UPDATE SET open_delta = project_daily_flow.open_delta + EXCLUDED.open_delta,
+            completed_count = project_daily_flow.completed_count + EXCLUDED.completed_count;
+        INSERT INTO project_cycle_time_stats (project_id, day, bucket, task_count)
+        SELECT n.project_id, CURRENT_DATE,
+               CAST(FLOOR(LN(GREATEST(EXTRACT(EPOCH FROM LOCALTIMESTAMP - o.started_at), 1)) / LN(1.1)) AS int) AS bucket, COUNT(*)
+        FROM old_rows o JOIN new_rows n ON n.id = o.id
+        WHERE n.status = ''COMPLETED'' AND o.status <> ''COMPLETED'' AND o.started_at IS NOT NULL
+        GROUP BY 1, 3 ORDER BY 1, 3
+        ON CONFLICT (project_id, day, bucket) DO UPDATE SET task_count = project_cycle_time_stats.task_count + EXCLUDED.task_count;
+    END IF;
+    RETURN NULL;
+END';
+DROP TRIGGER IF EXISTS tasks_flow_insert ON tasks;
+CREATE TRIGGER tasks_flow_insert AFTER INSERT ON tasks REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_maintain_flow();
+DROP TRIGGER IF EXISTS tasks_flow_update ON tasks;
+CREATE TRIGGER tasks_flow_update AFTER UPDATE ON tasks REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_maintain_flow();
+DROP TRIGGER IF EXISTS tasks_flow_delete ON tasks;
+CREATE TRIGGER tasks_flow_delete AFTER DELETE ON tasks REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_maintain_flow();
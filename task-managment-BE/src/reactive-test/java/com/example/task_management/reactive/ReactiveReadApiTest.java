@@ -0,0 +1,129 @@
+package com.example.task_management.reactive;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestClient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The reactive read API against the servlet endpoints it mirrors: same DTO shapes, same id cursor, same
+// error bodies. Runs with -P reactive only (src/reactive-test/java).
+@ActiveProfiles("reactive")
+@TestPropertySource(properties = "app.reactive.port=0")
+class ReactiveReadApiTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ReactiveApiServer reactiveApiServer;
+
+    @Test
+    void taskMatchesTheServletDto() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        Task task = createTasks(project, TaskStatus.IN_DEVELOPMENT, 1).get(0);
+        jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ?, due_date = DATE '2030-01-15', description = 'd' WHERE id = ?",
+                developer.getId(), task.getId());
+
+        Map<String, Object> reactive = json(reactive().get().uri("/api/v1/tasks/{id}", task.getId()));
+        Map<String, Object> servlet = json(api().get().uri("/api/v1/tasks/{id}", task.getId()));
+
+        assertThat(reactive).isEqualTo(servlet).containsEntry("assignedToName", developer.getName());
+    }
+
+    @Test
+    void projectMatchesTheServletDto() {
+        Project project = createProject();
+        createDeveloper(project);
+        createTasks(project, TaskStatus.BACKLOG, 3);
+
+        Map<String, Object> reactive = json(reactive().get().uri("/api/v1/projects/{id}", project.getId()));
+        Map<String, Object> servlet = json(api().get().uri("/api/v1/projects/{id}", project.getId()));
+
+        assertThat(reactive).isEqualTo(servlet).containsEntry("taskCount", 3).containsEntry("developerCount", 1);
+    }
+
+    // The servlet page's cursor continues the reactive stream where the page ended
+    @Test
+    void projectTasksFollowTheServletPagesAndCursor() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 5);
+
+        String page = api().get().uri("/api/v1/projects/{id}/tasks?size=2", project.getId()).retrieve().body(String.class);
+        List<Map<String, Object>> first = list(reactive().get().uri("/api/v1/projects/{id}/tasks?size=2", project.getId()));
+        assertThat(first).isEqualTo(JsonPath.read(page, "$.items"));
+
+        List<Map<String, Object>> rest = list(reactive().get().uri("/api/v1/projects/{id}/tasks?cursor={cursor}",
+                project.getId(), JsonPath.<String>read(page, "$.next")));
+        assertThat(ids(rest)).hasSize(3).allMatch(id -> id > ids(first).get(1)).isSorted();
+
+        // No size streams every row
+        assertThat(ids(list(reactive().get().uri("/api/v1/projects/{id}/tasks", project.getId())))).hasSize(5);
+    }
+
+    @Test
+    void ndjsonStreamsOneTaskPerLine() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 3);
+
+        ResponseEntity<String> response = reactive().get().uri("/api/v1/projects/{id}/tasks", project.getId())
+                .accept(MediaType.APPLICATION_NDJSON).retrieve().toEntity(String.class);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(Arrays.stream(response.getBody().split("\n")).filter(line -> !line.isBlank()))
+                .hasSize(3).allMatch(line -> JsonPath.<Object>read(line, "$.projectId").equals(project.getId().intValue()));
+    }
+
+    @Test
+    void unknownIdsAreNotFound() {
+        assertError(reactive().get().uri("/api/v1/tasks/{id}", Long.MAX_VALUE), HttpStatus.NOT_FOUND);
+        assertError(reactive().get().uri("/api/v1/projects/{id}", Long.MAX_VALUE), HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void malformedParametersAreBadRequests() {
+        assertError(reactive().get().uri("/api/v1/tasks/abc"), HttpStatus.BAD_REQUEST);
+        assertError(reactive().get().uri("/api/v1/tasks/status/DONE"), HttpStatus.BAD_REQUEST);
+        assertError(reactive().get().uri("/api/v1/projects?size=ten"), HttpStatus.BAD_REQUEST);
+        assertError(reactive().get().uri("/api/v1/projects?cursor=not-a-cursor"), HttpStatus.BAD_REQUEST);
+    }
+
+    private void assertError(RestClient.RequestHeadersSpec<?> request, HttpStatus status) {
+        ResponseEntity<String> response = request.retrieve().toEntity(String.class);
+        assertThat(response.getStatusCode()).isEqualTo(status);
+        assertThat(JsonPath.<Integer>read(response.getBody(), "$.status")).isEqualTo(status.value());
+        assertThat(JsonPath.<String>read(response.getBody(), "$.message")).isNotBlank();
+    }
+
+    private RestClient reactive() {
+        return RestClient.builder()
+                .baseUrl("http://localhost:" + reactiveApiServer.getPort())
+                .defaultStatusHandler(status -> true, (request, response) -> { })
+                .build();
+    }
+
+    private static Map<String, Object> json(RestClient.RequestHeadersSpec<?> request) {
+        return JsonPath.read(request.retrieve().body(String.class), "$");
+    }
+
+    private static List<Map<String, Object>> list(RestClient.RequestHeadersSpec<?> request) {
+        return JsonPath.read(request.retrieve().body(String.class), "$");
+    }
+
+    private static List<Long> ids(List<Map<String, Object>> tasks) {
+        return tasks.stream().map(task -> ((Number) task.get("id")).longValue()).toList();
+    }
+}
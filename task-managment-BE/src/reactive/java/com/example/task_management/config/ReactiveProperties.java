@@ -0,0 +1,42 @@
+package com.example.task_management.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Reactive read API, started by the "reactive" profile (see application-reactive.properties)
+@Component
+@ConfigurationProperties(prefix = "app.reactive")
+@Data
+public class ReactiveProperties {
+
+    // Reactor Netty listens here; the servlet API keeps server.port
+    private int port = 8081;
+
+    // Either an r2dbc: URL or the jdbc:postgresql: URL of the servlet side, which is converted
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    // R2DBC connections are separate from the Hikari pool
+    private int poolInitialSize = 2;
+
+    private int poolMaxSize = 10;
+
+    // Requests that cannot get a connection within this time are answered with 503
+    private Duration maxAcquireTime = Duration.ofSeconds(2);
+
+    // Rows PostgreSQL sends per round trip while streaming; the next batch is only fetched on demand
+    private int fetchSize = 256;
+
+    public String resolveUrl() {
+        if (url != null && url.startsWith("jdbc:")) {
+            return "r2dbc:" + url.substring("jdbc:".length());
+        }
+        return url;
+    }
+}
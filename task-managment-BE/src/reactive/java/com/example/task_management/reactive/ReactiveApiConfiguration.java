@@ -0,0 +1,89 @@
+package com.example.task_management.reactive;
+
+import com.example.task_management.config.ReactiveProperties;
+import com.example.task_management.constants.ProjectApiPaths;
+import com.example.task_management.constants.TaskApiPaths;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+// Beans of the context that ReactiveApiServer runs on Reactor Netty. Deliberately not a @Configuration:
+// the application's component scan must not pick up WebFlux or R2DBC beans, and a ConnectionFactory in the
+// main context would also switch off the JDBC DataSource auto-configuration.
+@EnableWebFlux
+public class ReactiveApiConfiguration implements WebFluxConfigurer {
+
+    private final JsonMapper jsonMapper;
+
+    public ReactiveApiConfiguration(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Same JsonMapper as the servlet side, so both APIs render the DTOs identically
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jacksonJsonEncoder(new JacksonJsonEncoder(jsonMapper));
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/**")
+                .allowCredentials(true)
+                .allowedOrigins("http://localhost:4200")
+                .allowedHeaders("*")
+                .allowedMethods("GET", "OPTIONS")
+                .maxAge(3600L);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveConnectionPool(ReactiveProperties properties) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(properties.resolveUrl())
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-read")
+                .initialSize(Math.min(properties.getPoolInitialSize(), properties.getPoolMaxSize()))
+                .maxSize(properties.getPoolMaxSize())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+    }
+
+    @Bean
+    public ReactiveTaskQueries reactiveTaskQueries(ConnectionPool reactiveConnectionPool, ReactiveProperties properties) {
+        return new ReactiveTaskQueries(DatabaseClient.create(reactiveConnectionPool), properties.getFetchSize());
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveReadRoutes(ReactiveTaskQueries reactiveTaskQueries) {
+        ReactiveReadHandler handler = new ReactiveReadHandler(reactiveTaskQueries);
+        return RouterFunctions.route()
+                .path(TaskApiPaths.BASE, tasks -> tasks
+                        .GET(TaskApiPaths.GET_BY_STATUS, handler::getTasksByStatus)
+                        .GET(TaskApiPaths.GET_BY_ID, handler::getTaskById))
+                .path(ProjectApiPaths.BASE, projects -> projects
+                        .GET(ProjectApiPaths.GET_ALL, handler::getAllProjects)
+                        .GET(ProjectApiPaths.GET_TASKS, handler::getProjectTasks)
+                        .GET(ProjectApiPaths.GET_BY_ID, handler::getProjectById))
+                .build();
+    }
+
+    @Bean
+    public ReactiveExceptionHandler reactiveExceptionHandler() {
+        return new ReactiveExceptionHandler(jsonMapper);
+    }
+}
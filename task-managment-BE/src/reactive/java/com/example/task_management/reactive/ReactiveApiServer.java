@@ -0,0 +1,74 @@
+package com.example.task_management.reactive;
+
+import com.example.task_management.config.ReactiveProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import tools.jackson.databind.json.JsonMapper;
+
+// Serves the reactive read API next to the servlet API: a separate context holding only the WebFlux routes and
+// the R2DBC pool, behind its own Reactor Netty server on app.reactive.port. Connections there are multiplexed
+// over a few event-loop threads, so long-lived or slow readers do not each hold a request thread. The context
+// has no parent (Spring refuses WebFlux config next to MVC config) and gets the beans it shares handed in.
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveApiServer implements SmartLifecycle {
+
+    private final ReactiveProperties properties;
+    private final JsonMapper jsonMapper;
+
+    private AnnotationConfigApplicationContext reactiveContext;
+    private DisposableServer server;
+
+    public ReactiveApiServer(ReactiveProperties properties, JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void start() {
+        reactiveContext = new AnnotationConfigApplicationContext();
+        reactiveContext.setDisplayName("reactive-read-api");
+        reactiveContext.registerBean(ReactiveProperties.class, () -> properties);
+        reactiveContext.registerBean(JsonMapper.class, () -> jsonMapper);
+        reactiveContext.register(ReactiveApiConfiguration.class);
+        reactiveContext.refresh();
+
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(
+                WebHttpHandlerBuilder.applicationContext(reactiveContext).build());
+        server = HttpServer.create()
+                .port(properties.getPort())
+                .handle(adapter)
+                .bindNow();
+        log.info("Reactive read API started on port {}", server.port());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (reactiveContext != null) {
+            reactiveContext.close();
+            reactiveContext = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    // The bound port, which differs from app.reactive.port when that is 0
+    public synchronized int getPort() {
+        return server.port();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.task_management.reactive;
+
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.task_management.exception.ResourceNotFoundException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+
+// GlobalExceptionHandler for the reactive read API, with the same ErrorResponse body. It runs for errors
+// raised while a list is being written too: a stream only acquires its connection once the body is
+// subscribed, so an exhausted pool surfaces here, while the response is still uncommitted.
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReactiveExceptionHandler implements WebExceptionHandler {
+
+    private final JsonMapper jsonMapper;
+
+    public ReactiveExceptionHandler(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        if (ex instanceof ResourceNotFoundException) {
+            return write(response, HttpStatus.NOT_FOUND, ex.getMessage());
+        }
+        if (ex instanceof BadRequestException) {
+            return write(response, HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+        // No pooled connection within app.reactive.max-acquire-time: shed the request like the servlet side does
+        if (ex instanceof DataAccessResourceFailureException) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return write(response, HttpStatus.SERVICE_UNAVAILABLE, "The service is busy, try again shortly");
+        }
+        return Mono.error(ex);
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, HttpStatus status, String message) {
+        byte[] body = jsonMapper.writeValueAsBytes(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
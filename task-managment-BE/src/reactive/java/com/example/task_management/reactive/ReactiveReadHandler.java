@@ -0,0 +1,96 @@
+package com.example.task_management.reactive;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.exception.ResourceNotFoundException;
+import com.example.task_management.util.CursorUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read-only counterparts of the servlet task and project queries. Lists are not paged into a CursorPageDTO:
+// they stream every row after ?cursor (the same opaque id cursor), or at most ?size rows when given.
+// Ask for application/x-ndjson to get one JSON document per line, flushed as rows arrive.
+public class ReactiveReadHandler {
+
+    private final ReactiveTaskQueries queries;
+
+    public ReactiveReadHandler(ReactiveTaskQueries queries) {
+        this.queries = queries;
+    }
+
+    // Archived tasks are not looked up here (no includeArchived)
+    public Mono<ServerResponse> getTaskById(ServerRequest request) {
+        long id = idOf(request);
+        return queries.findTaskById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task not found with id: " + id)))
+                .flatMap(task -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(task));
+    }
+
+    public Mono<ServerResponse> getTasksByStatus(ServerRequest request) {
+        TaskStatus status = statusOf(request.pathVariable("status"));
+        return stream(request, queries.streamTasksByStatus(status, afterId(request), limit(request)), TaskDTO.class);
+    }
+
+    public Mono<ServerResponse> getProjectTasks(ServerRequest request) {
+        return stream(request, queries.streamTasksByProjectId(idOf(request), afterId(request), limit(request)), TaskDTO.class);
+    }
+
+    public Mono<ServerResponse> getProjectById(ServerRequest request) {
+        long id = idOf(request);
+        return queries.findProjectById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Project not found with id: " + id)))
+                .flatMap(project -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(project));
+    }
+
+    public Mono<ServerResponse> getAllProjects(ServerRequest request) {
+        return stream(request, queries.streamProjects(afterId(request), limit(request)), ProjectDTO.class);
+    }
+
+    // Netty only requests more rows from the Flux as the socket drains, and the query only fetches
+    // more from PostgreSQL as the Flux is requested, so backpressure reaches the database cursor
+    private static <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> rows, Class<T> type) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(rows, type);
+    }
+
+    private static long idOf(ServerRequest request) {
+        String id = request.pathVariable("id");
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid id: " + id);
+        }
+    }
+
+    private static TaskStatus statusOf(String status) {
+        try {
+            return TaskStatus.valueOf(status);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid status: " + status);
+        }
+    }
+
+    private static long afterId(ServerRequest request) {
+        return CursorUtils.decode(request.queryParam("cursor").orElse(null));
+    }
+
+    private static long limit(ServerRequest request) {
+        String size = request.queryParam("size").orElse(null);
+        if (size == null || size.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            long limit = Long.parseLong(size);
+            return limit > 0 ? limit : Long.MAX_VALUE;
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("Invalid size: " + size);
+        }
+    }
+}
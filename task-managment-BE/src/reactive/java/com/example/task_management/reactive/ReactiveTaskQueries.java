@@ -0,0 +1,107 @@
+package com.example.task_management.reactive;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.dto.TaskDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Same rows and DTO shapes as the JPA queries behind the servlet endpoints (TaskRepository.TASK_DTO_SELECT,
+// ProjectServiceImpl), written as SQL for R2DBC. Streams are keyset-ordered by id and fetched fetchSize rows
+// at a time, so a slow reader holds back the database cursor instead of buffering rows in memory.
+public class ReactiveTaskQueries {
+
+    private static final String TASK_SELECT = "SELECT t.id, t.title, t.description, t.status, t.due_date, "
+            + "p.id AS project_id, p.name AS project_name, d.id AS assigned_to_id, d.name AS assigned_to_name, "
+            + "t.created_at, t.updated_at, t.version "
+            + "FROM tasks t JOIN projects p ON p.id = t.project_id LEFT JOIN developers d ON d.id = t.assigned_to_id ";
+
+    // Task counts come from the trigger-maintained rollup instead of counting the tasks table per project
+    private static final String PROJECT_SELECT = "SELECT p.id, p.name, p.description, p.created_at, p.updated_at, p.version, "
+            + "(SELECT COUNT(*) FROM developers d WHERE d.project_id = p.id) AS developer_count, "
+            + "(SELECT CAST(COALESCE(SUM(s.task_count), 0) AS bigint) FROM project_task_stats s WHERE s.project_id = p.id) AS task_count "
+            + "FROM projects p ";
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveTaskQueries(DatabaseClient databaseClient, int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    public Mono<TaskDTO> findTaskById(long id) {
+        return databaseClient.sql(TASK_SELECT + "WHERE t.id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskQueries::toTaskDTO)
+                .one();
+    }
+
+    public Flux<TaskDTO> streamTasksByProjectId(long projectId, long afterId, long limit) {
+        return streamTasks("WHERE t.project_id = :filter", projectId, afterId, limit);
+    }
+
+    public Flux<TaskDTO> streamTasksByStatus(TaskStatus status, long afterId, long limit) {
+        return streamTasks("WHERE t.status = :filter", status.name(), afterId, limit);
+    }
+
+    public Mono<ProjectDTO> findProjectById(long id) {
+        return databaseClient.sql(PROJECT_SELECT + "WHERE p.id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskQueries::toProjectDTO)
+                .one();
+    }
+
+    public Flux<ProjectDTO> streamProjects(long afterId, long limit) {
+        return databaseClient.sql(PROJECT_SELECT + "WHERE p.id > :afterId ORDER BY p.id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveTaskQueries::toProjectDTO)
+                .all();
+    }
+
+    private Flux<TaskDTO> streamTasks(String where, Object filter, long afterId, long limit) {
+        return databaseClient.sql(TASK_SELECT + where + " AND t.id > :afterId ORDER BY t.id LIMIT :limit")
+                .bind("filter", filter)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveTaskQueries::toTaskDTO)
+                .all();
+    }
+
+    private static TaskDTO toTaskDTO(Readable row) {
+        return new TaskDTO(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                row.get("due_date", LocalDate.class),
+                row.get("project_id", Long.class),
+                row.get("project_name", String.class),
+                row.get("assigned_to_id", Long.class),
+                row.get("assigned_to_name", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+
+    private static ProjectDTO toProjectDTO(Readable row) {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setName(row.get("name", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setDeveloperCount(row.get("developer_count", Long.class).intValue());
+        dto.setTaskCount(row.get("task_count", Long.class).intValue());
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        dto.setVersion(row.get("version", Long.class));
+        return dto;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.task_management;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.metrics.SqlStatementCounter;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.repository.DeveloperRepository;
+import com.example.task_management.repository.ProjectRepository;
+import com.example.task_management.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.client.RestClient;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Repository tests run against PostgreSQL itself: the triggers, snapshot functions and native queries they
+// cover have no in-memory stand-in. With Docker available the run gets a throwaway postgres:16 container.
+// Without it the tests are skipped, unless the run opts in to the database from application.properties
+// (-Dtest.database=external); they write to it and clean up the projects they create. The application runs
+// on a random port for the tests that go through HTTP.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+public abstract class PostgresIntegrationTest {
+
+    private static final boolean EXTERNAL_DATABASE = "external".equals(System.getProperty("test.database"));
+
+    private static final PostgreSQLContainer POSTGRES = !EXTERNAL_DATABASE && DockerClientFactory.instance().isDockerAvailable()
+            ? startPostgres()
+            : null;
+
+    @Autowired
+    protected ProjectRepository projectRepository;
+
+    @Autowired
+    protected TaskRepository taskRepository;
+
+    @Autowired
+    protected DeveloperRepository developerRepository;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    private final List<Long> createdProjectIds = new ArrayList<>();
+
+    private static PostgreSQLContainer startPostgres() {
+        PostgreSQLContainer container = new PostgreSQLContainer("postgres:16-alpine");
+        container.start();
+        return container;
+    }
+
+    // Runs before the Spring context is loaded, so a skipped class never connects anywhere
+    @BeforeAll
+    static void requireDatabase() {
+        assumeTrue(POSTGRES != null || EXTERNAL_DATABASE,
+                "Docker is not available; run with -Dtest.database=external to use the configured database");
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        if (POSTGRES != null) {
+            registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+            registry.add("spring.datasource.username", POSTGRES::getUsername);
+            registry.add("spring.datasource.password", POSTGRES::getPassword);
+        }
+    }
+
+    // Error statuses come back as responses rather than exceptions
+    protected RestClient api() {
+        return RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultStatusHandler(status -> true, (request, response) -> { })
+                .build();
+    }
+
+    protected Project createProject() {
+        Project project = new Project();
+        project.setName("test-" + UUID.randomUUID());
+        Project saved = projectRepository.save(project);
+        createdProjectIds.add(saved.getId());
+        return saved;
+    }
+
+    // For projects a test inserted without createProject, e.g. through SQL
+    protected void deleteAfterTest(Long projectId) {
+        createdProjectIds.add(projectId);
+    }
+
+    // Removed with its project
+    protected Developer createDeveloper(Project project) {
+        Developer developer = new Developer();
+        developer.setName("developer " + UUID.randomUUID());
+        developer.setEmail(UUID.randomUUID() + "@example.com");
+        developer.setProject(project);
+        return developerRepository.save(developer);
+    }
+
+    protected List<Task> createTasks(Project project, TaskStatus status, int count) {
+        return taskRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Task task = new Task();
+                    task.setTitle("task " + i);
+                    task.setStatus(status);
+                    task.setProject(project);
+                    return task;
+                })
+                .toList());
+    }
+
+    // SQL statements Hibernate prepared on this thread during the call (see SqlStatementCounter)
+    protected static int statementCount(Runnable call) {
+        SqlStatementCounter.open();
+        try {
+            call.run();
+        } catch (RuntimeException ex) {
+            SqlStatementCounter.close();
+            throw ex;
+        }
+        return SqlStatementCounter.close();
+    }
+
+    // Everything a test project left behind, including rows written by triggers
+    @AfterEach
+    void deleteCreatedProjects() {
+        for (Long projectId : createdProjectIds) {
+            jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+            for (String table : List.of("tasks_archive", "task_tombstones", "task_events", "project_task_stats",
+                    "project_due_date_stats", "project_daily_flow", "project_cycle_time_stats", "developers")) {
+                jdbcTemplate.update("DELETE FROM " + table + " WHERE project_id = ?", projectId);
+            }
+            jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        }
+        createdProjectIds.clear();
+    }
+}
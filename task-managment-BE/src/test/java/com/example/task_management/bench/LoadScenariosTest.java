@@ -0,0 +1,93 @@
+package com.example.task_management.bench;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.config.DataGeneratorProperties;
+import com.example.task_management.datagen.SyntheticDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs bench/ScenarioLoadTest.java (the program bench/load-suite.sh drives) for a second per scenario
+// against this application and a small generated data set: every endpoint it calls must exist and answer
+// without errors, so the load suite does not silently measure 404s after an API change.
+class LoadScenariosTest extends PostgresIntegrationTest {
+
+    private static final Set<String> ENDPOINTS = Set.of("project.list", "project.get", "project.tasks", "project.board",
+            "project.developers", "project.stats", "project.burndown", "project.cycle-time", "project.throughput",
+            "task.get", "task.history", "task.search", "task.filter", "task.status", "task.assign");
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    private final String prefix = "load-" + UUID.randomUUID();
+
+    @AfterEach
+    void deleteUnassignedDevelopers() {
+        jdbcTemplate.update("DELETE FROM developers WHERE project_id IS NULL AND email LIKE ? || '-free-%'", prefix);
+    }
+
+    @Test
+    void everyScenarioRunsWithoutErrors(@TempDir Path dir) throws IOException, InterruptedException {
+        generate();
+        Path csv = dir.resolve("results.csv");
+
+        Process process = new ProcessBuilder(javaLauncher(), "bench/ScenarioLoadTest.java",
+                "--url", "http://localhost:" + port, "--prefix", prefix, "--projects", "3", "--clients", "4",
+                "--warmup", "0", "--duration", "1", "--csv", csv.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(dir.resolve("output.txt").toFile())
+                .start();
+        assertThat(process.waitFor(2, TimeUnit.MINUTES)).isTrue();
+        assertThat(process.exitValue()).as(Files.readString(dir.resolve("output.txt"))).isZero();
+
+        List<String[]> rows = Files.readAllLines(csv).stream()
+                .skip(1)
+                .map(line -> line.split(","))
+                .toList();
+        assertThat(rows.stream().map(row -> row[0]).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrder("browse", "search", "analytics", "writes", "mixed");
+        assertThat(rows.stream().map(row -> row[2]).filter(endpoint -> !endpoint.equals("total")).collect(Collectors.toSet()))
+                .isEqualTo(ENDPOINTS);
+        // requests and errors per scenario and endpoint
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(Long.parseLong(row[3])).as(String.join(",", row)).isPositive();
+            assertThat(Long.parseLong(row[4])).as(String.join(",", row)).isZero();
+        });
+    }
+
+    private void generate() {
+        DataGeneratorProperties properties = new DataGeneratorProperties();
+        properties.setProjects(3);
+        properties.setDevelopers(12);
+        properties.setUnassignedDevelopers(1);
+        properties.setTasks(600);
+        properties.setNamePrefix(prefix);
+        try {
+            new SyntheticDataGenerator(properties, jdbcTemplate, transactionTemplate, null).generate();
+        } finally {
+            jdbcTemplate.queryForList("SELECT id FROM projects WHERE name LIKE ? || '-project-%'", Long.class, prefix)
+                    .forEach(this::deleteAfterTest);
+        }
+    }
+
+    private static String javaLauncher() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.task_management.cache;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.config.ArchiveProperties;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.service.TaskArchiveService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest extends PostgresIntegrationTest {
+
+    // Far enough back that no other completed task is eligible; the month gets its own partition
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(1999, 2, 10, 12, 0);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(1999, 3, 1, 0, 0);
+    private static final String PARTITION = "tasks_archive_1999_02";
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private ArchiveProperties archiveProperties;
+
+    private boolean partitionExisted;
+
+    @BeforeEach
+    void notePartition() {
+        partitionExisted = partitionExists();
+    }
+
+    // Only the partition this test created
+    @AfterEach
+    void dropPartition() {
+        if (!partitionExisted && partitionExists()) {
+            jdbcTemplate.execute("DROP TABLE " + PARTITION);
+        }
+    }
+
+    @Test
+    void taskWriteEvictsItsProjectsListAndBoardOnly() {
+        Project project = createProject();
+        Project other = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 1);
+        createTasks(other, TaskStatus.BACKLOG, 1);
+        String tasks = "/api/v1/projects/" + project.getId() + "/tasks";
+        String board = "/api/v1/projects/" + project.getId() + "/board";
+        String otherTasks = "/api/v1/projects/" + other.getId() + "/tasks";
+        for (String uri : new String[] {tasks, board, otherTasks}) {
+            assertThat(cacheStatus(uri)).isEqualTo("MISS");
+            assertThat(cacheStatus(uri)).isEqualTo("HIT");
+        }
+
+        ResponseEntity<String> created = api().post().uri("/api/v1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("title", "new task", "status", "BACKLOG", "projectId", project.getId()))
+                .retrieve().toEntity(String.class);
+
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(cacheStatus(tasks)).isEqualTo("MISS");
+        assertThat(cacheStatus(board)).isEqualTo("MISS");
+        assertThat(cacheStatus(otherTasks)).isEqualTo("HIT");
+        assertThat(get(tasks).getBody()).contains("new task");
+    }
+
+    @Test
+    void archiveBatchEvictsTheProjectsList() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.COMPLETED, 1).get(0);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?", COMPLETED_AT, task.getId());
+        String tasks = "/api/v1/projects/" + project.getId() + "/tasks";
+        assertThat(cacheStatus(tasks)).isEqualTo("MISS");
+        assertThat(cacheStatus(tasks)).isEqualTo("HIT");
+
+        Duration completedAge = archiveProperties.getCompletedAge();
+        archiveProperties.setCompletedAge(Duration.between(CUTOFF, LocalDateTime.now()));
+        try {
+            assertThat(taskArchiveService.archiveCompletedTasks()).isEqualTo(1);
+        } finally {
+            archiveProperties.setCompletedAge(completedAge);
+        }
+
+        assertThat(cacheStatus(tasks)).isEqualTo("MISS");
+        assertThat(get(tasks).getBody()).doesNotContain("\"id\":" + task.getId() + ",");
+    }
+
+    private ResponseEntity<String> get(String uri) {
+        return api().get().uri(uri).retrieve().toEntity(String.class);
+    }
+
+    private String cacheStatus(String uri) {
+        ResponseEntity<String> response = get(uri);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getHeaders().getFirst("X-Cache");
+    }
+
+    private boolean partitionExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, PARTITION));
+    }
+}
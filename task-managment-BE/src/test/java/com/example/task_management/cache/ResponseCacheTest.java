@@ -0,0 +1,78 @@
+package com.example.task_management.cache;
+
+import com.example.task_management.config.ResponseCacheProperties;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import com.example.task_management.event.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private final ResponseCache cache = new ResponseCache(new ResponseCacheProperties());
+
+    @Test
+    void putUnderTheCurrentGenerationIsStored() {
+        String key = tasksKey("1");
+
+        cache.put(key, response("[]"), cache.currentGeneration());
+
+        assertThat(cache.get(key)).isNotNull();
+    }
+
+    @Test
+    void putThatStartedBeforeAnInvalidationIsDiscarded() {
+        String key = tasksKey("1");
+        long generation = cache.currentGeneration();
+
+        // The write commits while the response is still being rendered from the old rows
+        cache.onEntityChanged(taskChanged(1L));
+        cache.put(key, response("[]"), generation);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    void taskChangeEvictsOnlyItsOwnProjectsGroups() {
+        String ownTasks = tasksKey("1");
+        String ownBoard = ResponseCache.key(ResponseCache.projectTasksGroup("1"), "/api/v1/projects/1/board", null, false);
+        String otherTasks = tasksKey("2");
+        String projects = ResponseCache.key(ResponseCache.PROJECTS_GROUP, "/api/v1/projects", "size=20", true);
+        for (String key : new String[] {ownTasks, ownBoard, otherTasks, projects}) {
+            cache.put(key, response("[]"), cache.currentGeneration());
+        }
+
+        cache.onEntityChanged(taskChanged(1L));
+
+        assertThat(cache.get(ownTasks)).isNull();
+        assertThat(cache.get(ownBoard)).isNull();
+        // Task counts on the project list move with every task write
+        assertThat(cache.get(projects)).isNull();
+        assertThat(cache.get(otherTasks)).isNotNull();
+    }
+
+    @Test
+    void projectChangeEvictsEverything() {
+        String tasks = tasksKey("2");
+        cache.put(tasks, response("[]"), cache.currentGeneration());
+
+        cache.onEntityChanged(new EntityChangedEvent(EntityType.PROJECT, ChangeType.UPDATED, 1L, 1L, 2L));
+
+        assertThat(cache.get(tasks)).isNull();
+    }
+
+    private static String tasksKey(String projectId) {
+        return ResponseCache.key(ResponseCache.projectTasksGroup(projectId), "/api/v1/projects/" + projectId + "/tasks", null, false);
+    }
+
+    private static EntityChangedEvent taskChanged(Long projectId) {
+        return new EntityChangedEvent(EntityType.TASK, ChangeType.UPDATED, 10L, projectId, 2L);
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse("application/json", body.getBytes(StandardCharsets.UTF_8), false, null, null);
+    }
+}
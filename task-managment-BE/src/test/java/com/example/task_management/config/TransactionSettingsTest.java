@@ -0,0 +1,39 @@
+package com.example.task_management.config;
+
+import com.example.task_management.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Outside the virtual-threads profile the connection is prepared for each transaction, so readOnly and
+// isolation reach PostgreSQL (JdbcTemplate joins the JPA transaction's connection)
+class TransactionSettingsTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void readOnlyTransactionIsReadOnlyInTheDatabase() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThat(setting(readOnly, "transaction_read_only")).isEqualTo("on");
+        assertThat(setting(new TransactionTemplate(transactionManager), "transaction_read_only")).isEqualTo("off");
+    }
+
+    @Test
+    void isolationLevelIsApplied() {
+        TransactionTemplate repeatableRead = new TransactionTemplate(transactionManager);
+        repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        assertThat(setting(repeatableRead, "transaction_isolation")).isEqualTo("repeatable read");
+    }
+
+    private String setting(TransactionTemplate transaction, String name) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT current_setting(?)", String.class, name));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.config.ArchiveProperties;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.service.TaskArchiveService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// List validators are digests of the page returned: a client's tag stops matching as soon as a row on the page
+// changes, whatever made it change
+class ConditionalGetTest extends PostgresIntegrationTest {
+
+    // Far enough back that no other completed task is eligible; the month gets its own partition
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(1999, 1, 10, 12, 0);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(1999, 2, 1, 0, 0);
+    private static final String PARTITION = "tasks_archive_1999_01";
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private ArchiveProperties archiveProperties;
+
+    private boolean partitionExisted;
+
+    @BeforeEach
+    void notePartition() {
+        partitionExisted = partitionExists();
+    }
+
+    // Only the partition this test created
+    @AfterEach
+    void dropPartition() {
+        if (!partitionExisted && partitionExists()) {
+            jdbcTemplate.execute("DROP TABLE " + PARTITION);
+        }
+    }
+
+    @Test
+    void unchangedPageIsNotModified() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 2);
+
+        for (String uri : pages(project)) {
+            String etag = etag(uri);
+            assertThat(get(uri, etag).getStatusCode()).as(uri).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+    }
+
+    @Test
+    void editInvalidatesThePage() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.BACKLOG, 2).get(0);
+        List<String> pages = pages(project);
+        List<String> etags = pages.stream().map(this::etag).toList();
+
+        ResponseEntity<String> edited = api().patch().uri("/api/v1/tasks/{id}/status?status=IN_DEVELOPMENT", task.getId())
+                .retrieve().toEntity(String.class);
+
+        assertThat(edited.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertModified(pages, etags);
+    }
+
+    @Test
+    void deleteInvalidatesThePage() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.BACKLOG, 2).get(1);
+        List<String> pages = pages(project);
+        List<String> etags = pages.stream().map(this::etag).toList();
+
+        ResponseEntity<String> deleted = api().delete().uri("/api/v1/tasks/{id}", task.getId()).retrieve().toEntity(String.class);
+
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertModified(pages, etags);
+    }
+
+    @Test
+    void archiveInvalidatesThePage() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 1);
+        Task task = createTasks(project, TaskStatus.COMPLETED, 1).get(0);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?", COMPLETED_AT, task.getId());
+        List<String> pages = pages(project);
+        List<String> etags = pages.stream().map(this::etag).toList();
+
+        Duration completedAge = archiveProperties.getCompletedAge();
+        archiveProperties.setCompletedAge(Duration.between(CUTOFF, LocalDateTime.now()));
+        try {
+            assertThat(taskArchiveService.archiveCompletedTasks()).isEqualTo(1);
+        } finally {
+            archiveProperties.setCompletedAge(completedAge);
+        }
+
+        assertModified(pages, etags);
+    }
+
+    @Test
+    void projectRenameInvalidatesItsTaskPages() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 1);
+        List<String> pages = pages(project);
+        List<String> etags = pages.stream().map(this::etag).toList();
+
+        ResponseEntity<String> renamed = api().put().uri("/api/v1/projects/{id}", project.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("name", project.getName() + " renamed"))
+                .retrieve().toEntity(String.class);
+
+        assertThat(renamed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertModified(pages, etags);
+    }
+
+    // The cached project task list, the filtered task list and a search that only this project's tasks match
+    private List<String> pages(Project project) {
+        String word = "quokka" + Long.toString(project.getId(), 26).replaceAll("[0-9]", "q");
+        jdbcTemplate.update("UPDATE tasks SET title = title || ' ' || ? WHERE project_id = ?", word, project.getId());
+        return List.of("/api/v1/projects/" + project.getId() + "/tasks",
+                "/api/v1/tasks?projectId=" + project.getId(),
+                "/api/v1/tasks/search?q=" + word);
+    }
+
+    private void assertModified(List<String> pages, List<String> etags) {
+        for (int i = 0; i < pages.size(); i++) {
+            ResponseEntity<String> response = get(pages.get(i), etags.get(i));
+            assertThat(response.getStatusCode()).as(pages.get(i)).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).as(pages.get(i)).isNotEqualTo(etags.get(i));
+        }
+    }
+
+    private String etag(String uri) {
+        ResponseEntity<String> response = get(uri, null);
+        assertThat(response.getStatusCode()).as(uri).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).as(uri).startsWith("W/\"");
+        return response.getHeaders().getETag();
+    }
+
+    private ResponseEntity<String> get(String uri, String ifNoneMatch) {
+        return api().get().uri(uri)
+                .headers(headers -> {
+                    if (ifNoneMatch != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+                    }
+                })
+                .retrieve().toEntity(String.class);
+    }
+
+    private boolean partitionExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, PARTITION));
+    }
+}
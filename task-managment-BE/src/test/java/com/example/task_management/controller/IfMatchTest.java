@@ -0,0 +1,124 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.util.VersionTag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// If-Match takes the strong version tag a single-entity GET sends in X-Entity-Tag; the weak ETag is for
+// conditional GETs only
+class IfMatchTest extends PostgresIntegrationTest {
+
+    @Test
+    void getSendsTheStrongVersionTagBesideTheWeakETag() {
+        Task task = createTasks(createProject(), TaskStatus.BACKLOG, 1).get(0);
+
+        ResponseEntity<String> response = getTask(task);
+
+        assertThat(response.getHeaders().getFirst(VersionTag.HEADER)).isEqualTo(VersionTag.of(task.getVersion()));
+        assertThat(response.getHeaders().getETag()).startsWith("W/");
+    }
+
+    @Test
+    void staleTagFailsThePrecondition() {
+        Task task = createTasks(createProject(), TaskStatus.BACKLOG, 1).get(0);
+        String tag = getTask(task).getHeaders().getFirst(VersionTag.HEADER);
+
+        assertThat(patchStatus(task, TaskStatus.IN_DEVELOPMENT, tag).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(patchStatus(task, TaskStatus.COMPLETED, tag).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(api().delete().uri("/api/v1/tasks/{id}", task.getId()).header(HttpHeaders.IF_MATCH, tag)
+                .retrieve().toBodilessEntity().getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.IN_DEVELOPMENT);
+    }
+
+    @Test
+    void weakETagFailsThePreconditionEvenWhenCurrent() {
+        Task task = createTasks(createProject(), TaskStatus.BACKLOG, 1).get(0);
+        String etag = getTask(task).getHeaders().getETag();
+
+        assertThat(patchStatus(task, TaskStatus.IN_DEVELOPMENT, etag).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void staleBodyVersionIsAConflict() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+        jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id = ?", task.getId());
+
+        ResponseEntity<String> response = api().put().uri("/api/v1/tasks/{id}", task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("title", "edited", "status", "BACKLOG", "projectId", project.getId(), "version", task.getVersion()))
+                .retrieve().toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    // The write reads the row, then its UPDATE waits behind a transaction that bumps the version and commits
+    @Test
+    void lostRaceIsRetriedWithoutIfMatch() throws Exception {
+        Task task = createTasks(createProject(), TaskStatus.BACKLOG, 1).get(0);
+
+        assertThat(raceAgainstConcurrentWrite(task, null)).isEqualTo(HttpStatus.OK);
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.IN_DEVELOPMENT);
+    }
+
+    @Test
+    void lostRaceIsNotRetriedWithIfMatch() throws Exception {
+        Task task = createTasks(createProject(), TaskStatus.BACKLOG, 1).get(0);
+
+        assertThat(raceAgainstConcurrentWrite(task, VersionTag.of(task.getVersion()))).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.BACKLOG);
+    }
+
+    private HttpStatus raceAgainstConcurrentWrite(Task task, String ifMatch) throws Exception {
+        try (Connection writer = jdbcTemplate.getDataSource().getConnection()) {
+            writer.setAutoCommit(false);
+            try (PreparedStatement update = writer.prepareStatement("UPDATE tasks SET version = version + 1 WHERE id = ?")) {
+                update.setLong(1, task.getId());
+                update.executeUpdate();
+            }
+
+            CompletableFuture<ResponseEntity<String>> patch =
+                    CompletableFuture.supplyAsync(() -> patchStatus(task, TaskStatus.IN_DEVELOPMENT, ifMatch));
+            await().atMost(Duration.ofSeconds(10)).until(() -> jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock' AND query ILIKE 'update tasks%'",
+                    Long.class) > 0);
+            writer.commit();
+
+            return HttpStatus.valueOf(patch.get(10, TimeUnit.SECONDS).getStatusCode().value());
+        }
+    }
+
+    private ResponseEntity<String> getTask(Task task) {
+        return api().get().uri("/api/v1/tasks/{id}", task.getId()).retrieve().toEntity(String.class);
+    }
+
+    private ResponseEntity<String> patchStatus(Task task, TaskStatus status, String ifMatch) {
+        return api().patch().uri("/api/v1/tasks/{id}/status?status={status}", task.getId(), status)
+                .headers(headers -> {
+                    if (ifMatch != null) {
+                        headers.set(HttpHeaders.IF_MATCH, ifMatch);
+                    }
+                })
+                .retrieve().toEntity(String.class);
+    }
+}
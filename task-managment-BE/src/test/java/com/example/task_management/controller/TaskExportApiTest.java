@@ -0,0 +1,71 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskExportApiTest extends PostgresIntegrationTest {
+
+    private static final String EXPORT = "/api/v1/tasks/export";
+
+    @Test
+    void ndjsonHasOneTaskDtoPerLine() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        List<Task> tasks = createTasks(project, TaskStatus.IN_DEVELOPMENT, 3);
+        jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ? WHERE id = ?", developer.getId(), tasks.get(0).getId());
+
+        ResponseEntity<String> response = api().get().uri(EXPORT).retrieve().toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"tasks.ndjson\"");
+        List<Map<String, Object>> exported = Arrays.stream(response.getBody().split("\n"))
+                .map(line -> JsonPath.<Map<String, Object>>read(line, "$"))
+                .filter(task -> project.getId().equals(((Number) task.get("projectId")).longValue()))
+                .toList();
+        assertThat(exported).extracting(task -> ((Number) task.get("id")).longValue())
+                .containsExactlyElementsOf(tasks.stream().map(Task::getId).sorted().toList());
+        assertThat(exported.get(0)).containsEntry("projectName", project.getName())
+                .containsEntry("assignedToName", developer.getName())
+                .containsEntry("status", "IN_DEVELOPMENT")
+                .containsKey("version");
+    }
+
+    @Test
+    void csvQuotesFieldsThatNeedIt() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+        jdbcTemplate.update("UPDATE tasks SET title = ?, description = ? WHERE id = ?",
+                "Fix \"login\", then ship", "line one\nline two", task.getId());
+
+        ResponseEntity<String> response = api().get().uri(EXPORT + "?format=csv").retrieve().toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString("text/csv");
+        assertThat(response.getBody()).startsWith(
+                "id,title,description,status,dueDate,projectId,projectName,assignedToId,assignedToName,createdAt,updatedAt,version\n");
+        assertThat(response.getBody()).contains(task.getId() + ",\"Fix \"\"login\"\", then ship\",\"line one\nline two\",BACKLOG,,"
+                + project.getId() + "," + project.getName() + ",,,");
+    }
+
+    @Test
+    void unknownFormatIsABadRequest() {
+        ResponseEntity<String> response = api().get().uri(EXPORT + "?format=xml").retrieve().toEntity(String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
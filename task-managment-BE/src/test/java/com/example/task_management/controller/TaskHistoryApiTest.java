@@ -0,0 +1,81 @@
+package com.example.task_management.controller;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// History is written after commit by the background recorder, so reads wait for it to catch up
+class TaskHistoryApiTest extends PostgresIntegrationTest {
+
+    @Test
+    void historyListsEachChangeInOrder() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        Task task = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+
+        api().patch().uri("/api/v1/tasks/{id}/status?status=IN_DEVELOPMENT", task.getId()).retrieve().toBodilessEntity();
+        api().patch().uri("/api/v1/tasks/{id}/assign?developerId={developerId}", task.getId(), developer.getId())
+                .retrieve().toBodilessEntity();
+        api().put().uri("/api/v1/tasks/{id}", task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("title", "renamed", "status", "IN_DEVELOPMENT", "projectId", project.getId()))
+                .retrieve().toBodilessEntity();
+
+        List<Map<String, Object>> events = awaitHistory(task, 3);
+        assertThat(events).extracting(event -> event.get("changeType"))
+                .containsExactly("STATUS_CHANGED", "ASSIGNED", "UPDATED");
+        assertThat(events.get(0)).containsEntry("fromStatus", "BACKLOG").containsEntry("toStatus", "IN_DEVELOPMENT");
+        assertThat(((Number) events.get(1).get("toAssigneeId")).longValue()).isEqualTo(developer.getId());
+        assertThat(events.get(2)).containsEntry("changedFields", List.of("title"));
+        assertThat(events).extracting(event -> ((Number) event.get("taskVersion")).longValue()).isSorted();
+    }
+
+    @Test
+    void historyIsPagedBySequence() {
+        Task task = createTasks(createProject(), TaskStatus.BACKLOG, 1).get(0);
+        for (String status : List.of("IN_DEVELOPMENT", "BACKLOG", "IN_DEVELOPMENT")) {
+            api().patch().uri("/api/v1/tasks/{id}/status?status={status}", task.getId(), status).retrieve().toBodilessEntity();
+        }
+        awaitHistory(task, 3);
+
+        String first = history(task, 2, null);
+        assertThat(JsonPath.<List<Object>>read(first, "$.items")).hasSize(2);
+        assertThat(JsonPath.<Boolean>read(first, "$.hasNext")).isTrue();
+
+        String rest = history(task, 2, JsonPath.read(first, "$.next"));
+        assertThat(JsonPath.<List<String>>read(rest, "$.items[*].toStatus")).containsExactly("IN_DEVELOPMENT");
+        assertThat(JsonPath.<Boolean>read(rest, "$.hasNext")).isFalse();
+    }
+
+    @Test
+    void unknownTaskHasNoHistory() {
+        assertThat(JsonPath.<List<Object>>read(history(Long.MAX_VALUE), "$.items")).isEmpty();
+    }
+
+    private List<Map<String, Object>> awaitHistory(Task task, int count) {
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> JsonPath.<List<Object>>read(history(task, 100, null), "$.items").size() >= count);
+        return JsonPath.read(history(task, 100, null), "$.items");
+    }
+
+    private String history(Task task, int size, String cursor) {
+        return api().get().uri("/api/v1/tasks/{id}/history?size={size}&cursor={cursor}", task.getId(), size,
+                cursor != null ? cursor : "").retrieve().body(String.class);
+    }
+
+    private String history(long taskId) {
+        return api().get().uri("/api/v1/tasks/{id}/history", taskId).retrieve().body(String.class);
+    }
+}
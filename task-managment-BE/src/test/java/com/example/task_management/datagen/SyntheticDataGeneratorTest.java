@@ -0,0 +1,164 @@
+package com.example.task_management.datagen;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.config.DataGeneratorProperties;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A small data set loaded the way the datagen profile loads a large one (generateAndExit would end the JVM,
+// so the test calls generate itself); the chunk size leaves a partial last chunk.
+class SyntheticDataGeneratorTest extends PostgresIntegrationTest {
+
+    private static final String TASKS_OF_PREFIX = "FROM tasks t JOIN projects p ON p.id = t.project_id WHERE p.name LIKE ? || '-project-%'";
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<String> prefixes = new ArrayList<>();
+
+    // Developers without a project are not removed with one
+    @AfterEach
+    void deleteUnassignedDevelopers() {
+        for (String prefix : prefixes) {
+            jdbcTemplate.update("DELETE FROM developers WHERE project_id IS NULL AND email LIKE ? || '-free-%'", prefix);
+        }
+        prefixes.clear();
+    }
+
+    @Test
+    void generatesTheConfiguredSkewedDataSet() {
+        String prefix = generate(properties());
+
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "SELECT id FROM projects WHERE name LIKE ? || '-project-%' ORDER BY id", Long.class, prefix);
+        assertThat(projectIds).hasSize(4);
+
+        // Zipf split in project order: the first project gets the most developers and tasks
+        long[] developers = projectIds.stream()
+                .mapToLong(id -> count("SELECT COUNT(*) FROM developers WHERE project_id = ?", id))
+                .toArray();
+        long[] tasks = projectIds.stream()
+                .mapToLong(id -> count("SELECT COUNT(*) FROM tasks WHERE project_id = ?", id))
+                .toArray();
+        assertThat(developers).containsExactly(SyntheticDataGenerator.zipfSplit(20, 4, 1.0));
+        assertThat(tasks).containsExactly(SyntheticDataGenerator.zipfSplit(700, 4, 0.8));
+        assertThat(count("SELECT COUNT(*) FROM developers WHERE project_id IS NULL AND email LIKE ? || '-free-%'", prefix))
+                .isEqualTo(3);
+
+        assertThat(count("SELECT COUNT(DISTINCT t.status) " + TASKS_OF_PREFIX, prefix)).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) " + TASKS_OF_PREFIX
+                + " AND t.status = 'COMPLETED' AND (t.assigned_to_id IS NULL OR t.started_at IS NULL OR t.updated_at < t.started_at)",
+                prefix)).isZero();
+        assertThat(count("SELECT COUNT(*) " + TASKS_OF_PREFIX + " AND t.status = 'BACKLOG' AND t.started_at IS NOT NULL", prefix))
+                .isZero();
+        // Assignees come from the task's own project
+        assertThat(count("SELECT COUNT(*) " + TASKS_OF_PREFIX
+                + " AND t.assigned_to_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM developers d WHERE d.id = t.assigned_to_id "
+                + "AND d.project_id = t.project_id)", prefix)).isZero();
+        assertThat(count("SELECT COUNT(*) " + TASKS_OF_PREFIX + " AND t.created_at < now() - interval '91 days'", prefix))
+                .isZero();
+    }
+
+    // The statement-level triggers see every chunk, and the rebuilt flow rollups spread over the history
+    @Test
+    void rollupsMatchTheGeneratedTasks() {
+        String prefix = generate(properties());
+
+        assertThat(count("SELECT COALESCE(SUM(s.task_count), 0) FROM project_task_stats s JOIN projects p ON p.id = s.project_id "
+                + "WHERE p.name LIKE ? || '-project-%'", prefix)).isEqualTo(700);
+        assertThat(count("SELECT COALESCE(SUM(f.open_delta), 0) FROM project_daily_flow f JOIN projects p ON p.id = f.project_id "
+                + "WHERE p.name LIKE ? || '-project-%'", prefix))
+                .isEqualTo(count("SELECT COUNT(*) " + TASKS_OF_PREFIX + " AND t.status <> 'COMPLETED'", prefix));
+        assertThat(count("SELECT COALESCE(SUM(f.completed_count), 0) FROM project_daily_flow f JOIN projects p ON p.id = f.project_id "
+                + "WHERE p.name LIKE ? || '-project-%'", prefix))
+                .isEqualTo(count("SELECT COUNT(*) " + TASKS_OF_PREFIX + " AND t.status = 'COMPLETED'", prefix));
+        assertThat(count("SELECT COUNT(DISTINCT f.day) FROM project_daily_flow f JOIN projects p ON p.id = f.project_id "
+                + "WHERE p.name LIKE ? || '-project-%'", prefix)).isGreaterThan(30);
+        assertThat(count("SELECT COALESCE(SUM(c.task_count), 0) FROM project_cycle_time_stats c JOIN projects p ON p.id = c.project_id "
+                + "WHERE p.name LIKE ? || '-project-%'", prefix))
+                .isEqualTo(count("SELECT COUNT(*) " + TASKS_OF_PREFIX + " AND t.status = 'COMPLETED'", prefix));
+    }
+
+    // Generated ids are whole blocks of tasks_seq, so tasks the application saves afterwards get fresh ones
+    @Test
+    void applicationIdsDoNotCollideWithGeneratedTasks() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 1);
+
+        String prefix = generate(properties());
+        List<Task> saved = createTasks(project, TaskStatus.BACKLOG, 120);
+
+        assertThat(saved).hasSize(120);
+        assertThat(count("SELECT COUNT(*) FROM tasks WHERE project_id = ?", project.getId())).isEqualTo(121);
+        assertThat(count("SELECT COUNT(*) " + TASKS_OF_PREFIX, prefix)).isEqualTo(700);
+    }
+
+    @Test
+    void sameSeedGivesTheSameTasks() {
+        String first = generate(properties());
+        String second = generate(properties());
+
+        assertThat(taskSignature(second)).isEqualTo(taskSignature(first));
+    }
+
+    @Test
+    void zipfSplitAddsUpAndFallsWithRank() {
+        long[] counts = SyntheticDataGenerator.zipfSplit(1_000_003, 7, 1.2);
+
+        assertThat(Arrays.stream(counts).sum()).isEqualTo(1_000_003);
+        for (int k = 1; k < counts.length; k++) {
+            assertThat(counts[k]).isLessThanOrEqualTo(counts[k - 1]);
+        }
+        assertThat(SyntheticDataGenerator.zipfSplit(10, 4, 0)).containsExactly(3, 3, 2, 2);
+        assertThat(SyntheticDataGenerator.zipfSplit(5, 0, 1)).isEmpty();
+    }
+
+    private DataGeneratorProperties properties() {
+        DataGeneratorProperties properties = new DataGeneratorProperties();
+        properties.setProjects(4);
+        properties.setDevelopers(20);
+        properties.setUnassignedDevelopers(3);
+        properties.setTasks(700);
+        properties.setChunkSize(300);
+        properties.setHistoryDays(90);
+        properties.setSeed(7);
+        return properties;
+    }
+
+    private String generate(DataGeneratorProperties properties) {
+        String prefix = "datagen-" + UUID.randomUUID();
+        properties.setNamePrefix(prefix);
+        try {
+            new SyntheticDataGenerator(properties, jdbcTemplate, transactionTemplate, null).generate();
+        } finally {
+            jdbcTemplate.queryForList("SELECT id FROM projects WHERE name LIKE ? || '-project-%'", Long.class, prefix)
+                    .forEach(this::deleteAfterTest);
+            prefixes.add(prefix);
+        }
+        return prefix;
+    }
+
+    // Everything but ids, names and the load time, in generation order
+    private List<Map<String, Object>> taskSignature(String prefix) {
+        return jdbcTemplate.queryForList("SELECT t.title, t.description, t.status, t.version, "
+                + "DENSE_RANK() OVER (ORDER BY t.project_id) AS project_rank, t.assigned_to_id IS NULL AS unassigned "
+                + TASKS_OF_PREFIX + " ORDER BY t.id", prefix);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
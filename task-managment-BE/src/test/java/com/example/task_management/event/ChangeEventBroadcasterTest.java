@@ -0,0 +1,163 @@
+package com.example.task_management.event;
+
+import com.example.task_management.config.EventStreamProperties;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.EntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ChangeEventBroadcasterTest {
+
+    private final EventStreamProperties properties = new EventStreamProperties();
+
+    private ChangeEventBroadcaster broadcaster;
+
+    @AfterEach
+    void shutdown() {
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    @Test
+    void changesReachSubscribersOfTheirProjectAndOfAllProjects() {
+        broadcaster = start();
+        RecordingEmitter projectOne = new RecordingEmitter();
+        RecordingEmitter everything = new RecordingEmitter();
+        broadcaster.subscribe(projectOne, 1L);
+        broadcaster.subscribe(everything, null);
+
+        broadcaster.onEntityChanged(taskChanged(1L));
+        broadcaster.onEntityChanged(taskChanged(2L));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> everything.frames.size() == 3);
+        assertThat(projectOne.frames).hasSize(2);
+        assertThat(projectOne.frames.get(0)).contains(":connected");
+        assertThat(projectOne.frames.get(1)).contains("event:task").contains("\"projectId\":1");
+        assertThat(everything.frames.get(2)).contains("\"projectId\":2");
+    }
+
+    @Test
+    void idleSubscribersGetHeartbeats() {
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        broadcaster = start();
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, null);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.frames.stream().filter(frame -> frame.contains(":heartbeat")).count() >= 2);
+    }
+
+    @Test
+    void subscriberWhoseBufferFillsIsDisconnected() {
+        properties.setBufferSize(2);
+        broadcaster = start();
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.block();
+        broadcaster.subscribe(slow, 1L);
+        slow.awaitWrite();
+
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onEntityChanged(taskChanged(1L));
+        }
+
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        // Completing waits for the write in flight
+        assertThat(slow.completed).isFalse();
+        slow.release();
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.completed);
+        assertThat(slow.frames).hasSize(1);
+    }
+
+    @Test
+    void stuckWriteIsEvictedAndItsThreadReplaced() {
+        properties.setDispatcherThreads(1);
+        properties.setWriteTimeout(Duration.ofMillis(100));
+        broadcaster = start();
+        RecordingEmitter stuck = new RecordingEmitter();
+        stuck.block();
+        broadcaster.subscribe(stuck, null);
+        stuck.awaitWrite();
+
+        // Queued behind the blocked write on the only dispatcher thread
+        RecordingEmitter healthy = new RecordingEmitter();
+        broadcaster.subscribe(healthy, null);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.frames.size() == 1);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        broadcaster.onEntityChanged(taskChanged(1L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.frames.size() == 2);
+
+        stuck.release();
+        await().atMost(Duration.ofSeconds(5)).until(() -> stuck.completed);
+    }
+
+    private ChangeEventBroadcaster start() {
+        return new ChangeEventBroadcaster(properties, JsonMapper.builder().build());
+    }
+
+    private static EntityChangedEvent taskChanged(Long projectId) {
+        return new EntityChangedEvent(EntityType.TASK, ChangeType.UPDATED, 10L, projectId, 2L);
+    }
+
+    // Stands in for the servlet response: records each frame as text, and can hold a write the way a client
+    // that stopped reading would
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private volatile CountDownLatch released;
+        private volatile boolean completed;
+
+        void block() {
+            released = new CountDownLatch(1);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void awaitWrite() {
+            try {
+                assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(ex);
+            }
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> frame) throws IOException {
+            writing.countDown();
+            CountDownLatch latch = released;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            frames.add(frame.stream().map(data -> String.valueOf(data.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.task_management.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeSubscriberTest {
+
+    private final ChangeSubscriber subscriber = new ChangeSubscriber(new SseEmitter(), null, 2);
+
+    @Test
+    void bufferHoldsAtMostItsCapacity() {
+        Set<DataWithMediaType> first = frame("a");
+        Set<DataWithMediaType> second = frame("b");
+        Set<DataWithMediaType> third = frame("c");
+
+        assertThat(subscriber.offer(first)).isTrue();
+        assertThat(subscriber.offer(second)).isTrue();
+        assertThat(subscriber.offer(frame("rejected"))).isFalse();
+
+        assertThat(subscriber.poll()).isSameAs(first);
+        assertThat(subscriber.offer(third)).isTrue();
+        assertThat(subscriber.poll()).isSameAs(second);
+        assertThat(subscriber.poll()).isSameAs(third);
+        assertThat(subscriber.poll()).isNull();
+        assertThat(subscriber.hasPending()).isFalse();
+    }
+
+    @Test
+    void closeDiscardsQueuedFramesAndIgnoresNewOnes() {
+        subscriber.offer(frame("a"));
+
+        subscriber.close();
+
+        assertThat(subscriber.hasPending()).isFalse();
+        // Accepted so the publisher does not try to drop an already removed subscriber again
+        assertThat(subscriber.offer(frame("b"))).isTrue();
+        assertThat(subscriber.poll()).isNull();
+    }
+
+    @Test
+    void writeIsOverdueOnlyWhileInFlight() {
+        assertThat(subscriber.isWriteOverdue(System.nanoTime(), 0L)).isFalse();
+
+        subscriber.beginWrite();
+        assertThat(subscriber.isWriteOverdue(System.nanoTime() + 10, 0L)).isTrue();
+
+        subscriber.endWrite();
+        assertThat(subscriber.isWriteOverdue(System.nanoTime() + 10, 0L)).isFalse();
+    }
+
+    private static Set<DataWithMediaType> frame(String comment) {
+        return SseEmitter.event().comment(comment).build();
+    }
+}
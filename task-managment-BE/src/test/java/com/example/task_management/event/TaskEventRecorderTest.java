@@ -0,0 +1,228 @@
+package com.example.task_management.event;
+
+import com.example.task_management.config.HistoryProperties;
+import com.example.task_management.constants.ChangeType;
+import com.example.task_management.constants.HistoryDurability;
+import com.example.task_management.constants.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Inserts go to a mocked JdbcTemplate that records each batch; a blocked insert holds the writer on one batch
+// so the buffer can be filled deterministically
+class TaskEventRecorderTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<List<Long>> inserted = new ArrayList<>();
+    private final List<RuntimeException> failures = new ArrayList<>();
+    private final CountDownLatch writerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private final AtomicLong taskIds = new AtomicLong();
+    private volatile boolean blockWriter;
+
+    private TaskEventRecorder recorder;
+
+    @AfterEach
+    void stop() {
+        releaseWriter.countDown();
+        if (recorder != null && recorder.isRunning()) {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    void bufferedEventsAreWrittenInBatchesByTheWriter() {
+        blockWriter = true;
+        recorder = start(properties(16, HistoryDurability.DURABLE));
+        recorder.onTaskActivity(event());
+        awaitWriterBlocked();
+
+        recorder.onTaskActivities(new TaskActivityBatch(List.of(event(), event(), event())));
+        assertThat(recorder.getBufferedCount()).isEqualTo(3);
+        releaseWriter.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> recorder.getWrittenCount() == 4);
+        assertThat(batchSizes()).containsExactly(1, 3);
+        assertThat(recorder.getBufferedCount()).isZero();
+        assertThat(recorder.getWrittenThroughCount()).isZero();
+    }
+
+    @Test
+    void bestEffortDropsWhatTheFullBufferCannotTake() {
+        blockWriter = true;
+        recorder = start(properties(2, HistoryDurability.BEST_EFFORT));
+        recorder.onTaskActivity(event());
+        awaitWriterBlocked();
+
+        recorder.onTaskActivities(new TaskActivityBatch(List.of(event(), event(), event(), event())));
+
+        assertThat(recorder.getBufferedCount()).isEqualTo(2);
+        assertThat(recorder.getDroppedCount()).isEqualTo(2);
+        assertThat(recorder.getWrittenThroughCount()).isZero();
+    }
+
+    @Test
+    void durableWritesTheOverflowThroughInBatches() {
+        blockWriter = true;
+        HistoryProperties properties = properties(2, HistoryDurability.DURABLE);
+        properties.setBatchSize(2);
+        recorder = start(properties);
+        recorder.onTaskActivity(event());
+        awaitWriterBlocked();
+
+        recorder.onTaskActivities(new TaskActivityBatch(List.of(event(), event(), event(), event(), event())));
+
+        assertThat(recorder.getBufferedCount()).isEqualTo(2);
+        assertThat(recorder.getWrittenThroughCount()).isEqualTo(3);
+        assertThat(recorder.getDroppedCount()).isZero();
+        // The writer's batch is still in flight, so only the caller's chunks have been recorded
+        assertThat(batchSizes()).containsExactly(2, 1);
+    }
+
+    @Test
+    void durableWritesThroughWhileTheWriterIsStopped() {
+        recorder = new TaskEventRecorder(properties(16, HistoryDurability.DURABLE), recordingJdbcTemplate());
+
+        recorder.onTaskActivity(event());
+
+        assertThat(recorder.getWrittenThroughCount()).isEqualTo(1);
+        assertThat(recorder.getBufferedCount()).isZero();
+    }
+
+    @Test
+    void transientFailureIsRetried() {
+        failures.add(new TransientDataAccessResourceException("connection reset"));
+        failures.add(new CannotGetJdbcConnectionException("pool exhausted"));
+        recorder = start(properties(16, HistoryDurability.DURABLE));
+
+        recorder.onTaskActivity(event());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> recorder.getWrittenCount() == 1);
+        assertThat(recorder.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void permanentFailureDropsTheBatchAndMovesOn() {
+        failures.add(new DataIntegrityViolationException("value too long"));
+        recorder = start(properties(16, HistoryDurability.DURABLE));
+
+        recorder.onTaskActivity(event());
+        await().atMost(Duration.ofSeconds(5)).until(() -> recorder.getDroppedCount() == 1);
+        recorder.onTaskActivity(event());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> recorder.getWrittenCount() == 1);
+        assertThat(recorder.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void stopDrainsTheBuffer() {
+        blockWriter = true;
+        recorder = start(properties(16, HistoryDurability.DURABLE));
+        recorder.onTaskActivity(event());
+        awaitWriterBlocked();
+        recorder.onTaskActivities(new TaskActivityBatch(List.of(event(), event())));
+        releaseWriter.countDown();
+
+        recorder.stop();
+
+        assertThat(recorder.isRunning()).isFalse();
+        assertThat(recorder.getWrittenCount()).isEqualTo(3);
+        assertThat(recorder.getBufferedCount()).isZero();
+    }
+
+    @Test
+    void disabledRecorderIgnoresEvents() {
+        HistoryProperties properties = properties(16, HistoryDurability.DURABLE);
+        properties.setEnabled(false);
+        recorder = start(properties);
+
+        recorder.onTaskActivity(event());
+
+        assertThat(recorder.getBufferedCount()).isZero();
+        assertThat(recorder.getWrittenThroughCount()).isZero();
+        assertThat(inserted).isEmpty();
+    }
+
+    private TaskEventRecorder start(HistoryProperties properties) {
+        TaskEventRecorder started = new TaskEventRecorder(properties, recordingJdbcTemplate());
+        started.start();
+        return started;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JdbcTemplate recordingJdbcTemplate() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    // The writer clears its batch after the insert, so keep a copy
+                    List<Long> ids = ((Collection<TaskActivityEvent>) invocation.getArgument(1)).stream()
+                            .map(TaskActivityEvent::getTaskId)
+                            .toList();
+                    if (blockWriter && Thread.currentThread().getName().equals("task-history-writer")) {
+                        blockWriter = false;
+                        writerBlocked.countDown();
+                        releaseWriter.await(10, TimeUnit.SECONDS);
+                    }
+                    synchronized (failures) {
+                        if (!failures.isEmpty()) {
+                            throw failures.remove(0);
+                        }
+                    }
+                    synchronized (inserted) {
+                        inserted.add(ids);
+                    }
+                    return new int[0][];
+                });
+        return jdbcTemplate;
+    }
+
+    private void awaitWriterBlocked() {
+        try {
+            assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private List<Integer> batchSizes() {
+        synchronized (inserted) {
+            return inserted.stream().map(List::size).toList();
+        }
+    }
+
+    private static HistoryProperties properties(int bufferSize, HistoryDurability durability) {
+        HistoryProperties properties = new HistoryProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setDurability(durability);
+        properties.setEnqueueTimeout(Duration.ofMillis(10));
+        properties.setMaxRetryBackoff(Duration.ofMillis(200));
+        properties.setShutdownTimeout(Duration.ofSeconds(5));
+        return properties;
+    }
+
+    private TaskActivityEvent event() {
+        return new TaskActivityEvent(taskIds.incrementAndGet(), 1L, ChangeType.STATUS_CHANGED, 2L,
+                TaskStatus.BACKLOG, TaskStatus.IN_DEVELOPMENT, null, null, null, LocalDateTime.now());
+    }
+}
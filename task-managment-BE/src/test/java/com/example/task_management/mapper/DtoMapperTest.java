@@ -0,0 +1,122 @@
+package com.example.task_management.mapper;
+
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.DeveloperDTO;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DtoMapperTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 15, 9, 30);
+    private static final LocalDateTime UPDATED = CREATED.plusDays(2);
+
+    private final DtoMapper mapper = new DtoMapper();
+
+    @Test
+    void taskCarriesItsProjectAndAssignee() {
+        Project project = project();
+        Task task = task(project, developer(project));
+
+        TaskDTO dto = mapper.toTaskDTO(task);
+
+        assertThat(dto).isEqualTo(new TaskDTO(7L, "Write docs", "All of them", TaskStatus.IN_DEVELOPMENT,
+                LocalDate.of(2026, 3, 1), 1L, "Apollo", 3L, "Ada", CREATED, UPDATED, 4L));
+    }
+
+    @Test
+    void unassignedTaskHasNoAssignee() {
+        Task task = task(project(), null);
+
+        TaskDTO dto = mapper.toTaskDTO(task);
+
+        assertThat(dto.getAssignedToId()).isNull();
+        assertThat(dto.getAssignedToName()).isNull();
+    }
+
+    @Test
+    void projectTakesTheCountsItIsGiven() {
+        ProjectDTO dto = mapper.toProjectDTO(project(), 2, 250);
+
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getName()).isEqualTo("Apollo");
+        assertThat(dto.getDescription()).isEqualTo("Moonshot");
+        assertThat(dto.getDeveloperCount()).isEqualTo(2);
+        assertThat(dto.getTaskCount()).isEqualTo(250);
+        assertThat(dto.getCreatedAt()).isEqualTo(CREATED);
+        assertThat(dto.getUpdatedAt()).isEqualTo(UPDATED);
+        assertThat(dto.getVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    void developerResolvesProjectNameAndTaskCountFromTheMaps() {
+        Developer developer = developer(project());
+
+        DeveloperDTO dto = mapper.toDeveloperDTO(developer, Map.of(1L, "Apollo (renamed)"), Map.of(3L, 12L));
+
+        assertThat(dto.getProjectId()).isEqualTo(1L);
+        assertThat(dto.getProjectName()).isEqualTo("Apollo (renamed)");
+        assertThat(dto.getTaskCount()).isEqualTo(12);
+        assertThat(dto.getEmail()).isEqualTo("ada@example.com");
+        assertThat(dto.getRole()).isEqualTo("Engineer");
+    }
+
+    @Test
+    void developerWithoutProjectOrTasks() {
+        Developer developer = developer(null);
+
+        DeveloperDTO dto = mapper.toDeveloperDTO(developer, Map.of(), Map.of());
+
+        assertThat(dto.getProjectId()).isNull();
+        assertThat(dto.getProjectName()).isNull();
+        assertThat(dto.getTaskCount()).isZero();
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Apollo");
+        project.setDescription("Moonshot");
+        project.setCreatedAt(CREATED);
+        project.setUpdatedAt(UPDATED);
+        project.setVersion(5L);
+        return project;
+    }
+
+    private static Developer developer(Project project) {
+        Developer developer = new Developer();
+        developer.setId(3L);
+        developer.setName("Ada");
+        developer.setEmail("ada@example.com");
+        developer.setRole("Engineer");
+        developer.setProject(project);
+        developer.setCreatedAt(CREATED);
+        developer.setUpdatedAt(UPDATED);
+        developer.setVersion(1L);
+        return developer;
+    }
+
+    private static Task task(Project project, Developer assignee) {
+        Task task = new Task();
+        task.setId(7L);
+        task.setTitle("Write docs");
+        task.setDescription("All of them");
+        task.setStatus(TaskStatus.IN_DEVELOPMENT);
+        task.setDueDate(LocalDate.of(2026, 3, 1));
+        task.setProject(project);
+        task.setAssignedTo(assignee);
+        task.setCreatedAt(CREATED);
+        task.setUpdatedAt(UPDATED);
+        task.setVersion(4L);
+        return task;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.task_management.metrics;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The Prometheus scrape on the management port (a random one here) and the per-request SQL statement summary
+class MetricsEndpointTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void prometheusScrapeIsServedOnTheManagementPortOnly() {
+        Project project = createProject();
+        assertThat(api().get().uri("/api/v1/projects/{id}", project.getId()).retrieve().toBodilessEntity().getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> scrape = management().get().uri("/actuator/prometheus").retrieve().toEntity(String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getHeaders().getContentType().toString()).startsWith("text/plain");
+        assertThat(scrape.getBody())
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/v1/projects/{id}\"")
+                .contains("app_service_seconds_bucket{")
+                .contains("class=\"com.example.task_management.service.impl.ProjectServiceImpl\"")
+                .contains("http_server_sql_statements_count{")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hibernate_")
+                .contains("jvm_gc_")
+                .contains("application=\"task-management\"");
+
+        ResponseEntity<String> apiPort = api().get().uri("/actuator/prometheus").retrieve().toEntity(String.class);
+        assertThat(apiPort.getStatusCode().is2xxSuccessful()).isFalse();
+        assertThat(apiPort.getBody()).doesNotContain("http_server_requests_seconds");
+    }
+
+    @Test
+    void recordsTheStatementsOfEachRequestByRoute() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+        DistributionSummary before = summary("GET", "/api/v1/tasks/{id}", "200");
+        long count = before != null ? before.count() : 0;
+        double total = before != null ? before.totalAmount() : 0;
+
+        api().get().uri("/api/v1/tasks/{id}", task.getId()).retrieve().toBodilessEntity();
+
+        DistributionSummary after = summary("GET", "/api/v1/tasks/{id}", "200");
+        assertThat(after.count()).isEqualTo(count + 1);
+        assertThat(after.totalAmount() - total).isGreaterThanOrEqualTo(1);
+    }
+
+    // Rejected before any query runs, so the request records zero statements under its own status
+    @Test
+    void requestWithoutStatementsRecordsZero() {
+        DistributionSummary before = summary("GET", "/api/v1/projects", "400");
+        long count = before != null ? before.count() : 0;
+        double total = before != null ? before.totalAmount() : 0;
+
+        assertThat(api().get().uri("/api/v1/projects?cursor=not-a-cursor").retrieve().toBodilessEntity().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        DistributionSummary after = summary("GET", "/api/v1/projects", "400");
+        assertThat(after.count()).isEqualTo(count + 1);
+        assertThat(after.totalAmount()).isEqualTo(total);
+    }
+
+    private DistributionSummary summary(String method, String uri, String status) {
+        return meterRegistry.find(SqlStatementMetricsInterceptor.METRIC)
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", status)
+                .summary();
+    }
+
+    private RestClient management() {
+        return RestClient.builder()
+                .baseUrl("http://localhost:" + managementPort)
+                .defaultStatusHandler(status -> true, (request, response) -> { })
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.task_management.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    @AfterEach
+    void closeCount() {
+        SqlStatementCounter.close();
+    }
+
+    @Test
+    void countsStatementsWhileOpen() {
+        SqlStatementCounter.open();
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+
+        assertThat(SqlStatementCounter.close()).isEqualTo(2);
+    }
+
+    @Test
+    void leavesTheStatementUnchanged() {
+        assertThat(counter.inspect("select * from tasks where id = ?")).isEqualTo("select * from tasks where id = ?");
+    }
+
+    @Test
+    void closeWithoutOpenCountIsMinusOne() {
+        counter.inspect("select 1");
+
+        assertThat(SqlStatementCounter.close()).isEqualTo(-1);
+    }
+
+    @Test
+    void closeEndsTheCount() {
+        SqlStatementCounter.open();
+        SqlStatementCounter.close();
+        counter.inspect("select 1");
+
+        assertThat(SqlStatementCounter.close()).isEqualTo(-1);
+    }
+
+    @Test
+    void reopeningStartsFromZero() {
+        SqlStatementCounter.open();
+        counter.inspect("select 1");
+        SqlStatementCounter.open();
+
+        assertThat(SqlStatementCounter.close()).isZero();
+    }
+
+    @Test
+    void statementsOfOtherThreadsAreNotCounted() {
+        SqlStatementCounter.open();
+        CompletableFuture.runAsync(() -> counter.inspect("select 1")).join();
+
+        assertThat(SqlStatementCounter.close()).isZero();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchivedTaskRepositoryTest extends PostgresIntegrationTest {
+
+    // Far enough back that no other completed task is eligible; the month gets its own partition
+    private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(1999, 3, 10, 12, 0);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(1999, 4, 1, 0, 0);
+    private static final String PARTITION = "tasks_archive_1999_03";
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private boolean partitionExisted;
+
+    @BeforeEach
+    void notePartition() {
+        partitionExisted = partitionExists();
+    }
+
+    // Only the partition this test created
+    @AfterEach
+    void dropPartition() {
+        if (!partitionExisted && partitionExists()) {
+            jdbcTemplate.execute("DROP TABLE " + PARTITION);
+        }
+    }
+
+    @Test
+    void moveTakesTasksOutOfTheLiveTableAndKeepsThem() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        List<Long> completed = completeLongAgo(createTasks(project, TaskStatus.COMPLETED, 3));
+        jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ?, version = 4 WHERE id = ?", developer.getId(), completed.get(0));
+        Task open = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = archivedTaskRepository.lockArchivableTaskIds(CUTOFF, 10);
+            assertThat(ids).containsExactlyInAnyOrderElementsOf(completed);
+            assertThat(archivedTaskRepository.findProjectIdsOfTasks(ids)).containsExactly(project.getId());
+            assertThat(archivedTaskRepository.findAssigneeIdsOfTasks(ids)).containsExactly(developer.getId());
+            assertThat(archivedTaskRepository.ensurePartitionsForTasks(ids)).containsExactly(PARTITION);
+            return archivedTaskRepository.moveToArchive(ids);
+        });
+
+        assertThat(moved).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM tasks WHERE project_id = ?", project)).isEqualTo(1L);
+        assertThat(count("SELECT COUNT(*) FROM " + PARTITION + " WHERE project_id = ?", project)).isEqualTo(3L);
+        assertThat(taskRepository.findById(open.getId())).isPresent();
+
+        TaskDTO archived = archivedTaskRepository.findDTOById(completed.get(0)).orElseThrow();
+        assertThat(archived.getVersion()).isEqualTo(4L);
+        assertThat(archived.getUpdatedAt()).isEqualTo(COMPLETED_AT);
+        assertThat(archived.getAssignedToId()).isEqualTo(developer.getId());
+
+        // The delete half runs the tasks triggers: tombstones for delta sync, and the stats drop the moved rows
+        assertThat(count("SELECT COUNT(*) FROM task_tombstones WHERE project_id = ?", project)).isEqualTo(3L);
+        assertThat(count("SELECT COALESCE(SUM(task_count), 0) FROM project_task_stats WHERE project_id = ?", project)).isEqualTo(1L);
+    }
+
+    @Test
+    void tasksLockedByAConcurrentEditAreSkipped() throws Exception {
+        Project project = createProject();
+        List<Long> completed = completeLongAgo(createTasks(project, TaskStatus.COMPLETED, 2));
+
+        try (Connection editor = jdbcTemplate.getDataSource().getConnection()) {
+            editor.setAutoCommit(false);
+            try (PreparedStatement lock = editor.prepareStatement("SELECT id FROM tasks WHERE id = ? FOR UPDATE")) {
+                lock.setLong(1, completed.get(0));
+                lock.executeQuery().close();
+            }
+
+            List<Long> locked = transactionTemplate.execute(status -> archivedTaskRepository.lockArchivableTaskIds(CUTOFF, 10));
+            assertThat(locked).containsExactly(completed.get(1));
+
+            editor.rollback();
+        }
+    }
+
+    private List<Long> completeLongAgo(List<Task> tasks) {
+        List<Long> ids = tasks.stream().map(Task::getId).sorted().toList();
+        ids.forEach(id -> jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?", COMPLETED_AT, id));
+        return ids;
+    }
+
+    private boolean partitionExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, PARTITION));
+    }
+
+    private long count(String sql, Project project) {
+        return jdbcTemplate.queryForObject(sql, Long.class, project.getId());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.dto.DeveloperDTO;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.service.DeveloperService;
+import com.example.task_management.service.ProjectService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Project and Developer lookups by id and by natural id are answered from the second-level cache, and
+// entity writes keep it current
+class EntityCacheTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Test
+    void repeatedLookupsByIdAndNameSkipTheDatabase() {
+        Project project = createProject();
+        entityManagerFactory.getCache().evict(Project.class);
+
+        assertThat(statementCount(() -> projectRepository.findById(project.getId()).orElseThrow())).isEqualTo(1);
+        assertThat(statementCount(() -> projectRepository.findById(project.getId()).orElseThrow())).isZero();
+        assertThat(statementCount(() -> projectRepository.findByName(project.getName()).orElseThrow())).isZero();
+    }
+
+    @Test
+    void renameThroughTheServiceUpdatesBothRegions() {
+        Project project = createProject();
+        ProjectDTO changes = new ProjectDTO();
+        changes.setName(project.getName() + " renamed");
+        projectService.updateProject(project.getId(), changes, null);
+
+        AtomicReference<Project> cached = new AtomicReference<>();
+        assertThat(statementCount(() -> cached.set(projectRepository.findById(project.getId()).orElseThrow()))).isZero();
+        assertThat(cached.get().getName()).isEqualTo(changes.getName());
+        assertThat(projectRepository.findByName(changes.getName())).get().extracting(Project::getId).isEqualTo(project.getId());
+        assertThat(projectRepository.findByName(project.getName())).isEmpty();
+    }
+
+    @Test
+    void developerWritesUpdateAndEvictTheCache() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        DeveloperDTO changes = new DeveloperDTO();
+        changes.setName("renamed");
+        changes.setEmail(developer.getEmail());
+        developerService.updateDeveloper(developer.getId(), changes, null);
+
+        AtomicReference<Developer> cached = new AtomicReference<>();
+        assertThat(statementCount(() -> cached.set(developerRepository.findById(developer.getId()).orElseThrow()))).isZero();
+        assertThat(cached.get().getName()).isEqualTo("renamed");
+
+        developerService.deleteDeveloper(developer.getId(), null);
+
+        assertThat(developerRepository.findById(developer.getId())).isEmpty();
+        assertThat(developerRepository.findByEmail(developer.getEmail())).isEmpty();
+    }
+}
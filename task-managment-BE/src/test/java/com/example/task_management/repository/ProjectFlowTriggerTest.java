@@ -0,0 +1,116 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// tasks_maintain_flow() keeps one row per project and day: opened minus closed tasks, completions, and a
+// histogram of cycle times. Single-row and set-based writes must land the same deltas.
+class ProjectFlowTriggerTest extends PostgresIntegrationTest {
+
+    @Test
+    void insertsOfOpenTasksOpenThemAndCompletedOnesDoNot() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 3);
+        createTasks(project, TaskStatus.IN_DEVELOPMENT, 1);
+        createTasks(project, TaskStatus.COMPLETED, 2);
+
+        assertThat(todaysFlow(project)).containsExactly(4L, 0L);
+    }
+
+    @Test
+    void completingReopeningAndDeletingMoveTheOpenCount() {
+        Project project = createProject();
+        List<Long> ids = createTasks(project, TaskStatus.BACKLOG, 5).stream().map(Task::getId).sorted().toList();
+
+        jdbcTemplate.update("UPDATE tasks SET status = 'COMPLETED' WHERE id IN (?, ?, ?)", ids.get(0), ids.get(1), ids.get(2));
+        assertThat(todaysFlow(project)).containsExactly(2L, 3L);
+
+        // Reopening gives the task back to the open count; the completion it had stays counted
+        jdbcTemplate.update("UPDATE tasks SET status = 'IN_DEVELOPMENT' WHERE id = ?", ids.get(0));
+        assertThat(todaysFlow(project)).containsExactly(3L, 3L);
+
+        // Deleting an open task closes it; deleting a completed one changes nothing
+        jdbcTemplate.update("DELETE FROM tasks WHERE id IN (?, ?)", ids.get(3), ids.get(1));
+        assertThat(todaysFlow(project)).containsExactly(2L, 3L);
+        assertThat(todaysFlow(project).get(0)).isEqualTo(openCount(project));
+    }
+
+    @Test
+    void updatesThatDoNotCrossCompletedLeaveTheRowAlone() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 2);
+
+        jdbcTemplate.update("UPDATE tasks SET status = 'IN_DEVELOPMENT' WHERE project_id = ?", project.getId());
+        jdbcTemplate.update("UPDATE tasks SET title = title || '!' WHERE project_id = ?", project.getId());
+
+        assertThat(todaysFlow(project)).containsExactly(2L, 0L);
+        assertThat(cycleTimeHistogram(project)).isEmpty();
+    }
+
+    // Bucket b holds cycle times in [1.1^b, 1.1^(b+1)) seconds
+    @Test
+    void completionsWithAStartLandInTheirCycleTimeBucket() {
+        Project project = createProject();
+        List<Long> ids = createTasks(project, TaskStatus.IN_DEVELOPMENT, 4).stream().map(Task::getId).sorted().toList();
+        jdbcTemplate.update("UPDATE tasks SET started_at = LOCALTIMESTAMP - INTERVAL '1 hour' WHERE id IN (?, ?)", ids.get(0), ids.get(1));
+        jdbcTemplate.update("UPDATE tasks SET started_at = LOCALTIMESTAMP - INTERVAL '1 day' WHERE id = ?", ids.get(2));
+        // Completed straight from the backlog: no start, so no cycle time
+        jdbcTemplate.update("UPDATE tasks SET status = 'BACKLOG', started_at = NULL WHERE id = ?", ids.get(3));
+
+        jdbcTemplate.update("UPDATE tasks SET status = 'COMPLETED' WHERE project_id = ?", project.getId());
+
+        assertThat(cycleTimeHistogram(project)).containsExactly(
+                Map.entry(bucket(3600), 2L), Map.entry(bucket(86400), 1L));
+        assertThat(todaysFlow(project)).containsExactly(0L, 4L);
+    }
+
+    @Test
+    void enteringDevelopmentStampsTheStart() {
+        Project project = createProject();
+        Task task = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+        assertThat(startedAt(task)).isNull();
+
+        jdbcTemplate.update("UPDATE tasks SET status = 'IN_DEVELOPMENT' WHERE id = ?", task.getId());
+
+        assertThat(startedAt(task)).isNotNull();
+    }
+
+    private List<Long> todaysFlow(Project project) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT open_delta, completed_count FROM project_daily_flow WHERE project_id = ? AND day = CURRENT_DATE",
+                project.getId());
+        assertThat(rows).hasSize(1);
+        return List.of(((Number) rows.get(0).get("open_delta")).longValue(), ((Number) rows.get(0).get("completed_count")).longValue());
+    }
+
+    private long openCount(Project project) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE project_id = ? AND status <> 'COMPLETED'",
+                Long.class, project.getId());
+    }
+
+    private Map<Integer, Long> cycleTimeHistogram(Project project) {
+        Map<Integer, Long> histogram = new TreeMap<>();
+        jdbcTemplate.query("SELECT bucket, task_count FROM project_cycle_time_stats WHERE project_id = ?",
+                row -> {
+                    histogram.put(row.getInt("bucket"), row.getLong("task_count"));
+                }, project.getId());
+        return histogram;
+    }
+
+    private Object startedAt(Task task) {
+        return jdbcTemplate.queryForObject("SELECT started_at FROM tasks WHERE id = ?", Object.class, task.getId());
+    }
+
+    private static int bucket(long seconds) {
+        return (int) Math.floor(Math.log(seconds) / Math.log(1.1));
+    }
+}
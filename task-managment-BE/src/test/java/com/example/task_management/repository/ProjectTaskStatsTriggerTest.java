@@ -0,0 +1,106 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The statement-level triggers must leave project_task_stats and project_due_date_stats equal to a recount of
+// the live tasks after every kind of write, single-row and set-based alike
+class ProjectTaskStatsTriggerTest extends PostgresIntegrationTest {
+
+    private static final LocalDate DUE = LocalDate.of(2030, 1, 15);
+
+    @Autowired
+    private ProjectTaskStatsRepository projectTaskStatsRepository;
+
+    @Test
+    void countersFollowInsertsUpdatesAndDeletes() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        List<Long> ids = createTasks(project, TaskStatus.BACKLOG, 6).stream().map(Task::getId).sorted().toList();
+        assertThat(taskCounts(project)).containsExactly(Map.entry("BACKLOG/0", 6L));
+        assertThat(openByDueDate(project)).isEmpty();
+
+        jdbcTemplate.update("UPDATE tasks SET due_date = ? WHERE id IN (?, ?, ?)", DUE, ids.get(0), ids.get(1), ids.get(2));
+        assertThat(openByDueDate(project)).containsExactly(Map.entry(DUE.toString(), 3L));
+        assertMatchesRecount(project);
+
+        jdbcTemplate.update("UPDATE tasks SET status = 'IN_DEVELOPMENT', assigned_to_id = ? WHERE id IN (?, ?, ?, ?)",
+                developer.getId(), ids.get(0), ids.get(1), ids.get(3), ids.get(4));
+        assertThat(taskCounts(project)).containsOnly(
+                Map.entry("BACKLOG/0", 2L), Map.entry("IN_DEVELOPMENT/" + developer.getId(), 4L));
+        assertMatchesRecount(project);
+
+        // Completed tasks stop counting towards due dates
+        jdbcTemplate.update("UPDATE tasks SET status = 'COMPLETED' WHERE id IN (?, ?)", ids.get(0), ids.get(3));
+        assertThat(openByDueDate(project)).containsExactly(Map.entry(DUE.toString(), 2L));
+        assertMatchesRecount(project);
+
+        jdbcTemplate.update("DELETE FROM tasks WHERE id IN (?, ?)", ids.get(1), ids.get(5));
+        assertMatchesRecount(project);
+
+        // Keys that reach zero are dropped rather than kept at 0
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", project.getId());
+        assertThat(taskCounts(project)).isEmpty();
+        assertThat(openByDueDate(project)).isEmpty();
+    }
+
+    @Test
+    void updateThatMovesNothingLeavesTheCountersAlone() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.IN_DEVELOPMENT, 3);
+        Map<String, Long> before = taskCounts(project);
+
+        jdbcTemplate.update("UPDATE tasks SET title = title || '!' WHERE project_id = ?", project.getId());
+
+        assertThat(taskCounts(project)).isEqualTo(before);
+    }
+
+    @Test
+    void rebuildReturnsTheTotalAndAgreesWithTheTriggers() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 4);
+        createTasks(project, TaskStatus.COMPLETED, 2);
+        Map<String, Long> maintained = taskCounts(project);
+
+        assertThat(projectTaskStatsRepository.rebuildByProjectId(project.getId())).isEqualTo(6L);
+        assertThat(taskCounts(project)).isEqualTo(maintained);
+    }
+
+    private void assertMatchesRecount(Project project) {
+        assertThat(taskCounts(project)).isEqualTo(counts(
+                "SELECT status || '/' || COALESCE(assigned_to_id, 0), COUNT(*) FROM tasks WHERE project_id = ? GROUP BY 1",
+                project));
+        assertThat(openByDueDate(project)).isEqualTo(counts(
+                "SELECT CAST(due_date AS text), COUNT(*) FROM tasks WHERE project_id = ? AND status <> 'COMPLETED' "
+                        + "AND due_date IS NOT NULL GROUP BY 1",
+                project));
+    }
+
+    private Map<String, Long> taskCounts(Project project) {
+        return counts("SELECT status || '/' || assigned_to_id, task_count FROM project_task_stats WHERE project_id = ?", project);
+    }
+
+    private Map<String, Long> openByDueDate(Project project) {
+        return counts("SELECT CAST(due_date AS text), open_count FROM project_due_date_stats WHERE project_id = ?", project);
+    }
+
+    private Map<String, Long> counts(String sql, Project project) {
+        Map<String, Long> counts = new TreeMap<>();
+        jdbcTemplate.query(sql, row -> {
+            counts.put(row.getString(1), row.getLong(2));
+        }, project.getId());
+        return counts;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.util.CursorUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangesRepositoryTest extends PostgresIntegrationTest {
+
+    @Test
+    void writeInFlightWhenTheWindowStartsShowsUpInThatWindowOnceCommitted() throws Exception {
+        Project project = createProject();
+        List<Task> tasks = createTasks(project, TaskStatus.BACKLOG, 2);
+        Task before = tasks.get(0);
+        Task inFlight = tasks.get(1);
+
+        try (Connection writer = jdbcTemplate.getDataSource().getConnection()) {
+            writer.setAutoCommit(false);
+            try (PreparedStatement update = writer.prepareStatement("UPDATE tasks SET title = 'edited' WHERE id = ?")) {
+                update.setLong(1, inFlight.getId());
+                update.executeUpdate();
+            }
+
+            // The open transaction holds the snapshot xmin back, so the window starts at or before its txid
+            long sinceTxid = taskRepository.findSnapshotXmin();
+            assertThat(changedIds(project, sinceTxid)).doesNotContain(before.getId());
+            assertThat(changedIds(project, sinceTxid)).doesNotContain(inFlight.getId());
+
+            writer.commit();
+
+            assertThat(changedIds(project, sinceTxid)).containsExactly(inFlight.getId());
+            assertThat(taskRepository.findDTOById(inFlight.getId())).get()
+                    .extracting(TaskDTO::getTitle).isEqualTo("edited");
+        }
+    }
+
+    @Test
+    void windowIsPagedByIdAfterTheCursor() {
+        Project project = createProject();
+        long sinceTxid = taskRepository.findSnapshotXmin();
+        List<Long> ids = createTasks(project, TaskStatus.BACKLOG, 3).stream().map(Task::getId).sorted().toList();
+
+        Slice<TaskDTO> first = taskRepository.findDTOsChangedSince(sinceTxid, List.of(), List.of(), 0L, CursorUtils.firstRows(2));
+        assertThat(first.getContent()).extracting(TaskDTO::getId).startsWith(ids.get(0), ids.get(1));
+        assertThat(first.hasNext()).isTrue();
+
+        Slice<TaskDTO> rest = taskRepository.findDTOsChangedSince(sinceTxid, List.of(), List.of(), ids.get(1), CursorUtils.firstRows(2));
+        assertThat(rest.getContent()).extracting(TaskDTO::getId).contains(ids.get(2)).doesNotContain(ids.get(0), ids.get(1));
+    }
+
+    @Test
+    void renamingTheProjectResendsItsTasksWithoutRewritingThem() {
+        Project project = createProject();
+        List<Long> ids = createTasks(project, TaskStatus.BACKLOG, 2).stream().map(Task::getId).sorted().toList();
+        long sinceTxid = taskRepository.findSnapshotXmin();
+        assertThat(changedIds(project, sinceTxid)).isEmpty();
+        List<Long> txidsBefore = taskTxids(project);
+
+        jdbcTemplate.update("UPDATE projects SET name = ? WHERE id = ?", project.getName() + " renamed", project.getId());
+
+        assertThat(projectRepository.findIdsRenamedSince(sinceTxid)).contains(project.getId());
+        assertThat(changedIds(project, sinceTxid)).containsExactlyElementsOf(ids);
+        assertThat(taskTxids(project)).isEqualTo(txidsBefore);
+    }
+
+    @Test
+    void renamingTheAssigneeResendsTheirTasksWithoutRewritingThem() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        List<Task> tasks = createTasks(project, TaskStatus.BACKLOG, 2);
+        Task assigned = tasks.get(0);
+        assigned.setAssignedTo(developer);
+        taskRepository.save(assigned);
+        long sinceTxid = taskRepository.findSnapshotXmin();
+        List<Long> txidsBefore = taskTxids(project);
+
+        jdbcTemplate.update("UPDATE developers SET name = ? WHERE id = ?", developer.getName() + " renamed", developer.getId());
+
+        assertThat(developerRepository.findIdsRenamedSince(sinceTxid)).contains(developer.getId());
+        assertThat(changedIds(project, sinceTxid)).containsExactly(assigned.getId());
+        assertThat(taskTxids(project)).isEqualTo(txidsBefore);
+    }
+
+    @Test
+    void otherProjectUpdatesDoNotStampTheName() {
+        Project project = createProject();
+        long sinceTxid = taskRepository.findSnapshotXmin();
+
+        jdbcTemplate.update("UPDATE projects SET description = 'edited' WHERE id = ?", project.getId());
+        jdbcTemplate.update("UPDATE projects SET name = name WHERE id = ?", project.getId());
+
+        assertThat(projectRepository.findIdsRenamedSince(sinceTxid)).doesNotContain(project.getId());
+    }
+
+    private List<Long> changedIds(Project project, long sinceTxid) {
+        return taskRepository.findDTOsChangedSince(sinceTxid, projectRepository.findIdsRenamedSince(sinceTxid),
+                        developerRepository.findIdsRenamedSince(sinceTxid), 0L, CursorUtils.firstRows(1000))
+                .getContent().stream()
+                .filter(task -> task.getProjectId().equals(project.getId()))
+                .map(TaskDTO::getId)
+                .toList();
+    }
+
+    private List<Long> taskTxids(Project project) {
+        return jdbcTemplate.queryForList("SELECT change_txid FROM tasks WHERE project_id = ? ORDER BY id", Long.class,
+                project.getId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.task_management.repository;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.util.CursorUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskRepositoryKeysetTest extends PostgresIntegrationTest {
+
+    @Test
+    void pagesStartStrictlyAfterTheCursorAndStopAtTheLastRow() {
+        Project project = createProject();
+        List<Long> ids = ids(createTasks(project, TaskStatus.BACKLOG, 5));
+        // Rows of another project interleave in id order but never show up
+        createTasks(createProject(), TaskStatus.BACKLOG, 3);
+
+        Slice<TaskDTO> first = taskRepository.findDTOsByProjectIdAfter(project.getId(), 0L, CursorUtils.firstRows(2));
+        assertThat(taskIds(first)).containsExactly(ids.get(0), ids.get(1));
+        assertThat(first.hasNext()).isTrue();
+
+        Slice<TaskDTO> second = taskRepository.findDTOsByProjectIdAfter(project.getId(), ids.get(1), CursorUtils.firstRows(2));
+        assertThat(taskIds(second)).containsExactly(ids.get(2), ids.get(3));
+        assertThat(second.hasNext()).isTrue();
+
+        Slice<TaskDTO> last = taskRepository.findDTOsByProjectIdAfter(project.getId(), ids.get(3), CursorUtils.firstRows(2));
+        assertThat(taskIds(last)).containsExactly(ids.get(4));
+        assertThat(last.hasNext()).isFalse();
+
+        Slice<TaskDTO> beyond = taskRepository.findDTOsByProjectIdAfter(project.getId(), ids.get(4), CursorUtils.firstRows(2));
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.hasNext()).isFalse();
+    }
+
+    @Test
+    void pageThatEndsExactlyOnTheLastRowHasNoNextPage() {
+        Project project = createProject();
+        List<Long> ids = ids(createTasks(project, TaskStatus.BACKLOG, 4));
+
+        Slice<TaskDTO> whole = taskRepository.findDTOsByProjectIdAfter(project.getId(), 0L, CursorUtils.firstRows(4));
+        assertThat(taskIds(whole)).containsExactlyElementsOf(ids);
+        assertThat(whole.hasNext()).isFalse();
+    }
+
+    @Test
+    void followingTheCursorsVisitsEveryRowOnce() {
+        Project project = createProject();
+        List<Long> ids = ids(createTasks(project, TaskStatus.IN_DEVELOPMENT, 7));
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<TaskDTO> page = CursorUtils.toPage(taskRepository.findDTOsByProjectIdAfter(
+                    project.getId(), CursorUtils.decode(cursor), CursorUtils.firstRows(3)), TaskDTO::getId);
+            page.getItems().forEach(task -> seen.add(task.getId()));
+            cursor = page.getNext();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(ids);
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).sorted().toList();
+    }
+
+    private static List<Long> taskIds(Slice<TaskDTO> slice) {
+        return slice.getContent().stream().map(TaskDTO::getId).toList();
+    }
+}
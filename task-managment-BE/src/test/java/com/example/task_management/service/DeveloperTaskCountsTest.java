@@ -0,0 +1,46 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.DeveloperDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Task counts and project names for a page of developers are resolved in batch, not per developer
+class DeveloperTaskCountsTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Test
+    void pageResolvesTaskCountsAndProjectNamesInBatch() {
+        Project project = createProject();
+        List<Developer> developers = List.of(createDeveloper(project), createDeveloper(project), createDeveloper(project));
+        List<Task> tasks = createTasks(project, TaskStatus.BACKLOG, 3);
+        assign(tasks.get(0), developers.get(0));
+        assign(tasks.get(1), developers.get(0));
+        assign(tasks.get(2), developers.get(2));
+
+        AtomicReference<CursorPageDTO<DeveloperDTO>> page = new AtomicReference<>();
+        int statements = statementCount(() -> page.set(developerService.getDevelopersByProjectId(project.getId(), null, 10)));
+
+        assertThat(page.get().getItems()).extracting(DeveloperDTO::getId).containsExactlyElementsOf(developers.stream().map(Developer::getId).toList());
+        assertThat(page.get().getItems()).extracting(DeveloperDTO::getTaskCount).containsExactly(2, 0, 1);
+        assertThat(page.get().getItems()).extracting(DeveloperDTO::getProjectName).containsOnly(project.getName());
+        // The page, one GROUP BY for task counts and one IN query for project names
+        assertThat(statements).isEqualTo(3);
+    }
+
+    private void assign(Task task, Developer developer) {
+        jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ? WHERE id = ?", developer.getId(), task.getId());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BurndownDTO;
+import com.example.task_management.dto.BurndownPointDTO;
+import com.example.task_management.dto.CycleTimeDTO;
+import com.example.task_management.dto.ThroughputDTO;
+import com.example.task_management.dto.ThroughputWeekDTO;
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.repository.ProjectDailyFlowRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// The triggers stamp rows with CURRENT_DATE, so each "day" below is played today and its rows are then moved
+// back to the day they stand for
+class ProjectAnalyticsTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ProjectAnalyticsService projectAnalyticsService;
+
+    @Autowired
+    private ProjectDailyFlowRepository projectDailyFlowRepository;
+
+    @Test
+    void burndownReplaysOpensCompletionsReopensAndDeletes() {
+        Project project = createProject();
+        LocalDate today = projectDailyFlowRepository.findCurrentDate();
+        playHistory(project);
+
+        BurndownDTO burndown = projectAnalyticsService.getBurndown(project.getId(), today.minusDays(4), null);
+
+        assertThat(burndown.getTo()).isEqualTo(today);
+        assertThat(burndown.getPoints()).extracting(BurndownPointDTO::getDate, BurndownPointDTO::getRemaining).containsExactly(
+                tuple(today.minusDays(4), 0L),
+                tuple(today.minusDays(3), 5L),
+                tuple(today.minusDays(2), 3L),
+                tuple(today.minusDays(1), 4L),
+                tuple(today, 3L));
+    }
+
+    // The days after "to" are backed out of today's open count before the series is walked
+    @Test
+    void burndownEndingInThePastBacksOutTheLaterDays() {
+        Project project = createProject();
+        LocalDate today = projectDailyFlowRepository.findCurrentDate();
+        playHistory(project);
+
+        BurndownDTO burndown = projectAnalyticsService.getBurndown(project.getId(), today.minusDays(4), today.minusDays(2));
+
+        assertThat(burndown.getPoints()).extracting(BurndownPointDTO::getRemaining).containsExactly(0L, 5L, 3L);
+        assertThat(burndown.getPoints()).extracting(BurndownPointDTO::getDate).endsWith(today.minusDays(2));
+    }
+
+    @Test
+    void burndownWithoutActivityIsFlat() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 2);
+        LocalDate today = projectDailyFlowRepository.findCurrentDate();
+        jdbcTemplate.update("DELETE FROM project_daily_flow WHERE project_id = ?", project.getId());
+
+        BurndownDTO burndown = projectAnalyticsService.getBurndown(project.getId(), today.minusDays(2), null);
+
+        assertThat(burndown.getPoints()).extracting(BurndownPointDTO::getRemaining).containsExactly(2L, 2L, 2L);
+    }
+
+    @Test
+    void rangeEndingBeforeItStartsIsRejected() {
+        Project project = createProject();
+        LocalDate today = projectDailyFlowRepository.findCurrentDate();
+
+        assertThatThrownBy(() -> projectAnalyticsService.getBurndown(project.getId(), today, today.minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    // Ten samples: 4 in bucket 10, 4 in bucket 20 (split over two days), 2 in bucket 30. Nearest rank puts
+    // the median (5th) in bucket 20 and p90 (9th) in bucket 30; each reports its geometric midpoint.
+    @Test
+    void cycleTimePercentilesComeFromTheMergedHistogram() {
+        Project project = createProject();
+        LocalDate today = projectDailyFlowRepository.findCurrentDate();
+        insertBucket(project, today.minusDays(1), 10, 4);
+        insertBucket(project, today.minusDays(1), 20, 1);
+        insertBucket(project, today, 20, 3);
+        insertBucket(project, today, 30, 2);
+        // Outside the range
+        insertBucket(project, today.minusDays(10), 40, 100);
+
+        CycleTimeDTO cycleTime = projectAnalyticsService.getCycleTime(project.getId(), today.minusDays(1), today);
+
+        assertThat(cycleTime.getSampleCount()).isEqualTo(10);
+        assertThat(cycleTime.getMedianSeconds()).isEqualTo(Math.round(Math.pow(1.1, 20.5)));
+        assertThat(cycleTime.getP90Seconds()).isEqualTo(Math.round(Math.pow(1.1, 30.5)));
+    }
+
+    @Test
+    void cycleTimeWithoutSamplesHasNoPercentiles() {
+        CycleTimeDTO cycleTime = projectAnalyticsService.getCycleTime(createProject().getId(), null, null);
+
+        assertThat(cycleTime.getSampleCount()).isZero();
+        assertThat(cycleTime.getMedianSeconds()).isNull();
+        assertThat(cycleTime.getP90Seconds()).isNull();
+    }
+
+    @Test
+    void throughputCountsCompletionsPerWeek() {
+        Project project = createProject();
+        LocalDate today = projectDailyFlowRepository.findCurrentDate();
+        playHistory(project);
+
+        ThroughputDTO throughput = projectAnalyticsService.getThroughput(project.getId(), today.minusDays(4), null);
+
+        assertThat(throughput.getWeeks()).extracting(ThroughputWeekDTO::getWeekStart).isSorted()
+                .allMatch(weekStart -> weekStart.getDayOfWeek() == DayOfWeek.MONDAY);
+        assertThat(throughput.getWeeks().stream().mapToLong(ThroughputWeekDTO::getCompletedCount).sum()).isEqualTo(2L);
+    }
+
+    // Day -3: five tasks opened. Day -2: two completed. Day -1: one reopened. Today: one open task and one
+    // completed task deleted. Open at the end of each day: 5, 3, 4, 3.
+    private void playHistory(Project project) {
+        List<Long> ids = createTasks(project, TaskStatus.BACKLOG, 5).stream().map(Task::getId).sorted().toList();
+        moveTodayBack(project, 3);
+        jdbcTemplate.update("UPDATE tasks SET status = 'COMPLETED' WHERE id IN (?, ?)", ids.get(0), ids.get(1));
+        moveTodayBack(project, 2);
+        jdbcTemplate.update("UPDATE tasks SET status = 'BACKLOG' WHERE id = ?", ids.get(0));
+        moveTodayBack(project, 1);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id IN (?, ?)", ids.get(2), ids.get(1));
+    }
+
+    private void moveTodayBack(Project project, int days) {
+        jdbcTemplate.update("UPDATE project_daily_flow SET day = CURRENT_DATE - ? WHERE project_id = ? AND day = CURRENT_DATE",
+                days, project.getId());
+    }
+
+    private void insertBucket(Project project, LocalDate day, int bucket, long count) {
+        jdbcTemplate.update("INSERT INTO project_cycle_time_stats (project_id, day, bucket, task_count) VALUES (?, ?, ?, ?)",
+                project.getId(), day, bucket, count);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.ProjectDTO;
+import com.example.task_management.model.Project;
+import com.example.task_management.util.CursorUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Developer and task counts come from grouped queries over the page, never from the collections
+class ProjectCountersTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void pageCountsEachProjectsDevelopersAndTasks() {
+        Project busy = createProject();
+        Project idle = createProject();
+        Project staffed = createProject();
+        createDeveloper(busy);
+        createDeveloper(busy);
+        createTasks(busy, TaskStatus.BACKLOG, 3);
+        createTasks(busy, TaskStatus.COMPLETED, 2);
+        createDeveloper(staffed);
+
+        String beforeTheseProjects = CursorUtils.encode(busy.getId() - 1);
+        AtomicReference<CursorPageDTO<ProjectDTO>> page = new AtomicReference<>();
+        int statements = statementCount(() -> page.set(projectService.getAllProjects(beforeTheseProjects, 3)));
+
+        assertThat(page.get().getItems()).extracting(ProjectDTO::getId).containsExactly(busy.getId(), idle.getId(), staffed.getId());
+        assertThat(page.get().getItems()).extracting(ProjectDTO::getDeveloperCount).containsExactly(2, 0, 1);
+        assertThat(page.get().getItems()).extracting(ProjectDTO::getTaskCount).containsExactly(5, 0, 0);
+        // The page, one GROUP BY for developers and one for tasks
+        assertThat(statements).isEqualTo(3);
+    }
+
+    @Test
+    void singleProjectCountsMatchThePage() {
+        Project project = createProject();
+        createDeveloper(project);
+        createTasks(project, TaskStatus.IN_DEVELOPMENT, 4);
+
+        ProjectDTO dto = projectService.getProjectById(project.getId());
+
+        assertThat(dto.getDeveloperCount()).isEqualTo(1);
+        assertThat(dto.getTaskCount()).isEqualTo(4);
+    }
+}
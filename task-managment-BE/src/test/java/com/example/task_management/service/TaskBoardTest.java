@@ -0,0 +1,91 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BoardColumnDTO;
+import com.example.task_management.dto.BoardDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import com.example.task_management.util.CursorUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskBoardTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void boardHasEveryColumnWithItsFirstCardsAndTotalInOneStatement() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        List<Task> backlog = createTasks(project, TaskStatus.BACKLOG, 3);
+        List<Task> inDevelopment = createTasks(project, TaskStatus.IN_DEVELOPMENT, 1);
+        jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ? WHERE id = ?", developer.getId(), inDevelopment.get(0).getId());
+        createTasks(createProject(), TaskStatus.BACKLOG, 2);
+
+        AtomicReference<BoardDTO> board = new AtomicReference<>();
+        int statements = statementCount(() -> board.set(taskService.getBoard(project.getId(), null, null, 2)));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(board.get().getProjectId()).isEqualTo(project.getId());
+        assertThat(board.get().getColumns()).extracting(BoardColumnDTO::getStatus).containsExactly(TaskStatus.values());
+
+        BoardColumnDTO backlogColumn = column(board.get(), TaskStatus.BACKLOG);
+        assertThat(backlogColumn.getTotal()).isEqualTo(3);
+        assertThat(backlogColumn.getItems()).extracting(TaskDTO::getId).containsExactly(backlog.get(0).getId(), backlog.get(1).getId());
+        assertThat(backlogColumn.isHasNext()).isTrue();
+        assertThat(backlogColumn.getNext()).isEqualTo(CursorUtils.encode(backlog.get(1).getId()));
+
+        BoardColumnDTO inDevelopmentColumn = column(board.get(), TaskStatus.IN_DEVELOPMENT);
+        assertThat(inDevelopmentColumn.getTotal()).isEqualTo(1);
+        assertThat(inDevelopmentColumn.isHasNext()).isFalse();
+        assertThat(inDevelopmentColumn.getNext()).isNull();
+        assertThat(inDevelopmentColumn.getItems().get(0).getAssignedToName()).isEqualTo(developer.getName());
+        assertThat(inDevelopmentColumn.getItems().get(0).getProjectName()).isEqualTo(project.getName());
+
+        BoardColumnDTO completedColumn = column(board.get(), TaskStatus.COMPLETED);
+        assertThat(completedColumn.getTotal()).isZero();
+        assertThat(completedColumn.getItems()).isEmpty();
+    }
+
+    @Test
+    void columnPagesFromTheCursorAndKeepsItsTotal() {
+        Project project = createProject();
+        List<Task> backlog = createTasks(project, TaskStatus.BACKLOG, 5);
+        createTasks(project, TaskStatus.COMPLETED, 1);
+
+        BoardDTO first = taskService.getBoard(project.getId(), TaskStatus.BACKLOG, null, 2);
+        BoardDTO second = taskService.getBoard(project.getId(), TaskStatus.BACKLOG, column(first, TaskStatus.BACKLOG).getNext(), 2);
+        BoardDTO last = taskService.getBoard(project.getId(), TaskStatus.BACKLOG, column(second, TaskStatus.BACKLOG).getNext(), 2);
+
+        assertThat(first.getColumns()).extracting(BoardColumnDTO::getStatus).containsExactly(TaskStatus.BACKLOG);
+        assertThat(column(second, TaskStatus.BACKLOG).getItems()).extracting(TaskDTO::getId)
+                .containsExactly(backlog.get(2).getId(), backlog.get(3).getId());
+        assertThat(column(second, TaskStatus.BACKLOG).getTotal()).isEqualTo(5);
+        assertThat(column(last, TaskStatus.BACKLOG).getItems()).extracting(TaskDTO::getId).containsExactly(backlog.get(4).getId());
+        assertThat(column(last, TaskStatus.BACKLOG).isHasNext()).isFalse();
+    }
+
+    @Test
+    void cursorWithoutAColumnIsRejected() {
+        Project project = createProject();
+
+        assertThatThrownBy(() -> taskService.getBoard(project.getId(), null, CursorUtils.encode(1L), 2))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("A column status is required when paging with a cursor");
+    }
+
+    private static BoardColumnDTO column(BoardDTO board, TaskStatus status) {
+        return board.getColumns().stream().filter(column -> column.getStatus() == status).findFirst().orElseThrow();
+    }
+}
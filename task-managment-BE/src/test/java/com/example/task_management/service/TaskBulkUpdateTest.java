@@ -0,0 +1,166 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BulkItemErrorDTO;
+import com.example.task_management.dto.BulkTaskUpdateDTO;
+import com.example.task_management.dto.BulkUpdateResultDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TaskBulkUpdateTest extends PostgresIntegrationTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 1000 ids per IN list (BULK_ID_CHUNK_SIZE); a longer list is written in several statements
+    @Test
+    void idListsLongerThanOneChunkAreWrittenInFull() {
+        Project project = createProject();
+        List<Long> ids = new ArrayList<>(ids(createTasks(project, TaskStatus.BACKLOG, 2005)));
+        ids.add(1500, MISSING_ID);
+
+        AtomicReference<BulkUpdateResultDTO> result = new AtomicReference<>();
+        int statements = statementCount(() -> result.set(taskService.updateTaskStatuses(statusChange(ids, TaskStatus.COMPLETED))));
+
+        assertThat(result.get().getRequested()).isEqualTo(2006);
+        assertThat(result.get().getAffected()).isEqualTo(2005);
+        assertThat(result.get().getErrors()).extracting(BulkItemErrorDTO::getIndex, BulkItemErrorDTO::getMessage)
+                .containsExactly(tuple(1500, "Task not found with id: " + MISSING_ID));
+        assertThat(statusCounts(project)).containsExactly(Map.entry("COMPLETED", 2005L));
+        // Three UPDATE ... RETURNING chunks and one lookup of the ids they did not touch
+        assertThat(statements).isEqualTo(4);
+    }
+
+    @Test
+    void tasksAlreadyInTheTargetStatusAreNotErrors() {
+        Project project = createProject();
+        List<Long> ids = ids(createTasks(project, TaskStatus.COMPLETED, 2));
+
+        BulkUpdateResultDTO result = taskService.updateTaskStatuses(statusChange(ids, TaskStatus.COMPLETED));
+
+        assertThat(result.getAffected()).isZero();
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    void projectWideChangeOnlyMovesTasksInFromStatus() {
+        Project project = createProject();
+        createTasks(project, TaskStatus.BACKLOG, 2);
+        createTasks(project, TaskStatus.IN_DEVELOPMENT, 3);
+        createTasks(createProject(), TaskStatus.IN_DEVELOPMENT, 1);
+
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setProjectId(project.getId());
+        request.setFromStatus(TaskStatus.IN_DEVELOPMENT);
+        request.setStatus(TaskStatus.COMPLETED);
+        BulkUpdateResultDTO result = taskService.updateTaskStatuses(request);
+
+        assertThat(result.getRequested()).isNull();
+        assertThat(result.getAffected()).isEqualTo(3);
+        assertThat(statusCounts(project)).containsOnly(Map.entry("BACKLOG", 2L), Map.entry("COMPLETED", 3L));
+    }
+
+    @Test
+    void missingAndCrossProjectIdsAreReportedByPosition() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        List<Long> own = ids(createTasks(project, TaskStatus.BACKLOG, 2));
+        Long foreign = ids(createTasks(createProject(), TaskStatus.BACKLOG, 1)).get(0);
+
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setTaskIds(Arrays.asList(own.get(0), foreign, MISSING_ID, null, own.get(1), own.get(0)));
+        request.setDeveloperId(developer.getId());
+        BulkUpdateResultDTO result = taskService.assignTasksToDeveloper(request);
+
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getAffected()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(BulkItemErrorDTO::getIndex, BulkItemErrorDTO::getMessage).containsExactly(
+                tuple(1, "Developer must be assigned to the same project as the task"),
+                tuple(2, "Task not found with id: " + MISSING_ID),
+                tuple(3, "Task id is required"));
+        assertThat(assigneeOf(own.get(0))).isEqualTo(developer.getId());
+        assertThat(assigneeOf(own.get(1))).isEqualTo(developer.getId());
+        assertThat(assigneeOf(foreign)).isNull();
+
+        BulkTaskUpdateDTO unassign = new BulkTaskUpdateDTO();
+        unassign.setTaskIds(List.of(own.get(0), foreign, MISSING_ID));
+        BulkUpdateResultDTO unassigned = taskService.unassignTasks(unassign);
+
+        // An unassigned task is already in the target state
+        assertThat(unassigned.getAffected()).isEqualTo(1);
+        assertThat(unassigned.getErrors()).extracting(BulkItemErrorDTO::getIndex).containsExactly(2);
+    }
+
+    // The set-based write bypasses the persistence context. Pending changes to a Task loaded earlier in the
+    // same transaction go out first; afterwards the transaction reads the written row, not the stale entity,
+    // and nothing stale is written back at commit.
+    @Test
+    void managedTaskFromBeforeTheBulkWriteIsNotFlushedOverIt() {
+        Project project = createProject();
+        List<Long> ids = ids(createTasks(project, TaskStatus.BACKLOG, 2));
+        Long edited = ids.get(0);
+        Long untouched = ids.get(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.findById(edited).orElseThrow().setTitle("edited before the bulk write");
+            taskRepository.findById(untouched).orElseThrow();
+            taskService.updateTaskStatuses(statusChange(ids, TaskStatus.COMPLETED));
+
+            Task reread = taskRepository.findById(untouched).orElseThrow();
+            assertThat(reread.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(reread.getVersion()).isEqualTo(1L);
+        });
+
+        Map<String, Object> editedRow = jdbcTemplate.queryForMap("SELECT title, status, version FROM tasks WHERE id = ?", edited);
+        assertThat(editedRow).containsEntry("title", "edited before the bulk write").containsEntry("status", "COMPLETED");
+        // One version for the flushed edit, one for the bulk write
+        assertThat(((Number) editedRow.get("version")).longValue()).isEqualTo(2L);
+        Map<String, Object> untouchedRow = jdbcTemplate.queryForMap("SELECT status, version FROM tasks WHERE id = ?", untouched);
+        assertThat(untouchedRow).containsEntry("status", "COMPLETED");
+        assertThat(((Number) untouchedRow.get("version")).longValue()).isEqualTo(1L);
+    }
+
+    private static BulkTaskUpdateDTO statusChange(List<Long> ids, TaskStatus status) {
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setTaskIds(ids);
+        request.setStatus(status);
+        return request;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).sorted().toList();
+    }
+
+    private Map<String, Long> statusCounts(Project project) {
+        Map<String, Long> counts = new TreeMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) FROM tasks WHERE project_id = ? GROUP BY status",
+                row -> {
+                    counts.put(row.getString(1), row.getLong(2));
+                }, project.getId());
+        return counts;
+    }
+
+    private Long assigneeOf(Long taskId) {
+        return jdbcTemplate.queryForObject("SELECT assigned_to_id FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+}
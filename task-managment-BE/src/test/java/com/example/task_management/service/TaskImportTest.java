@@ -0,0 +1,99 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.BulkImportResultDTO;
+import com.example.task_management.dto.BulkItemErrorDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TaskImportTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Test
+    void badItemsAreReportedByPositionAndTheRestImported() {
+        Project project = createProject();
+        Project other = createProject();
+        Developer developer = createDeveloper(project);
+        Developer outsider = createDeveloper(other);
+
+        List<TaskDTO> tasks = new ArrayList<>();
+        tasks.add(task("first", project.getId(), developer.getId()));
+        tasks.add(task(" ", project.getId(), null));
+        tasks.add(task("no such project", Long.MAX_VALUE, null));
+        tasks.add(task("wrong assignee", project.getId(), outsider.getId()));
+        tasks.add(task("last", project.getId(), null));
+
+        BulkImportResultDTO result = taskImportService.importTasks(tasks);
+
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(BulkItemErrorDTO::getIndex, BulkItemErrorDTO::getMessage).containsExactlyInAnyOrder(
+                tuple(1, "title: Task title is required"),
+                tuple(2, "Project not found with id: " + Long.MAX_VALUE),
+                tuple(3, "Developer must be assigned to the same project as the task"));
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM tasks WHERE project_id = ? ORDER BY id", String.class, project.getId()))
+                .containsExactly("first", "last");
+        assertThat(jdbcTemplate.queryForObject("SELECT assigned_to_id FROM tasks WHERE project_id = ? AND title = 'first'",
+                Long.class, project.getId())).isEqualTo(developer.getId());
+    }
+
+    @Test
+    void ndjsonLinesAreIndexedSkippingBlankLines() throws Exception {
+        Project project = createProject();
+        String ndjson = "{\"title\":\"a\",\"status\":\"BACKLOG\",\"projectId\":" + project.getId() + "}\n"
+                + "\n"
+                + "{\"title\":\"b\",\"status\":\n"
+                + "{\"title\":\"c\",\"status\":\"COMPLETED\",\"projectId\":" + project.getId() + "}\n";
+
+        BulkImportResultDTO result = taskImportService.importTasks(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getIndex()).isEqualTo(1);
+            assertThat(error.getMessage()).startsWith("Malformed JSON");
+        });
+    }
+
+    // Inserts go out as JDBC batches and the referenced rows are looked up once per chunk
+    @Test
+    void importStatementsDoNotGrowPerRow() {
+        Project project = createProject();
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            tasks.add(task("task " + i, project.getId(), null));
+        }
+
+        AtomicReference<BulkImportResultDTO> result = new AtomicReference<>();
+        int statements = statementCount(() -> result.set(taskImportService.importTasks(tasks)));
+
+        assertThat(result.get().getImported()).isEqualTo(500);
+        // A dozen or so (sequence blocks of 50, the batched insert, one project lookup), not one per row
+        assertThat(statements).isLessThan(25);
+    }
+
+    private static TaskDTO task(String title, Long projectId, Long assignedToId) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.BACKLOG);
+        task.setProjectId(projectId);
+        task.setAssignedToId(assignedToId);
+        return task;
+    }
+}
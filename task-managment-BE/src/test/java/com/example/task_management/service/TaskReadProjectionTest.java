@@ -0,0 +1,61 @@
+package com.example.task_management.service;
+
+import com.example.task_management.PostgresIntegrationTest;
+import com.example.task_management.constants.TaskStatus;
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.dto.TaskDTO;
+import com.example.task_management.dto.TaskFilterDTO;
+import com.example.task_management.model.Developer;
+import com.example.task_management.model.Project;
+import com.example.task_management.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Read paths build TaskDTO from one joined SELECT, so a page costs the same statements whatever its size
+// and however many projects and assignees it touches
+class TaskReadProjectionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void dtoCarriesProjectAndAssigneeFromTheJoin() {
+        Project project = createProject();
+        Developer developer = createDeveloper(project);
+        Task task = createTasks(project, TaskStatus.BACKLOG, 1).get(0);
+        jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ? WHERE id = ?", developer.getId(), task.getId());
+
+        TaskDTO dto = taskService.getTaskById(task.getId(), false);
+
+        assertThat(dto.getProjectId()).isEqualTo(project.getId());
+        assertThat(dto.getProjectName()).isEqualTo(project.getName());
+        assertThat(dto.getAssignedToId()).isEqualTo(developer.getId());
+        assertThat(dto.getAssignedToName()).isEqualTo(developer.getName());
+        assertThat(dto.getVersion()).isNotNull();
+    }
+
+    @Test
+    void pageStatementsDoNotGrowWithThePage() {
+        Project project = createProject();
+        List<Task> tasks = createTasks(project, TaskStatus.BACKLOG, 20);
+        for (int i = 0; i < tasks.size(); i++) {
+            jdbcTemplate.update("UPDATE tasks SET assigned_to_id = ? WHERE id = ?", createDeveloper(project).getId(), tasks.get(i).getId());
+        }
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setProjectId(project.getId());
+
+        int small = statementCount(() -> taskService.getTasks(filter, null, 2));
+        int large = statementCount(() -> {
+            CursorPageDTO<TaskDTO> page = taskService.getTasks(filter, null, 20);
+            assertThat(page.getItems()).hasSize(20).allSatisfy(task -> assertThat(task.getAssignedToName()).isNotNull());
+        });
+        int byProject = statementCount(() -> taskService.getTasksByProjectId(project.getId(), null, 20));
+
+        assertThat(large).isEqualTo(small).isEqualTo(1);
+        assertThat(byProject).isEqualTo(1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChangeTokenTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        ChangeToken token = new ChangeToken(9_000_000_001L, 1_790_000_000L, 9_000_000_123L, 1_790_000_060L, 4_200L, 17L);
+
+        ChangeToken decoded = ChangeToken.decode(token.encode());
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(token);
+        assertThat(decoded.isWindowStart()).isFalse();
+    }
+
+    @Test
+    void tokenBetweenWindowsStartsTheNextOne() {
+        ChangeToken decoded = ChangeToken.decode(new ChangeToken(77L, 1_790_000_000L, 0L, 0L, 0L, 0L).encode());
+
+        assertThat(decoded.getSinceTxid()).isEqualTo(77L);
+        assertThat(decoded.isWindowStart()).isTrue();
+    }
+
+    @Test
+    void missingTokenIsAFullSync() {
+        for (String token : new String[] {null, "", "  "}) {
+            ChangeToken decoded = ChangeToken.decode(token);
+            assertThat(decoded).usingRecursiveComparison().isEqualTo(ChangeToken.initial());
+            assertThat(decoded.isWindowStart()).isTrue();
+        }
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String encoded = new ChangeToken(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE).encode();
+        assertThat(encoded).doesNotContain("=", "+", "/");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "%%%", "v1:1:2:3:4:5:6"})
+    void rejectsUndecodableTokens(String token) {
+        assertThatThrownBy(() -> ChangeToken.decode(token)).isInstanceOf(BadRequestException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1:2:3:4:5:6", "v2:1:2:3:4:5:6", "v1:1:2:3:4:5", "v1:1:2:3:4:5:6:7", "v1:1:2:x:4:5:6",
+            "v1:::::", "v1:1:2:3:4:5:99999999999999999999"})
+    void rejectsMalformedPayloads(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> ChangeToken.decode(token)).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.task_management.util;
+
+import com.example.task_management.dto.CursorPageDTO;
+import com.example.task_management.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilsTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 42L, Long.MAX_VALUE})
+    void decodesWhatItEncodes(long lastId) {
+        assertThat(CursorUtils.decode(CursorUtils.encode(lastId))).isEqualTo(lastId);
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        assertThat(CursorUtils.encode(Long.MAX_VALUE)).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void missingCursorStartsAtTheBeginning() {
+        assertThat(CursorUtils.decode(null)).isZero();
+        assertThat(CursorUtils.decode("")).isZero();
+        assertThat(CursorUtils.decode("   ")).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "%%%", "id:42"})
+    void rejectsUndecodableCursors(String cursor) {
+        assertThatThrownBy(() -> CursorUtils.decode(cursor)).isInstanceOf(BadRequestException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"42", "key:42", "id:", "id:abc", "id:1.5", "id:99999999999999999999"})
+    void rejectsMalformedPayloads(String raw) {
+        assertThatThrownBy(() -> CursorUtils.decode(base64(raw))).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pageLinksToItsLastItemOnlyWhenMoreFollow() {
+        CursorPageDTO<Long> page = CursorUtils.toPage(List.of(3L, 7L), true, Function.identity());
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(CursorUtils.decode(page.getNext())).isEqualTo(7L);
+
+        CursorPageDTO<Long> last = CursorUtils.toPage(List.of(9L), false, Function.identity());
+        assertThat(last.getNext()).isNull();
+        assertThat(last.isHasNext()).isFalse();
+
+        CursorPageDTO<Long> empty = CursorUtils.toPage(List.of(), true, Function.identity());
+        assertThat(empty.getNext()).isNull();
+        assertThat(empty.getSize()).isZero();
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
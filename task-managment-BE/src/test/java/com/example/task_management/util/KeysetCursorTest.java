@@ -0,0 +1,51 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2026-10-18", "Release: v2 : final", "résumé ✓", "key:7"})
+    void valueRoundTrips(String value) {
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(value, 42L).encode());
+
+        assertThat(decoded.getValue()).isEqualTo(value);
+        assertThat(decoded.getAfterId()).isEqualTo(42L);
+    }
+
+    @Test
+    void missingValueRoundTripsAsNull() {
+        KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(null, 7L).encode());
+
+        assertThat(decoded.getValue()).isNull();
+        assertThat(decoded.getAfterId()).isEqualTo(7L);
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        assertThat(new KeysetCursor("??>>~~", Long.MAX_VALUE).encode()).doesNotContain("=", "+", "/");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "%%%", "key:a:1"})
+    void rejectsUndecodableCursors(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(BadRequestException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a:1", "rank:a:1", "id:1", "key", "key:", "key:a", "key:a:", "key:a:x", "key:a:1.5",
+            "key:a:99999999999999999999"})
+    void rejectsMalformedPayloads(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(BadRequestException.class);
+    }
+}
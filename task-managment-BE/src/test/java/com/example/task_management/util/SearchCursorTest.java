@@ -0,0 +1,58 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @ParameterizedTest
+    @ValueSource(floats = {0.0607927f, 1e-20f, 0f, 3.4028235e38f})
+    void rankRoundTripsExactly(float rank) {
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor(rank, 42L).encode());
+
+        assertThat(decoded.getRank()).isEqualTo(rank);
+        assertThat(decoded.getAfterId()).isEqualTo(42L);
+    }
+
+    @Test
+    void firstPageRoundTrips() {
+        SearchCursor decoded = SearchCursor.decode(SearchCursor.first().encode());
+
+        assertThat(decoded.getRank()).isEqualTo(Float.POSITIVE_INFINITY);
+        assertThat(decoded.getAfterId()).isZero();
+    }
+
+    @Test
+    void missingCursorStartsAtTheTop() {
+        for (String cursor : new String[] {null, "", "  "}) {
+            assertThat(SearchCursor.decode(cursor)).usingRecursiveComparison().isEqualTo(SearchCursor.first());
+        }
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        assertThat(new SearchCursor(0.1f, Long.MAX_VALUE).encode()).doesNotContain("=", "+", "/");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "%%%", "rank:0.5:1"})
+    void rejectsUndecodableCursors(String cursor) {
+        assertThatThrownBy(() -> SearchCursor.decode(cursor)).isInstanceOf(BadRequestException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.5:1", "key:0.5:1", "id:1", "rank:0.5", "rank:0.5:1:2", "rank:high:1", "rank:0.5:x",
+            "rank::1", "rank:0.5:", "rank:0.5:1.5", "rank:0.5:99999999999999999999"})
+    void rejectsMalformedPayloads(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> SearchCursor.decode(cursor)).isInstanceOf(BadRequestException.class);
+    }
+}
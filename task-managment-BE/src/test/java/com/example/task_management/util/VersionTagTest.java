@@ -0,0 +1,51 @@
+package com.example.task_management.util;
+
+import com.example.task_management.exception.BadRequestException;
+import com.example.task_management.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionTagTest {
+
+    @Test
+    void strongTagNamesTheVersion() {
+        assertThat(VersionTag.parseIfMatch(VersionTag.of(3L))).isEqualTo(3L);
+        assertThat(VersionTag.parseIfMatch(" \"12\" ")).isEqualTo(12L);
+    }
+
+    @Test
+    void absentHeaderOrWildcardImposesNoVersion() {
+        for (String ifMatch : new String[] {null, "", " ", "*"}) {
+            assertThat(VersionTag.parseIfMatch(ifMatch)).isNull();
+        }
+    }
+
+    // Strong comparison: the weak ETag of a GET never matches, even when it embeds the current version
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"3\"", "W/\"v3-1-6543a1b2.0\"", "W/\"0cc175b9c0f1b6a831c399e269772661\""})
+    void weakTagFailsThePrecondition(String ifMatch) {
+        assertThatThrownBy(() -> VersionTag.parseIfMatch(ifMatch)).isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void tagNamingNoVersionFailsThePrecondition() {
+        assertThatThrownBy(() -> VersionTag.parseIfMatch("\"v3-1-6543a1b2.0\""))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"3", "\"", "\"\"", "\"3", "\"3\", \"4\""})
+    void malformedHeaderIsRejected(String ifMatch) {
+        assertThatThrownBy(() -> VersionTag.parseIfMatch(ifMatch)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void headerWinsOverTheBody() {
+        assertThat(VersionTag.expected("\"4\"", 3L)).isEqualTo(4L);
+        assertThat(VersionTag.expected(null, 3L)).isEqualTo(3L);
+    }
+}
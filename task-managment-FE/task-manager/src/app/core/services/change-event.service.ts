@@ -0,0 +1,23 @@
+import { Injectable, NgZone, inject } from '@angular/core';
+import { Observable } from 'rxjs';
+import { ChangeEvent } from '../../features/projects/models/change-event.model';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class ChangeEventService {
+  private apiUrl = 'http://localhost:8080/api/v1/events';
+  private zone = inject(NgZone);
+
+  // Server-sent change events; EventSource reconnects by itself after drops and server timeouts
+  changes(projectId?: number): Observable<ChangeEvent> {
+    const url = projectId != null ? `${this.apiUrl}?projectId=${projectId}` : this.apiUrl;
+    return new Observable<ChangeEvent>(subscriber => {
+      const source = new EventSource(url, { withCredentials: true });
+      const onChange = (event: MessageEvent) =>
+        this.zone.run(() => subscriber.next(JSON.parse(event.data) as ChangeEvent));
+      ['task', 'project', 'developer'].forEach(type => source.addEventListener(type, onChange));
+      return () => source.close();
+    });
+  }
+}
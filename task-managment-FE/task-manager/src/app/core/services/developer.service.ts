@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { Observable, map } from 'rxjs';
 import { Developer } from '../../features/projects/models/developer.model';
+import { CursorPage } from '../../features/projects/models/page.model';
 
 @Injectable({
   providedIn: 'root'
@@ -12,7 +13,7 @@ export class DeveloperService {
   constructor(private http: HttpClient) {}
 
   getAllDevelopers(): Observable<Developer[]> {
-    return this.http.get<Developer[]>(this.apiUrl);
+    return this.http.get<CursorPage<Developer>>(this.apiUrl).pipe(map(page => page.items));
   }
 
   getDeveloperById(id: number): Observable<Developer> {
@@ -40,6 +41,6 @@ export class DeveloperService {
   }
 
   getDevelopersByProject(projectId: number): Observable<Developer[]> {
-    return this.http.get<Developer[]>(`${this.apiUrl}/project/${projectId}`);
+    return this.http.get<CursorPage<Developer>>(`${this.apiUrl}/project/${projectId}`).pipe(map(page => page.items));
   }
 }
\ No newline at end of file
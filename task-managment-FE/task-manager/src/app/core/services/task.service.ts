@@ -1,7 +1,8 @@
 import { Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { Observable, map } from 'rxjs';
 import { Task, TaskStatus } from '../../features/projects/models/task.model';
+import { CursorPage } from '../../features/projects/models/page.model';
 
 @Injectable({
   providedIn: 'root'
@@ -12,7 +13,7 @@ export class TaskService {
   constructor(private http: HttpClient) {}
 
   getAllTasks(): Observable<Task[]> {
-    return this.http.get<Task[]>(this.apiUrl);
+    return this.http.get<CursorPage<Task>>(this.apiUrl).pipe(map(page => page.items));
   }
 
   getTaskById(id: number): Observable<Task> {
@@ -46,14 +47,14 @@ export class TaskService {
   }
 
   getTasksByProject(projectId: number): Observable<Task[]> {
-    return this.http.get<Task[]>(`${this.apiUrl}/project/${projectId}`);
+    return this.http.get<CursorPage<Task>>(`${this.apiUrl}/project/${projectId}`).pipe(map(page => page.items));
   }
 
   getTasksByDeveloper(developerId: number): Observable<Task[]> {
-    return this.http.get<Task[]>(`${this.apiUrl}/developer/${developerId}`);
+    return this.http.get<CursorPage<Task>>(`${this.apiUrl}/developer/${developerId}`).pipe(map(page => page.items));
   }
 
   getTasksByStatus(status: TaskStatus): Observable<Task[]> {
-    return this.http.get<Task[]>(`${this.apiUrl}/status/${status}`);
+    return this.http.get<CursorPage<Task>>(`${this.apiUrl}/status/${status}`).pipe(map(page => page.items));
   }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+export type ChangeEntityType = 'TASK' | 'PROJECT' | 'DEVELOPER';
+
+export type ChangeType = 'CREATED' | 'UPDATED' | 'STATUS_CHANGED' | 'ASSIGNED' | 'UNASSIGNED' | 'DELETED' | 'ARCHIVED';
+
+export interface ChangeEvent {
+  version: number;
+  entityType: ChangeEntityType;
+  changeType: ChangeType;
+  entityId?: number | null;
+  projectId?: number | null;
+}
@@ -9,4 +9,5 @@ export interface Developer {
   taskCount?: number;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+export interface CursorPage<T> {
+  items: T[];
+  next?: string | null;
+  hasNext: boolean;
+  size: number;
+}
\ No newline at end of file
@@ -6,4 +6,5 @@ export interface Project {
   taskCount?: number;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
 }
\ No newline at end of file
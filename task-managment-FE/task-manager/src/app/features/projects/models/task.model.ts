@@ -15,4 +15,5 @@ export interface Task {
   developerName?: string;
   createdAt?: string;
   updatedAt?: string;
+  version?: number;
 }
\ No newline at end of file
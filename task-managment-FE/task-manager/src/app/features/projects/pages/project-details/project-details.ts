@@ -1,11 +1,12 @@
 import { Component, inject, resource, signal } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { ActivatedRoute, Router, RouterModule } from '@angular/router';
-import { firstValueFrom, map } from 'rxjs';
+import { firstValueFrom, map, switchMap } from 'rxjs';
 import { ProjectService } from '../../../../core/services/project.service';
 import { Project } from '../../models/project.model';
 import { SpinnerComponent } from '../../../../shared/ui-components/spinner/spinner';
-import { toSignal } from '@angular/core/rxjs-interop';
+import { takeUntilDestroyed, toSignal } from '@angular/core/rxjs-interop';
+import { ChangeEventService } from '../../../../core/services/change-event.service';
 
 @Component({
   selector: 'app-project-details',
@@ -18,6 +19,7 @@ export class ProjectDetailsComponent {
   private route = inject(ActivatedRoute);
   private router = inject(Router);
   private projectService = inject(ProjectService);
+  private changeEventService = inject(ChangeEventService);
 
   projectId = toSignal(
     this.route.paramMap.pipe(map(pm => Number(pm.get('id')))),
@@ -28,6 +30,12 @@ export class ProjectDetailsComponent {
     loader: () => firstValueFrom(this.projectService.getProjectById(this.projectId())),
     });
 
+  // Reload on pushed changes instead of polling
+  private changes = this.route.paramMap.pipe(
+    switchMap(pm => this.changeEventService.changes(Number(pm.get('id')))),
+    takeUntilDestroyed()
+  ).subscribe(() => this.projectResource.reload());
+
   editProject(): void {
     this.router.navigate(['/projects', this.projectId(), 'edit']);
     